@@ -75,6 +75,36 @@ tasks {
         minHeapSize = "512m"
         maxHeapSize = "1024m"
     }
+    test {
+        useJUnitPlatform {
+            excludeTags("load")
+        }
+    }
+    val generateRegistryBinaries by registering(JavaExec::class) {
+        description = "Generates the binary registries from the JSON registries of the data artifact."
+        val outputDir = layout.buildDirectory.dir("generated/registry-binaries")
+        // Only the compiled classes, the main resources depend on this task
+        classpath = files(sourceSets.main.get().output.classesDirs, configurations.runtimeClasspath)
+        mainClass = "net.minestom.server.registry.RegistryBinary"
+        argumentProviders.add(CommandLineArgumentProvider { listOf(outputDir.get().asFile.absolutePath) })
+        outputs.dir(outputDir)
+    }
+    sourceSets.main {
+        resources.srcDir(generateRegistryBinaries)
+    }
+    register<Test>("loadTest") {
+        description = "Runs the load tests, connecting simulated clients to a local server."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform {
+            includeTags("load")
+        }
+        val reportFile = layout.buildDirectory.file("reports/load-test/summary.txt")
+        systemProperty("minestom.load-test.report", reportFile.get().asFile.absolutePath)
+        outputs.file(reportFile)
+        shouldRunAfter(test)
+    }
     jacocoTestReport {
         reports {
             xml.required = true
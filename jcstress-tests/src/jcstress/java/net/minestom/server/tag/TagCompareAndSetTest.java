@@ -0,0 +1,31 @@
+package net.minestom.server.tag;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.ZZJ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+
+@JCStressTest
+@Outcome(id = "true, false, 1", expect = ACCEPTABLE)
+@Outcome(id = "false, true, 2", expect = ACCEPTABLE)
+@State
+public class TagCompareAndSetTest {
+    private static final Tag<Long> TAG = Tag.Long("key");
+
+    private final TagHandler handler = TagHandler.newHandler();
+
+    @Actor
+    public void actor1(ZZJ_Result r) {
+        r.r1 = handler.compareAndSetLong(TAG, 0, 1);
+    }
+
+    @Actor
+    public void actor2(ZZJ_Result r) {
+        r.r2 = handler.compareAndSetLong(TAG, 0, 2);
+    }
+
+    @Arbiter
+    public void arbiter(ZZJ_Result r) {
+        r.r3 = handler.getLong(TAG);
+    }
+}
@@ -1,9 +1,12 @@
 package net.minestom.server.command;
 
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.suggestion.SuggestionEntry;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -18,6 +21,10 @@ import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 @Measurement(time = 6)
 public class CommandBenchmark {
     Function<String, Object> parser;
+    Function<String, Object> largeParser;
+    CommandManager largeManager;
+    CommandSender sender;
+    int typingIndex;
 
     @Setup
     public void setup() {
@@ -52,6 +59,22 @@ public class CommandBenchmark {
         ));
         final CommandParser commandParser = CommandParser.parser();
         this.parser = input -> commandParser.parse(null, graph, input);
+
+        // Large server, every command has an alias and a few syntaxes
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            commands.add(new Command("command" + i, "alias" + i) {{
+                addSyntax((sender, context) -> {}, Literal("set"), Integer("value"));
+                addSyntax((sender, context) -> {}, Literal("get"));
+                addSyntax((sender, context) -> {}, Literal("give"), Word("target")
+                        .setSuggestionCallback((sender, context, suggestion) -> suggestion.addEntry(new SuggestionEntry("target"))));
+            }});
+        }
+        final Graph largeGraph = Graph.merge(commands);
+        this.largeParser = input -> commandParser.parse(null, largeGraph, input);
+        this.largeManager = new CommandManager();
+        commands.forEach(largeManager::register);
+        this.sender = new ServerSender();
     }
 
     @Benchmark
@@ -97,4 +120,36 @@ public class CommandBenchmark {
         bh.consume(parser.apply("parse double a1234567890"));
         bh.consume(parser.apply("parse long a1234567890"));
     }
+
+    @Benchmark
+    public void largeGraphFirstCommand(Blackhole bh) {
+        bh.consume(largeParser.apply("command0 set 10"));
+    }
+
+    @Benchmark
+    public void largeGraphLastCommand(Blackhole bh) {
+        bh.consume(largeParser.apply("command999 set 10"));
+    }
+
+    @Benchmark
+    public void largeGraphAlias(Blackhole bh) {
+        bh.consume(largeParser.apply("alias500 get"));
+    }
+
+    @Benchmark
+    public void largeGraphUnknownCommand(Blackhole bh) {
+        bh.consume(largeParser.apply("unknown set 10"));
+    }
+
+    @Benchmark
+    public void tabCompleteRepeated(Blackhole bh) {
+        // The client sends the same input again while the cursor moves
+        bh.consume(largeManager.parseCompletion(sender, "command500 give t").suggestion(sender));
+    }
+
+    @Benchmark
+    public void tabCompleteTyping(Blackhole bh) {
+        final String input = "command" + (typingIndex++ % 1000) + " give t";
+        bh.consume(largeManager.parseCompletion(sender, input).suggestion(sender));
+    }
 }
@@ -2,6 +2,8 @@ package net.minestom.server.event;
 
 import org.openjdk.jmh.annotations.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -11,13 +13,27 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
 public class MultiNodeBenchmark {
+    private static final EventFilter<TestEvent, Owner> FILTER = EventFilter.from(TestEvent.class, Owner.class, TestEvent::owner);
 
     @Param({"0", "1", "3", "10"})
     public int children;
 
+    @Param({"1", "5"})
+    public int depth;
+
+    @Param({"0", "1000"})
+    public int mappedNodes;
+
     private EventNode<Event> node;
+    private final List<Owner> owners = new ArrayList<>();
+    // Mapped nodes are weakly referenced
+    private final List<EventNode<TestEvent>> mapped = new ArrayList<>();
+    private int index;
+
+    static final class Owner {
+    }
 
-    record TestEvent() implements Event {
+    record TestEvent(Owner owner) implements Event {
     }
 
     record TestEvent2() implements Event {
@@ -28,7 +44,14 @@ public class MultiNodeBenchmark {
         node = EventNode.all("node");
         for (int i = 0; i < children; i++) {
             var child = EventNode.all("child-" + i);
-            child.addListener(TestEvent.class, e -> {
+            // Filtered parents, similar to a per-game node tree
+            EventNode<? super TestEvent> holder = child;
+            for (int j = 1; j < depth; j++) {
+                EventNode<TestEvent> nested = EventNode.event("child-" + i + "-" + j, FILTER, event -> true);
+                holder.addChild(nested);
+                holder = nested;
+            }
+            holder.addListener(TestEvent.class, e -> {
                 // Empty
             });
 
@@ -40,10 +63,18 @@ public class MultiNodeBenchmark {
                 // Empty
             }).call(new TestEvent2());
         }
+        for (int i = 0; i < mappedNodes; i++) {
+            Owner owner = new Owner();
+            owners.add(owner);
+            mapped.add(node.map(owner, FILTER).addListener(TestEvent.class, e -> {
+                // Empty
+            }));
+        }
     }
 
     @Benchmark
     public void call() {
-        node.call(new TestEvent());
+        final List<Owner> owners = this.owners;
+        node.call(new TestEvent(owners.isEmpty() ? null : owners.get(index++ % owners.size())));
     }
 }
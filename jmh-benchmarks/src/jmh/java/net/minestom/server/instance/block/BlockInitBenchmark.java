@@ -0,0 +1,57 @@
+package net.minestom.server.instance.block;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the class initialization of the block registry, and the heap retained by it.
+ * <p>
+ * Each measurement runs in a fresh JVM since the registry is only loaded once.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockInitBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long retainedKilobytes;
+    }
+
+    /**
+     * Loads the registry without touching the block states.
+     */
+    @Benchmark
+    public void init(Heap heap, Blackhole bh) {
+        final long before = usedHeap();
+        bh.consume(Block.values());
+        heap.retainedKilobytes = (usedHeap() - before) / 1024;
+    }
+
+    /**
+     * Loads the registry and the registry entry of every block state.
+     */
+    @Benchmark
+    public void initAllStates(Heap heap, Blackhole bh) {
+        final long before = usedHeap();
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) {
+                bh.consume(state.registry());
+            }
+        }
+        heap.retainedKilobytes = (usedHeap() - before) / 1024;
+    }
+
+    private static long usedHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
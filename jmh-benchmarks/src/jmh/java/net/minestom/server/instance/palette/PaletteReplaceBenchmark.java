@@ -3,6 +3,7 @@ package net.minestom.server.instance.palette;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -41,4 +42,44 @@ public class PaletteReplaceBenchmark {
             }
         }
     }
+
+    /**
+     * Swaps the block types without merging any of them.
+     */
+    @Benchmark
+    public void rotateAll() {
+        palette.replaceAll((x, y, z, value) -> value == 0 ? 0 : value % 46 + 1);
+    }
+
+    @Benchmark
+    public void rotateValues() {
+        palette.replaceValues(value -> value == 0 ? 0 : value % 46 + 1);
+    }
+
+    /**
+     * Replaces a single block type by another, e.g. a world edit replace command.
+     */
+    @Benchmark
+    public void replaceOneAll() {
+        palette.replaceAll((x, y, z, value) -> value == 20 ? 21 : value);
+    }
+
+    @Benchmark
+    public void replaceOneValues() {
+        palette.replaceValues(value -> value == 20 ? 21 : value);
+    }
+
+    @Benchmark
+    public int countLoop() {
+        AtomicInteger count = new AtomicInteger();
+        palette.getAll((x, y, z, value) -> {
+            if (value == 20) count.setPlain(count.getPlain() + 1);
+        });
+        return count.getPlain();
+    }
+
+    @Benchmark
+    public int countValue() {
+        return palette.count(20);
+    }
 }
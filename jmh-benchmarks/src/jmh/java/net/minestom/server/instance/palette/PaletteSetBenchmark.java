@@ -17,10 +17,13 @@ public class PaletteSetBenchmark {
     public int dimension;
 
     private Palette palette;
+    private Palette source;
 
     @Setup
     public void setup() {
         palette = Palette.newPalette(dimension, 15, 4);
+        source = Palette.newPalette(dimension, 15, 4);
+        source.setAll((x, y, z) -> (x + y + z) % 8 + 1);
     }
 
     @Benchmark
@@ -67,4 +70,40 @@ public class PaletteSetBenchmark {
     public void fill() {
         palette.fill(5);
     }
+
+    @Benchmark
+    public void boxWrite() {
+        final int max = palette.dimension() - 1;
+        for (int x = 1; x < max; x++) {
+            for (int y = 1; y < max; y++) {
+                for (int z = 1; z < max; z++) {
+                    palette.set(x, y, z, 5);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void boxFill() {
+        final int max = palette.dimension() - 1;
+        palette.fill(1, 1, 1, max, max, max, 5);
+    }
+
+    @Benchmark
+    public void regionCopyLoop() {
+        final int max = palette.dimension() - 1;
+        for (int x = 1; x < max; x++) {
+            for (int y = 1; y < max; y++) {
+                for (int z = 1; z < max; z++) {
+                    palette.set(x, y, z, source.get(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void regionCopy() {
+        final int max = palette.dimension() - 1;
+        palette.copyFrom(source, 1, 1, 1, max, max, max);
+    }
 }
@@ -0,0 +1,79 @@
+package net.minestom.server.item;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.item.component.EnchantmentList;
+import net.minestom.server.item.enchant.Enchantment;
+import net.minestom.server.network.NetworkBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ItemStackEncodeBenchmark {
+
+    @Param({"simple", "enchanted", "lore"})
+    public String item;
+
+    private ItemStack itemStack;
+    private NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.itemStack = switch (item) {
+            case "simple" -> ItemStack.of(Material.STONE, 32);
+            case "enchanted" -> ItemStack.builder(Material.DIAMOND_SWORD)
+                    .set(ItemComponent.CUSTOM_NAME, Component.text("Excalibur", NamedTextColor.GOLD))
+                    .set(ItemComponent.ENCHANTMENTS, new EnchantmentList(Map.of(
+                            Enchantment.SHARPNESS, 5, Enchantment.UNBREAKING, 3, Enchantment.MENDING, 1,
+                            Enchantment.LOOTING, 3, Enchantment.FIRE_ASPECT, 2, Enchantment.SWEEPING_EDGE, 3,
+                            Enchantment.KNOCKBACK, 2)))
+                    .build();
+            case "lore" -> {
+                List<Component> lore = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    lore.add(Component.text("Line " + i, NamedTextColor.GRAY)
+                            .append(Component.text(" with some detail", NamedTextColor.DARK_PURPLE)));
+                }
+                yield ItemStack.builder(Material.PAPER)
+                        .set(ItemComponent.CUSTOM_NAME, Component.text("Written note"))
+                        .set(ItemComponent.LORE, lore)
+                        .build();
+            }
+            default -> throw new IllegalArgumentException(item);
+        };
+        this.buffer = new NetworkBuffer(64 * 1024);
+    }
+
+    @Benchmark
+    public void networkWrite() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.write(ItemStack.NETWORK_TYPE, itemStack);
+    }
+
+    @Benchmark
+    public void networkWriteUncached() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.write(NetworkBuffer.VAR_INT, itemStack.amount());
+        buffer.write(NetworkBuffer.VAR_INT, itemStack.material().id());
+        buffer.write(ItemComponent.PATCH_NETWORK_TYPE, ((ItemStackImpl) itemStack).components());
+    }
+
+    @Benchmark
+    public void itemNbt(Blackhole blackhole) {
+        blackhole.consume(itemStack.toItemNBT());
+    }
+}
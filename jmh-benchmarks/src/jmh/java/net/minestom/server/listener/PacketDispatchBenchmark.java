@@ -0,0 +1,54 @@
+package net.minestom.server.listener;
+
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.common.ClientPingRequestPacket;
+import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PacketDispatchBenchmark {
+    PacketListenerManager manager;
+    PlayerConnection connection;
+    ClientPacket[] packets;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.manager = new PacketListenerManager();
+        manager.setListener(ConnectionState.STATUS, StatusRequestPacket.class, (packet, c) -> blackhole.consume(packet));
+        manager.setListener(ConnectionState.STATUS, ClientPingRequestPacket.class, (packet, c) -> blackhole.consume(packet));
+        this.connection = new PlayerConnection() {
+            @Override
+            public void sendPacket(@NotNull SendablePacket packet) {
+            }
+
+            @Override
+            public @NotNull SocketAddress getRemoteAddress() {
+                return new InetSocketAddress(0);
+            }
+        };
+        connection.setConnectionState(ConnectionState.STATUS);
+        this.packets = new ClientPacket[]{new StatusRequestPacket(), new ClientPingRequestPacket(1)};
+    }
+
+    @Benchmark
+    public void dispatch() {
+        for (ClientPacket packet : packets) {
+            manager.processClientPacket(packet, connection);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package net.minestom.server.registry;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the loading of the JSON registries with their precompiled binary version,
+ * the binary resources are generated by the {@code generateRegistryBinaries} task of the main project.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RegistryLoadBenchmark {
+
+    @Param({"BLOCKS", "ITEMS", "ENTITIES"})
+    public Registry.Resource resource;
+
+    @Benchmark
+    public void json(Blackhole bh) {
+        bh.consume(Registry.loadJson(resource));
+    }
+
+    @Benchmark
+    public void binary(Blackhole bh) {
+        bh.consume(Registry.loadBinary(resource));
+    }
+
+    /**
+     * Cold start, the first load of the JVM.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(5)
+    public void firstLoad(Blackhole bh) {
+        bh.consume(Registry.load(resource));
+    }
+}
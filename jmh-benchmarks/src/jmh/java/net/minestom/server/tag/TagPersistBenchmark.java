@@ -0,0 +1,68 @@
+package net.minestom.server.tag;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.NetworkBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TagPersistBenchmark {
+    static final Tag<Integer> COINS = Tag.Integer("coins");
+    static final Tag<Vec> HOME = Tag.Structure("home", Vec.class);
+
+    TagHandler tagHandler;
+    NetworkBuffer buffer;
+    NetworkBuffer binary;
+    NetworkBuffer nbt;
+
+    @Setup
+    public void setup() {
+        this.tagHandler = TagHandler.newHandler();
+        tagHandler.setTag(COINS, 500);
+        tagHandler.setTag(Tag.String("name"), "player");
+        tagHandler.setTag(Tag.Long("last-login").path("stats"), System.currentTimeMillis());
+        tagHandler.setTag(Tag.Double("distance").path("stats"), 1234.5);
+        tagHandler.setTag(Tag.String("friends").list(), List.of("first", "second", "third"));
+        tagHandler.setTag(HOME, new Vec(10, 64, -20));
+        this.buffer = new NetworkBuffer(1024);
+        this.binary = new NetworkBuffer(1024);
+        tagHandler.writeBinary(binary);
+        this.nbt = new NetworkBuffer(1024);
+        nbt.write(NetworkBuffer.NBT, tagHandler.asCompound());
+    }
+
+    @Benchmark
+    public void writeNbt() {
+        // Invalidate the cached compound, as after a modification
+        tagHandler.setTag(COINS, 500);
+        buffer.clear();
+        buffer.write(NetworkBuffer.NBT, tagHandler.asCompound());
+    }
+
+    @Benchmark
+    public void writeBinary() {
+        tagHandler.setTag(COINS, 500);
+        buffer.clear();
+        tagHandler.writeBinary(buffer);
+    }
+
+    @Benchmark
+    public TagHandler readNbt() {
+        nbt.readIndex(0);
+        return TagHandler.fromCompound((CompoundBinaryTag) nbt.read(NetworkBuffer.NBT));
+    }
+
+    @Benchmark
+    public TagHandler readBinary() {
+        binary.readIndex(0);
+        return TagHandler.fromBinary(binary);
+    }
+}
@@ -17,6 +17,7 @@ import java.util.concurrent.TimeUnit;
 public class TagReadBenchmark {
     static final Tag<String> TAG = Tag.String("key");
     static final String VALUE = "value";
+    static final Tag<Integer> INT_TAG = Tag.Integer("int");
 
     @Param({"false", "true"})
     public boolean present;
@@ -32,6 +33,7 @@ public class TagReadBenchmark {
         // Tag benchmark
         this.tagHandler = TagHandler.newHandler();
         if (present) tagHandler.setTag(TAG, VALUE);
+        if (present) tagHandler.setInt(INT_TAG, 5);
         secondTag = Tag.String("key");
         // Concurrent map benchmark
         map = new HashMap<>();
@@ -56,6 +58,17 @@ public class TagReadBenchmark {
         blackhole.consume(tagHandler.getTag(Tag.String("key")));
     }
 
+    @Benchmark
+    public void readBoxedInt(Blackhole blackhole) {
+        final Integer value = tagHandler.getTag(INT_TAG);
+        blackhole.consume(value != null ? value : 0);
+    }
+
+    @Benchmark
+    public void readInt(Blackhole blackhole) {
+        blackhole.consume(tagHandler.getInt(INT_TAG));
+    }
+
     @Benchmark
     public void readConcurrentMap(Blackhole blackhole) {
         blackhole.consume(concurrentMap.get("key"));
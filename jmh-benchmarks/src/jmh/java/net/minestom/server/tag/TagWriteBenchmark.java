@@ -16,6 +16,7 @@ import java.util.concurrent.TimeUnit;
 public class TagWriteBenchmark {
     static final Tag<String> TAG = Tag.String("key");
     static final String VALUE = "value";
+    static final Tag<Integer> INT_TAG = Tag.Integer("int").defaultValue(0);
 
     TagHandler tagHandler;
     Tag<String> secondTag;
@@ -28,6 +29,7 @@ public class TagWriteBenchmark {
         // Tag benchmark
         this.tagHandler = TagHandler.newHandler();
         tagHandler.setTag(TAG, VALUE);
+        tagHandler.setInt(INT_TAG, 0);
         secondTag = Tag.String("key");
         // Concurrent map benchmark
         map = new HashMap<>();
@@ -52,6 +54,26 @@ public class TagWriteBenchmark {
         tagHandler.setTag(Tag.String("key"), VALUE);
     }
 
+    @Benchmark
+    public void writeBoxedInt() {
+        tagHandler.setTag(INT_TAG, 5000);
+    }
+
+    @Benchmark
+    public void writeInt() {
+        tagHandler.setInt(INT_TAG, 5000);
+    }
+
+    @Benchmark
+    public int incrementUpdate() {
+        return tagHandler.updateAndGetTag(INT_TAG, value -> value + 1);
+    }
+
+    @Benchmark
+    public int incrementAdd() {
+        return tagHandler.addAndGetInt(INT_TAG, 1);
+    }
+
     @Benchmark
     public void writeConcurrentMap() {
         concurrentMap.put("key", VALUE);
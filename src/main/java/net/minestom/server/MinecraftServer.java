@@ -21,6 +21,8 @@ import net.minestom.server.item.enchant.*;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatType;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.monitoring.TickProfiler;
+import net.minestom.server.monitoring.metrics.MetricsRegistry;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.packet.server.common.PluginMessagePacket;
@@ -59,6 +61,7 @@ public final class MinecraftServer implements MinecraftConstants {
 
     // Threads
     public static final String THREAD_NAME_BENCHMARK = "Ms-Benchmark";
+    public static final String THREAD_NAME_METRICS = "Ms-Metrics";
 
     public static final String THREAD_NAME_TICK_SCHEDULER = "Ms-TickScheduler";
     public static final String THREAD_NAME_TICK = "Ms-Tick";
@@ -179,6 +182,24 @@ public final class MinecraftServer implements MinecraftConstants {
         return serverProcess.benchmark();
     }
 
+    /**
+     * Gets the profiler of the tick phases.
+     *
+     * @return the tick profiler
+     */
+    public static @NotNull TickProfiler getTickProfiler() {
+        return serverProcess.tickProfiler();
+    }
+
+    /**
+     * Gets the registry of the exported metrics.
+     *
+     * @return the metrics registry
+     */
+    public static @NotNull MetricsRegistry getMetricsRegistry() {
+        return serverProcess.metricsRegistry();
+    }
+
     public static @NotNull ExceptionManager getExceptionManager() {
         return serverProcess.exception();
     }
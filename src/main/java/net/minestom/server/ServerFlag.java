@@ -20,6 +20,7 @@ public final class ServerFlag {
     public static final int ENTITY_SYNCHRONIZATION_TICKS = intProperty("minestom.entity-synchronization-ticks", 20);
     public static final int WORKER_COUNT = intProperty("minestom.workers", Runtime.getRuntime().availableProcessors());
     public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher-threads", 1);
+    public static final int GENERATION_THREADS = intProperty("minestom.generation-threads", Runtime.getRuntime().availableProcessors());
     public static final int MAX_PACKET_SIZE = intProperty("minestom.max-packet-size", 2_097_151); // 3 bytes var-int
     public static final int SOCKET_SEND_BUFFER_SIZE = intProperty("minestom.send-buffer-size", 262_143);
     public static final int SOCKET_RECEIVE_BUFFER_SIZE = intProperty("minestom.receive-buffer-size", 32_767);
@@ -29,13 +30,24 @@ public final class ServerFlag {
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000);
     public static final int EXPLOSION_SEND_DISTANCE = intProperty("minestom.explosion-send-distance", 100);
     public static final int SERVER_LINK_AMOUNT = intProperty("minestom.server-link-amount", 100);
+    public static final int SCHEDULER_VIRTUAL_THREAD_CONCURRENCY = intProperty("minestom.scheduler.virtual-thread-concurrency", 256);
 
     // Network rate limiting
     public static final int PLAYER_PACKET_PER_TICK = intProperty("minestom.packet-per-tick", 50);
     public static final int PLAYER_PACKET_QUEUE_SIZE = intProperty("minestom.packet-queue-size", 1000);
+    public static final boolean PLAYER_MOVEMENT_COALESCING = booleanProperty("minestom.movement-coalescing", false);
+    public static final boolean PACKET_STATISTICS = booleanProperty("minestom.packet-statistics", false);
     public static final long KEEP_ALIVE_DELAY = longProperty("minestom.keep-alive-delay", 10_000);
     public static final long KEEP_ALIVE_KICK = longProperty("minestom.keep-alive-kick", 15_000);
 
+    // Monitoring
+    public static final boolean TICK_PROFILER = booleanProperty("minestom.tick-profiler", false);
+    public static final int TICK_PROFILER_HISTORY = intProperty("minestom.tick-profiler.history", 200);
+    public static final boolean JFR_EVENTS = booleanProperty("minestom.jfr-events", true);
+    public static final boolean EVENT_STATISTICS = booleanProperty("minestom.event-statistics", false);
+    public static final int METRICS_PORT = intProperty("minestom.metrics.port", -1);
+    public static final @NotNull String METRICS_HOST = stringProperty("minestom.metrics.host", "127.0.0.1");
+
     // Chunk update
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
     public static final float MAX_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.max-per-tick", 64.0f);
@@ -45,11 +57,15 @@ public final class ServerFlag {
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final boolean ITEM_ENCODING_CACHE = booleanProperty("minestom.item-encoding-cache", true);
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
     public static final boolean SERIALIZE_EMPTY_COMPOUND = booleanProperty("minestom.serialization.serialize-empty-nbt-compound", false);
 
+    // Chunks
+    public static final boolean PALETTE_INTERNING = booleanProperty("minestom.palette-interning", false);
+
     // Online Mode
     public static final @NotNull String AUTH_URL = stringProperty("minestom.auth.url", "https://sessionserver.mojang.com/session/minecraft/hasJoined");
 
@@ -13,6 +13,8 @@ import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.monitoring.TickProfiler;
+import net.minestom.server.monitoring.metrics.MetricsRegistry;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -81,6 +83,16 @@ public interface ServerProcess extends DeprecatedServerProcessDynamicRegistry, S
 
     @NotNull BenchmarkManager benchmark();
 
+    /**
+     * Records the duration of the tick phases, if enabled.
+     */
+    @NotNull TickProfiler tickProfiler();
+
+    /**
+     * Metrics exported in the Prometheus text format.
+     */
+    @NotNull MetricsRegistry metricsRegistry();
+
     /**
      * Handles registered advancements.
      */
@@ -2,6 +2,7 @@ package net.minestom.server;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +34,11 @@ import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatType;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.monitoring.TickPhase;
+import net.minestom.server.monitoring.TickProfiler;
+import net.minestom.server.monitoring.metrics.MetricsRegistry;
+import net.minestom.server.monitoring.metrics.MetricsServer;
+import net.minestom.server.monitoring.metrics.ServerMetrics;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -75,6 +81,10 @@ final class ServerProcessImpl implements ServerProcess {
     private final GlobalEventHandler eventHandler;
     private final SchedulerManager scheduler;
     private final BenchmarkManager benchmark;
+    private final TickProfiler tickProfiler;
+    private final MetricsRegistry metricsRegistry;
+    private final ServerMetrics serverMetrics;
+    private MetricsServer metricsServer;
     private final AdvancementManager advancement;
     private final BossBarManager bossBar;
     private final TagManager tag;
@@ -107,11 +117,14 @@ final class ServerProcessImpl implements ServerProcess {
         this.eventHandler = new GlobalEventHandler();
         this.scheduler = new SchedulerManager();
         this.benchmark = new BenchmarkManager();
+        this.tickProfiler = new TickProfiler();
         this.advancement = new AdvancementManager();
         this.bossBar = new BossBarManager();
         this.tag = new TagManager();
 
         this.server = new Server(packetProcessor);
+        this.metricsRegistry = new MetricsRegistry();
+        this.serverMetrics = new ServerMetrics(this, metricsRegistry);
 
         this.dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
         this.ticker = new TickerImpl();
@@ -233,6 +246,16 @@ final class ServerProcessImpl implements ServerProcess {
         return benchmark;
     }
 
+    @Override
+    public @NotNull TickProfiler tickProfiler() {
+        return tickProfiler;
+    }
+
+    @Override
+    public @NotNull MetricsRegistry metricsRegistry() {
+        return metricsRegistry;
+    }
+
     @Override
     public @NotNull AdvancementManager advancement() {
         return advancement;
@@ -327,6 +350,15 @@ final class ServerProcessImpl implements ServerProcess {
         if (bstatsEnabled) {
             this.metrics.start();
         }
+        if (ServerFlag.METRICS_PORT >= 0) {
+            try {
+                this.metricsServer = MetricsServer.start(metricsRegistry,
+                        new InetSocketAddress(ServerFlag.METRICS_HOST, ServerFlag.METRICS_PORT));
+                LOGGER.info("Metrics exported on http://{}:{}/metrics", ServerFlag.METRICS_HOST, metricsServer.address().getPort());
+            } catch (IOException e) {
+                exception.handleException(e);
+            }
+        }
 
         // Stop the server on SIGINT
         if (ServerFlag.SHUTDOWN_ON_SIGNAL) Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
@@ -347,6 +379,7 @@ final class ServerProcessImpl implements ServerProcess {
         MinestomTerminal.stop();
         dispatcher.shutdown();
         this.metrics.shutdown();
+        if (metricsServer != null) metricsServer.close();
         LOGGER.info(MinecraftServer.getBrandName() + " server stopped successfully.");
     }
 
@@ -372,47 +405,63 @@ final class ServerProcessImpl implements ServerProcess {
         @Override
         public void tick(long nanoTime) {
             final long msTime = System.currentTimeMillis();
+            final TickProfiler profiler = tickProfiler;
+            long phaseStart = profiler.time();
 
             scheduler().processTick();
+            phaseStart = profiler.phase(TickPhase.SCHEDULER, phaseStart);
 
             // Connection tick (let waiting clients in, send keep alives, handle configuration players packets)
             connection().tick(msTime);
+            phaseStart = profiler.phase(TickPhase.CONNECTION, phaseStart);
 
             // Server tick (chunks/entities)
-            serverTick(msTime);
+            phaseStart = serverTick(msTime, phaseStart);
 
             scheduler().processTickEnd();
+            phaseStart = profiler.phase(TickPhase.SCHEDULER_END, phaseStart);
 
             // Flush all waiting packets
             PacketUtils.flush();
+            phaseStart = profiler.phase(TickPhase.PACKET_FLUSH, phaseStart);
 
             // Server connection tick
             server().tick();
+            profiler.phase(TickPhase.SOCKET_FLUSH, phaseStart);
 
             // Monitoring
             {
+                profiler.endTick(nanoTime, dispatcher().threads());
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
-                final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
+                final long tickNanos = System.nanoTime() - nanoTime;
+                serverMetrics.recordTick(tickNanos);
+                final double tickTimeMs = tickNanos / 1e6D;
                 final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
             }
         }
 
-        private void serverTick(long tickStart) {
+        private long serverTick(long tickStart, long phaseStart) {
+            final TickProfiler profiler = tickProfiler;
             // Tick all instances
             for (Instance instance : instance().getInstances()) {
+                final long instanceStart = profiler.time();
                 try {
                     instance.tick(tickStart);
                 } catch (Exception e) {
                     exception().handleException(e);
                 }
+                profiler.recordInstance(instance, instanceStart);
             }
+            phaseStart = profiler.phase(TickPhase.INSTANCE, phaseStart);
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
+            phaseStart = profiler.phase(TickPhase.DISPATCHER, phaseStart);
 
             // Clear removed entities & update threads
             final long tickTime = System.currentTimeMillis() - tickStart;
             dispatcher().refreshThreads(tickTime);
+            return profiler.phase(TickPhase.THREAD_REFRESH, phaseStart);
         }
     }
 }
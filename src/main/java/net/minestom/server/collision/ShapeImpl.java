@@ -12,11 +12,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public record ShapeImpl(CollisionData collisionData, LightData lightData) implements Shape {
-    private static final Pattern PATTERN = Pattern.compile("\\d.\\d+", Pattern.MULTILINE);
 
     record CollisionData(List<BoundingBox> collisionBoundingBoxes,
                          Point relativeStart, Point relativeEnd,
@@ -144,8 +141,18 @@ public record ShapeImpl(CollisionData collisionData, LightData lightData) implem
     }
 
     static final Map<ShapeImpl, ShapeImpl> SHAPES = new ConcurrentHashMap<>();
+    // Most block states share their shape strings, only parse each combination once
+    private static final Map<RegistryShape, ShapeImpl> REGISTRY_SHAPES = new ConcurrentHashMap<>();
+
+    private record RegistryShape(String collision, String occlusion, boolean occludes, int lightEmission) {
+    }
 
     static ShapeImpl parseBlockFromRegistry(String collision, String occlusion, boolean occludes, int lightEmission) {
+        return REGISTRY_SHAPES.computeIfAbsent(new RegistryShape(collision, occlusion, occludes, lightEmission),
+                key -> parseBlock(key.collision, key.occlusion, key.occludes, key.lightEmission));
+    }
+
+    private static ShapeImpl parseBlock(String collision, String occlusion, boolean occludes, int lightEmission) {
         BoundingBox[] collisionBoundingBoxes = parseRegistryBoundingBoxString(collision);
         BoundingBox[] occlusionBoundingBoxes = occludes ? parseRegistryBoundingBoxString(occlusion) : new BoundingBox[0];
         final CollisionData collisionData = collisionData(List.of(collisionBoundingBoxes));
@@ -155,11 +162,19 @@ public record ShapeImpl(CollisionData collisionData, LightData lightData) implem
     }
 
     private static BoundingBox[] parseRegistryBoundingBoxString(String str) {
-        final Matcher matcher = PATTERN.matcher(str);
+        // Equivalent to finding every match of "\d.\d+"
         DoubleList vals = new DoubleArrayList();
-        while (matcher.find()) {
-            double newVal = Double.parseDouble(matcher.group());
-            vals.add(newVal);
+        final int length = str.length();
+        int start = 0;
+        while (start + 2 < length) {
+            if (isDigit(str.charAt(start)) && !isLineTerminator(str.charAt(start + 1)) && isDigit(str.charAt(start + 2))) {
+                int end = start + 3;
+                while (end < length && isDigit(str.charAt(end))) end++;
+                vals.add(Double.parseDouble(str.substring(start, end)));
+                start = end;
+            } else {
+                start++;
+            }
         }
         final int count = vals.size() / 6;
         BoundingBox[] boundingBoxes = new BoundingBox[count];
@@ -183,6 +198,14 @@ public record ShapeImpl(CollisionData collisionData, LightData lightData) implem
         return boundingBoxes;
     }
 
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
     private static CollisionData collisionData(List<BoundingBox> collisionBoundingBoxes) {
         // Find bounds of collision
         Vec relativeStart;
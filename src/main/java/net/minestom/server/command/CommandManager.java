@@ -1,5 +1,7 @@
 package net.minestom.server.command;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandDispatcher;
 import net.minestom.server.command.builder.CommandResult;
@@ -7,12 +9,15 @@ import net.minestom.server.command.builder.ParsedCommand;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -38,6 +43,9 @@ public final class CommandManager {
 
     private CommandCallback unknownCommandCallback;
     private volatile @Nullable Graph cachedGraph;
+    private volatile @Nullable DeclareCommandsCache declareCommandsCache;
+    // Last completion of each sender, the client repeats the same input while typing
+    private final Cache<CommandSender, CompletionResult> completionCache = Caffeine.newBuilder().weakKeys().build();
 
     public CommandManager() {
     }
@@ -174,6 +182,9 @@ public final class CommandManager {
      * Gets the {@link DeclareCommandsPacket} for a specific player.
      * <p>
      * Can be used to update a player auto-completion list.
+     * <p>
+     * A new packet is created at each call and can be modified,
+     * use {@link #getDeclareCommandsPacket(Player)} to send the shared encoded packet.
      *
      * @param player the player to get the commands packet
      * @return the {@link DeclareCommandsPacket} for {@code player}
@@ -182,6 +193,20 @@ public final class CommandManager {
         return GraphConverter.createPacket(getGraph(), player);
     }
 
+    /**
+     * Gets the {@link DeclareCommandsPacket} for a specific player, encoded once
+     * for all the players passing the same command conditions.
+     * <p>
+     * The returned packet is shared, and cannot be modified.
+     *
+     * @param player the player to get the commands packet
+     * @return the packet to send to {@code player}
+     * @see #createDeclareCommandsPacket(Player)
+     */
+    public @NotNull SendablePacket getDeclareCommandsPacket(@NotNull Player player) {
+        return getDeclareCommandsCache().cachedPacket(player);
+    }
+
     public @NotNull Set<@NotNull Command> getCommands() {
         return Collections.unmodifiableSet(commands);
     }
@@ -196,6 +221,36 @@ public final class CommandManager {
         return parser.parse(sender, getGraph(), input);
     }
 
+    /**
+     * Parses the command for tab completion.
+     * <p>
+     * The result is reused when the same sender asks again for an identical input,
+     * the registered commands did not change and the sender still passes the same conditions.
+     * Results containing default values supplied for the sender are never reused.
+     *
+     * @param sender the sender completing the command
+     * @param input  commands string without prefix
+     * @return the parsing result
+     */
+    @ApiStatus.Internal
+    public CommandParser.Result parseCompletion(@NotNull CommandSender sender, @NotNull String input) {
+        final DeclareCommandsCache cache = getDeclareCommandsCache();
+        final Graph graph = cache.graph();
+        final BitSet outcomes = cache.outcomes(sender);
+        final CompletionResult previous = completionCache.getIfPresent(sender);
+        if (previous != null && previous.graph == graph && previous.input.equals(input) &&
+                previous.outcomes.equals(outcomes)) {
+            return previous.result;
+        }
+        final CommandParser.Result result = parser.parse(sender, graph, input);
+        if (result instanceof CommandParserImpl.InternalKnownCommand known && known.senderDependent()) {
+            this.completionCache.invalidate(sender);
+        } else {
+            this.completionCache.put(sender, new CompletionResult(graph, input, outcomes, result));
+        }
+        return result;
+    }
+
     private @NotNull Graph getGraph() {
         Graph graph = cachedGraph;
         if (graph == null) {
@@ -210,8 +265,26 @@ public final class CommandManager {
         return graph;
     }
 
+    private @NotNull DeclareCommandsCache getDeclareCommandsCache() {
+        DeclareCommandsCache cache = declareCommandsCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = declareCommandsCache;
+                if (cache == null) {
+                    cache = declareCommandsCache = new DeclareCommandsCache(getGraph());
+                }
+            }
+        }
+
+        return cache;
+    }
+
     private void invalidateGraphCache() {
         cachedGraph = null;
+        declareCommandsCache = null;
+    }
+
+    private record CompletionResult(Graph graph, String input, BitSet outcomes, CommandParser.Result result) {
     }
 
     private static CommandResult resultConverter(ExecutableCommand executable,
@@ -1,8 +1,16 @@
 package net.minestom.server.command;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minestom.server.command.Graph.Node;
 import net.minestom.server.command.builder.*;
 import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentLiteral;
+import net.minestom.server.command.builder.arguments.ArgumentWord;
+import net.minestom.server.command.builder.arguments.number.ArgumentDouble;
+import net.minestom.server.command.builder.arguments.number.ArgumentFloat;
+import net.minestom.server.command.builder.arguments.number.ArgumentInteger;
+import net.minestom.server.command.builder.arguments.number.ArgumentLong;
 import net.minestom.server.command.builder.condition.CommandCondition;
 import net.minestom.server.command.builder.exception.ArgumentSyntaxException;
 import net.minestom.server.command.builder.suggestion.Suggestion;
@@ -13,16 +21,15 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 final class CommandParserImpl implements CommandParser {
     private static final Logger LOGGER = LoggerFactory.getLogger(CommandParserImpl.class);
     static final CommandParserImpl PARSER = new CommandParserImpl();
+    // Graph nodes are immutable, their dispatch table is computed once
+    private static final Cache<Node, Dispatch> DISPATCH_CACHE = Caffeine.newBuilder().weakKeys().build();
 
     static final class Chain {
         CommandExecutor defaultExecutor = null;
@@ -30,6 +37,8 @@ final class CommandParserImpl implements CommandParser {
         final ArrayDeque<NodeResult> nodeResults = new ArrayDeque<>();
         final List<CommandCondition> conditions = new ArrayList<>();
         final List<CommandExecutor> globalListeners = new ArrayList<>();
+        // Whether a default value supplied for the sender is part of the chain
+        boolean senderDependent = false;
 
         void append(NodeResult result) {
             this.nodeResults.add(result);
@@ -89,7 +98,9 @@ final class CommandParserImpl implements CommandParser {
         }
 
         Chain fork() {
-            return new Chain(defaultExecutor, suggestionCallback, nodeResults, conditions, globalListeners);
+            Chain fork = new Chain(defaultExecutor, suggestionCallback, nodeResults, conditions, globalListeners);
+            fork.senderDependent = senderDependent;
+            return fork;
         }
     }
 
@@ -151,6 +162,7 @@ final class CommandParserImpl implements CommandParser {
             if (defaultSupplier != null) {
                 Object value = defaultSupplier.apply(sender);
                 ArgumentResult<Object> argumentResult = new ArgumentResult.Success<>(value, "");
+                chain.senderDependent = true;
                 chain.append(new NodeResult(node, chain, argumentResult, argument.getSuggestionCallback()));
                 // Add the default to the chain, and then carry on dealing with this node
             } else {
@@ -168,7 +180,20 @@ final class CommandParserImpl implements CommandParser {
         if (!reader.hasRemaining()) start--; // This is needed otherwise the reader throws an AssertionError
 
         NodeResult error = null;
-        for (Node child : node.next()) {
+        final List<Node> children = node.next();
+        final Dispatch dispatch = reader.hasRemaining() ? DISPATCH_CACHE.get(node, Dispatch::compile) : null;
+        final String word = dispatch != null && dispatch.hasLiterals() ? reader.peekWord() : null;
+        // Root children failing to parse are never reported, only the candidates need to be tried
+        final int[] candidates = word != null && chain.size() == 1 ? dispatch.candidates(word) : null;
+        final int count = candidates != null ? candidates.length : children.size();
+        for (int i = 0; i < count; i++) {
+            final int index = candidates != null ? candidates[i] : i;
+            if (word != null && candidates == null && error != null && error.chain.size() > chain.size() &&
+                    dispatch.rejects(index, word)) {
+                // The literal would fail without replacing the current error
+                continue;
+            }
+            final Node child = children.get(index);
             NodeResult childResult = parseNode(sender, child, chain, reader);
             if (childResult.argumentResult instanceof ArgumentResult.Success<Object>) {
                 // Assume that there is only one successful node for a given chain of arguments
@@ -242,6 +267,11 @@ final class CommandParserImpl implements CommandParser {
 
         @Nullable SuggestionCallback suggestionCallback();
 
+        /**
+         * Whether the result contains default values supplied for the parsing sender.
+         */
+        boolean senderDependent();
+
         @Override
         default @Nullable Suggestion suggestion(CommandSender sender) {
             final SuggestionCallback callback = suggestionCallback();
@@ -257,14 +287,16 @@ final class CommandParserImpl implements CommandParser {
     record InvalidCommand(String input, CommandCondition condition, ArgumentCallback callback,
                           ArgumentResult.SyntaxError<?> error,
                           @NotNull Map<String, ArgumentResult<Object>> arguments, CommandExecutor globalListener,
-                          @Nullable SuggestionCallback suggestionCallback, List<Argument<?>> args)
+                          @Nullable SuggestionCallback suggestionCallback, List<Argument<?>> args,
+                          boolean senderDependent)
             implements InternalKnownCommand, Result.KnownCommand.Invalid {
 
         static InvalidCommand invalid(String input, Chain chain) {
             return new InvalidCommand(input, chain.mergedConditions(),
                     null/*todo command syntax callback*/,
                     new ArgumentResult.SyntaxError<>("Command has trailing data.", null, -1),
-                    chain.collectArguments(), chain.mergedGlobalExecutors(), chain.suggestionCallback, chain.getArgs());
+                    chain.collectArguments(), chain.mergedGlobalExecutors(), chain.suggestionCallback, chain.getArgs(),
+                    chain.senderDependent);
         }
 
         @Override
@@ -275,17 +307,18 @@ final class CommandParserImpl implements CommandParser {
 
     record ValidCommand(String input, CommandCondition condition, CommandExecutor executor,
                         @NotNull Map<String, ArgumentResult<Object>> arguments,
-                        CommandExecutor globalListener, @Nullable SuggestionCallback suggestionCallback, List<Argument<?>> args)
+                        CommandExecutor globalListener, @Nullable SuggestionCallback suggestionCallback, List<Argument<?>> args,
+                        boolean senderDependent)
             implements InternalKnownCommand, Result.KnownCommand.Valid {
 
         static ValidCommand defaultExecutor(String input, Chain chain) {
             return new ValidCommand(input, chain.mergedConditions(), chain.defaultExecutor, chain.collectArguments(),
-                    chain.mergedGlobalExecutors(), chain.suggestionCallback, chain.getArgs());
+                    chain.mergedGlobalExecutors(), chain.suggestionCallback, chain.getArgs(), chain.senderDependent);
         }
 
         static ValidCommand executor(String input, Chain chain, CommandExecutor executor) {
             return new ValidCommand(input, chain.mergedConditions(), executor, chain.collectArguments(), chain.mergedGlobalExecutors(),
-                    chain.suggestionCallback, chain.getArgs());
+                    chain.suggestionCallback, chain.getArgs(), chain.senderDependent);
         }
 
         @Override
@@ -395,6 +428,12 @@ final class CommandParserImpl implements CommandParser {
             return read;
         }
 
+        String peekWord() {
+            final String input = this.input;
+            final int i = input.indexOf(' ', cursor);
+            return i == -1 ? input.substring(cursor) : input.substring(cursor, i);
+        }
+
         String readRemaining() {
             final String input = this.input;
             final String result = input.substring(cursor);
@@ -420,6 +459,7 @@ final class CommandParserImpl implements CommandParser {
             // Single word argument
             if (!argument.allowSpace()) {
                 final String word = reader.readWord();
+                if (rejects(argument, word)) return new ArgumentResult.IncompatibleType<>();
                 return new ArgumentResult.Success<>(argument.parse(sender, word), word);
             }
             // Complete input argument
@@ -446,6 +486,86 @@ final class CommandParserImpl implements CommandParser {
         return new ArgumentResult.IncompatibleType<>();
     }
 
+    /**
+     * Checks if a word cannot be parsed by an argument without calling {@link Argument#parse(CommandSender, String)},
+     * avoiding the exceptions thrown on failure.
+     * <p>
+     * Only applies to the exact built-in types, subclasses may change the parsing.
+     */
+    private static boolean rejects(Argument<?> argument, String word) {
+        if (word.isEmpty()) return false;
+        final Class<?> type = argument.getClass();
+        final char first = word.charAt(0);
+        if (type == ArgumentLiteral.class) {
+            return !word.equals(argument.getId());
+        } else if (type == ArgumentInteger.class || type == ArgumentLong.class) {
+            return !Character.isDigit(first) && first != '-' && first != '+';
+        } else if (type == ArgumentDouble.class || type == ArgumentFloat.class) {
+            // Leading whitespace is trimmed, "NaN" and "Infinity" are valid
+            return !Character.isDigit(first) && first != '-' && first != '+' && first != '.' &&
+                    first != 'N' && first != 'I' && first > ' ';
+        }
+        return false;
+    }
+
+    /**
+     * Literal dispatch table of a node, mapping each accepted word to the children able to parse it.
+     */
+    private record Dispatch(String[][] literals, Map<String, int[]> candidatesByWord, int[] others) {
+        static Dispatch compile(Node node) {
+            final List<Node> children = node.next();
+            final String[][] literals = new String[children.size()][];
+            Map<String, List<Integer>> indices = new HashMap<>();
+            List<Integer> others = new ArrayList<>();
+            for (int i = 0; i < children.size(); i++) {
+                final String[] words = literalWords(children.get(i).argument());
+                literals[i] = words;
+                if (words == null) {
+                    others.add(i);
+                    continue;
+                }
+                for (String word : words) {
+                    List<Integer> wordIndices = indices.computeIfAbsent(word, w -> new ArrayList<>());
+                    if (!wordIndices.contains(i)) wordIndices.add(i);
+                }
+            }
+            // Candidates keep the order of the children, as the first success wins
+            Map<String, int[]> candidatesByWord = new HashMap<>(indices.size());
+            for (Map.Entry<String, List<Integer>> entry : indices.entrySet()) {
+                List<Integer> candidates = new ArrayList<>(others);
+                candidates.addAll(entry.getValue());
+                candidatesByWord.put(entry.getKey(), candidates.stream().mapToInt(Integer::intValue).sorted().toArray());
+            }
+            return new Dispatch(literals, Map.copyOf(candidatesByWord),
+                    others.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        private static String @Nullable [] literalWords(Argument<?> argument) {
+            if (argument.getClass() == ArgumentLiteral.class) return new String[]{argument.getId()};
+            if (argument.getClass() == ArgumentWord.class && argument instanceof ArgumentWord word && word.hasRestrictions()) {
+                return word.getRestrictions().clone();
+            }
+            return null;
+        }
+
+        boolean hasLiterals() {
+            return others.length != literals.length;
+        }
+
+        int[] candidates(String word) {
+            return candidatesByWord.getOrDefault(word, others);
+        }
+
+        boolean rejects(int index, String word) {
+            final String[] words = literals[index];
+            if (words == null) return false;
+            for (String w : words) {
+                if (w.equals(word)) return false;
+            }
+            return true;
+        }
+    }
+
     private sealed interface ArgumentResult<R> {
         record Success<T>(T value, String input)
                 implements ArgumentResult<T> {
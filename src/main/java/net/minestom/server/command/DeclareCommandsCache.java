@@ -0,0 +1,75 @@
+package net.minestom.server.command;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Memoizes the {@link DeclareCommandsPacket} of a graph by the outcome of its executions.
+ * <p>
+ * Two players passing the same conditions see the same filtered graph,
+ * the packet is therefore converted and encoded once per distinct set of outcomes.
+ */
+final class DeclareCommandsCache {
+    private static final int MAXIMUM_SIZE = 512;
+
+    private final Graph graph;
+    // Executions in the order they are tested by the converter
+    private final Graph.Execution[] executions;
+    // Index of the first execution after the subtree of each execution, skipped when the test fails
+    private final int[] skips;
+    private final Cache<BitSet, CachedPacket> entries = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+    DeclareCommandsCache(@NotNull Graph graph) {
+        this.graph = graph;
+        List<Graph.Execution> executions = new ArrayList<>();
+        List<Integer> skips = new ArrayList<>();
+        collect(graph.root(), executions, skips);
+        this.executions = executions.toArray(Graph.Execution[]::new);
+        this.skips = skips.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @NotNull Graph graph() {
+        return graph;
+    }
+
+    @NotNull CachedPacket cachedPacket(@NotNull Player player) {
+        final BitSet outcomes = outcomes(player);
+        return entries.get(outcomes, key -> new CachedPacket(GraphConverter.createPacket(graph, player)));
+    }
+
+    @NotNull BitSet outcomes(@NotNull CommandSender sender) {
+        final Graph.Execution[] executions = this.executions;
+        BitSet outcomes = new BitSet(executions.length);
+        int i = 0;
+        while (i < executions.length) {
+            if (executions[i].test(sender)) {
+                outcomes.set(i++);
+            } else {
+                // Children of a filtered node are never tested
+                i = skips[i];
+            }
+        }
+        return outcomes;
+    }
+
+    private static void collect(Graph.Node node, List<Graph.Execution> executions, List<Integer> skips) {
+        final Graph.Execution execution = node.execution();
+        final int index = executions.size();
+        if (execution != null) {
+            executions.add(execution);
+            skips.add(-1);
+        }
+        for (Graph.Node child : node.next()) {
+            collect(child, executions, skips);
+        }
+        if (execution != null) skips.set(index, executions.size());
+    }
+}
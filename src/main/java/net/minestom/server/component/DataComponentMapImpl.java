@@ -99,6 +99,7 @@ record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implement
 
         @Override
         public @NotNull DataComponentMap build() {
+            if (components.isEmpty()) return EMPTY;
             return new DataComponentMapImpl(new Int2ObjectArrayMap<>(components));
         }
     }
@@ -130,6 +131,7 @@ record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implement
 
         @Override
         public @NotNull DataComponentMap build() {
+            if (components.isEmpty()) return EMPTY;
             return new DataComponentMapImpl(new Int2ObjectArrayMap<>(components));
         }
     }
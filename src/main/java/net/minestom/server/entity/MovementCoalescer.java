@@ -0,0 +1,89 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Collapses consecutive movement packets of a player into a single packet containing the latest state.
+ * <p>
+ * Only position and rotation packets are merged, and only while their on-ground flag stays the same
+ * to preserve ground transitions. Any other packet first flushes the pending movement, so ordering
+ * with e.g. teleport confirmations or interactions is kept.
+ * <p>
+ * Not thread-safe, {@link #flush()} must be called once the queue has been drained.
+ */
+final class MovementCoalescer implements Consumer<ClientPacket> {
+    private final Consumer<ClientPacket> processor;
+
+    private boolean pending;
+    private boolean onGround;
+    private Point position;
+    private boolean rotation;
+    private float yaw, pitch;
+
+    MovementCoalescer(@NotNull Consumer<ClientPacket> processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public void accept(ClientPacket packet) {
+        switch (packet) {
+            case ClientPlayerPositionPacket positionPacket -> {
+                prepare(positionPacket.onGround());
+                this.position = positionPacket.position();
+            }
+            case ClientPlayerRotationPacket rotationPacket -> {
+                prepare(rotationPacket.onGround());
+                this.rotation = true;
+                this.yaw = rotationPacket.yaw();
+                this.pitch = rotationPacket.pitch();
+            }
+            case ClientPlayerPositionAndRotationPacket bothPacket -> {
+                prepare(bothPacket.onGround());
+                final Pos position = bothPacket.position();
+                this.position = position;
+                this.rotation = true;
+                this.yaw = position.yaw();
+                this.pitch = position.pitch();
+            }
+            default -> {
+                flush();
+                processor.accept(packet);
+            }
+        }
+    }
+
+    /**
+     * Processes the pending movement, if any.
+     */
+    void flush() {
+        if (!pending) return;
+        final Point position = this.position;
+        final ClientPacket packet;
+        if (position != null && rotation) {
+            packet = new ClientPlayerPositionAndRotationPacket(new Pos(position, yaw, pitch), onGround);
+        } else if (position != null) {
+            packet = new ClientPlayerPositionPacket(position, onGround);
+        } else {
+            packet = new ClientPlayerRotationPacket(yaw, pitch, onGround);
+        }
+        this.pending = false;
+        this.position = null;
+        this.rotation = false;
+        processor.accept(packet);
+    }
+
+    private void prepare(boolean onGround) {
+        // Ground transitions are kept as separate movements
+        if (pending && this.onGround != onGround) flush();
+        this.pending = true;
+        this.onGround = onGround;
+    }
+}
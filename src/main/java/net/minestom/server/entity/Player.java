@@ -177,6 +177,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private int receivedTeleportId;
 
     private final MpscArrayQueue<ClientPacket> packets = new MpscArrayQueue<>(ServerFlag.PLAYER_PACKET_QUEUE_SIZE);
+    private MovementCoalescer movementCoalescer;
     private final boolean levelFlat;
     private final PlayerSettings settings;
     private float exp;
@@ -570,7 +571,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * again, and any changes will be visible to the player.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().getDeclareCommandsPacket(this));
     }
 
     @Override
@@ -2148,6 +2149,16 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     public void interpretPacketQueue() {
         final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
         // This method is NOT thread-safe
+        if (ServerFlag.PLAYER_MOVEMENT_COALESCING) {
+            // Superseded movements are merged before being processed
+            MovementCoalescer coalescer = this.movementCoalescer;
+            if (coalescer == null) {
+                this.movementCoalescer = coalescer = new MovementCoalescer(packet -> manager.processClientPacket(packet, playerConnection));
+            }
+            this.packets.drain(coalescer::accept, ServerFlag.PLAYER_PACKET_PER_TICK);
+            coalescer.flush();
+            return;
+        }
         this.packets.drain(packet -> manager.processClientPacket(packet, playerConnection), ServerFlag.PLAYER_PACKET_PER_TICK);
     }
 
@@ -4,12 +4,19 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.trait.CancellableEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 public final class EventDispatcher {
 
     public static void call(@NotNull Event event) {
         MinecraftServer.getGlobalEventHandler().call(event);
     }
 
+    public static <E extends Event> @NotNull CompletableFuture<E> callAsync(@NotNull E event) {
+        //noinspection unchecked
+        return getHandle((Class<E>) event.getClass()).callAsync(event);
+    }
+
     public static <E extends Event> ListenerHandle<E> getHandle(@NotNull Class<E> handleType) {
         return MinecraftServer.getGlobalEventHandler().getHandle(handleType);
     }
@@ -17,4 +24,8 @@ public final class EventDispatcher {
     public static void callCancellable(@NotNull CancellableEvent event, @NotNull Runnable successCallback) {
         MinecraftServer.getGlobalEventHandler().callCancellable(event, successCallback);
     }
+
+    public static @NotNull CompletableFuture<Boolean> callCancellableAsync(@NotNull CancellableEvent event) {
+        return MinecraftServer.getGlobalEventHandler().callCancellableAsync(event);
+    }
 }
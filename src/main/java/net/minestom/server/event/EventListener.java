@@ -43,6 +43,14 @@ public interface EventListener<T extends Event> {
     }
 
     class Builder<T extends Event> {
+        // Cached to avoid a slow interface type check on every non-cancellable event
+        private static final ClassValue<Boolean> CANCELLABLE = new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(@NotNull Class<?> type) {
+                return CancellableEvent.class.isAssignableFrom(type);
+            }
+        };
+
         private final Class<T> eventType;
         private final List<Predicate<T>> filters = new ArrayList<>();
         private boolean ignoreCancelled = true;
@@ -129,7 +137,7 @@ public interface EventListener<T extends Event> {
                 @Override
                 public @NotNull Result run(@NotNull T event) {
                     // Event cancellation
-                    if (ignoreCancelled && event instanceof CancellableEvent cancellableEvent && cancellableEvent.isCancelled()) {
+                    if (ignoreCancelled && CANCELLABLE.get(event.getClass()) && ((CancellableEvent) event).isCancelled()) {
                         return Result.INVALID;
                     }
                     // Expiration predicate
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -190,6 +191,18 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
         getHandle((Class<T>) event.getClass()).call(event);
     }
 
+    /**
+     * Calls an event starting from this node, listeners are executed on a virtual thread.
+     *
+     * @param event the event to call
+     * @return a future completed with {@code event} once all listeners have been executed
+     * @see ListenerHandle#callAsync(Event)
+     */
+    default @NotNull CompletableFuture<T> callAsync(@NotNull T event) {
+        //noinspection unchecked
+        return getHandle((Class<T>) event.getClass()).callAsync(event);
+    }
+
     default boolean hasListener(@NotNull Class<? extends T> type) {
         return getHandle(type).hasListener();
     }
@@ -218,6 +231,16 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
         }
     }
 
+    /**
+     * Async version of {@link #callCancellable(Event, Runnable)}.
+     *
+     * @param event The event to execute
+     * @return a future completed with {@code true} if the event has not been cancelled
+     */
+    default @NotNull CompletableFuture<Boolean> callCancellableAsync(@NotNull T event) {
+        return callAsync(event).thenApply(e -> !(e instanceof CancellableEvent cancellableEvent) || !cancellableEvent.isCancelled());
+    }
+
     @Contract(pure = true)
     @NotNull Class<T> getEventType();
 
@@ -230,6 +253,27 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
     @Contract(value = "_ -> this")
     @NotNull EventNode<T> setPriority(int priority);
 
+    /**
+     * Gets if the listeners and children of this node are executed on a virtual thread.
+     *
+     * @return true if this node is async
+     * @see #setAsync(boolean)
+     */
+    @Contract(pure = true)
+    boolean isAsync();
+
+    /**
+     * Sets if the listeners and children of this node should be executed on a virtual thread.
+     * <p>
+     * The caller of the event does not wait for async nodes, meaning that their listeners
+     * cannot cancel or modify the event. Useful for heavy listeners only observing events.
+     *
+     * @param async true to make this node async
+     * @return this node
+     */
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> setAsync(boolean async);
+
     @Contract(pure = true)
     @Nullable EventNode<? super T> getParent();
 
@@ -1,5 +1,6 @@
 package net.minestom.server.event;
 
+import it.unimi.dsi.fastutil.HashCommon;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.event.trait.RecursiveEvent;
@@ -10,16 +11,23 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.function.BiConsumer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 
 non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
     static final Object GLOBAL_CHILD_LOCK = new Object();
+    // Not bounded by the scheduler virtual thread limit, waiting on an async event from a virtual thread task
+    // would otherwise deadlock once every permit is held by a waiting task
+    static final Executor ASYNC_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("Ms-Event-Async-", 0).factory());
 
     private final Map<Class, Handle<T>> handleMap = new ConcurrentHashMap<>();
     final Map<Class<? extends T>, ListenerEntry<T>> listenerMap = new ConcurrentHashMap<>();
@@ -39,6 +47,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     final BiPredicate<T, Object> predicate;
     final Class<T> eventType;
     volatile int priority;
+    volatile boolean async;
     volatile EventNodeImpl<? super T> parent;
 
     EventNodeImpl(@NotNull String name,
@@ -57,6 +66,21 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
                 aClass -> new Handle<>((Class<T>) aClass));
     }
 
+    /**
+     * Gets the number of calls of each handle of this node, only counted when event statistics are enabled.
+     *
+     * @return the call count by event type
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull Map<Class<? extends T>, Long> invocationCounts() {
+        Map<Class<? extends T>, Long> counts = new HashMap<>(handleMap.size());
+        for (Handle<T> handle : handleMap.values()) {
+            final long count = handle.invocations.sum();
+            if (count != 0) counts.put((Class<? extends T>) handle.eventType, count);
+        }
+        return counts;
+    }
+
     @Override
     public <E extends T> @NotNull List<EventNode<E>> findChildren(@NotNull String name, Class<E> eventType) {
         synchronized (GLOBAL_CHILD_LOCK) {
@@ -229,6 +253,21 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         return this;
     }
 
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    @Override
+    public @NotNull EventNode<T> setAsync(boolean async) {
+        synchronized (GLOBAL_CHILD_LOCK) {
+            if (this.async == async) return this;
+            this.async = async;
+            invalidateEventsFor(this);
+        }
+        return this;
+    }
+
     @Override
     public @Nullable EventNode<? super T> getParent() {
         Check.stateCondition(ServerFlag.EVENT_NODE_ALLOW_MULTIPLE_PARENTS, "Cannot use getParent when multiple parents are allowed");
@@ -320,11 +359,151 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         final Set<Consumer<T>> bindingConsumers = new CopyOnWriteArraySet<>();
     }
 
+    void expireListener(@NotNull EventListener<T> listener, @NotNull T event) {
+        synchronized (GLOBAL_CHILD_LOCK) {
+            removeListener(listener);
+            // The listener may have been called from the handle of a recursive sub-type
+            invalidateEvent((Class<? extends T>) event.getClass());
+        }
+    }
+
+    static <E extends Event> void dispatch(@NotNull Step<E> @NotNull [] steps, @NotNull E event) {
+        for (int i = 0; i < steps.length; i++) {
+            // Type checks against final classes are cheaper than a megamorphic call
+            final Step<E> step = steps[i];
+            if (step instanceof ListenerStep<E> listenerStep) {
+                listenerStep.call(event);
+            } else if (step instanceof GuardStep<E> guardStep) {
+                if (!guardStep.test(event)) i += guardStep.skip();
+            } else if (step instanceof ConsumerStep<E> consumerStep) {
+                consumerStep.consumer().accept(event);
+            } else if (step instanceof MappedStep<E> mappedStep) {
+                mappedStep.call(event);
+            } else if (step instanceof AsyncStep<E> asyncStep) {
+                asyncStep.call(event);
+            }
+        }
+    }
+
+    static <E extends Event> void safeDispatch(@NotNull Step<E> @NotNull [] steps, @NotNull E event) {
+        try {
+            dispatch(steps, event);
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    /**
+     * Single instruction of a compiled handle.
+     * <p>
+     * Handles are flattened into an array of steps executed in order by {@link #dispatch(Step[], Event)}.
+     */
+    sealed interface Step<E extends Event> {
+    }
+
+    record ListenerStep<E extends Event>(EventNodeImpl<E> node, EventListener<E> listener) implements Step<E> {
+        void call(@NotNull E event) {
+            if (listener.run(event) == EventListener.Result.EXPIRED) node.expireListener(listener, event);
+        }
+    }
+
+    record ConsumerStep<E extends Event>(Consumer<E> consumer) implements Step<E> {
+    }
+
+    /**
+     * Node filter, the {@code skip} next steps (the content of the node) are jumped over if the predicate fails.
+     * Jumps are relative to allow children to be copied as-is into their parent.
+     */
+    record GuardStep<E extends Event>(EventFilter<E, ?> filter, BiPredicate<E, Object> predicate,
+                                      int skip) implements Step<E> {
+        boolean test(@NotNull E event) {
+            final Object value = filter.getHandler(event);
+            return predicate.test(event, value);
+        }
+    }
+
+    record MappedStep<E extends Event>(EventFilter<E, ?>[] filters, MappedTable<E> table) implements Step<E> {
+        void call(@NotNull E event) {
+            for (EventFilter<E, ?> filter : filters) {
+                final ListenerHandle<E> handle = table.get(filter.castHandler(event));
+                if (handle != null) handle.call(event);
+            }
+        }
+    }
+
+    record AsyncStep<E extends Event>(Step<E>[] steps) implements Step<E> {
+        void call(@NotNull E event) {
+            ASYNC_EXECUTOR.execute(() -> {
+                try {
+                    dispatch(steps, event);
+                } catch (Throwable t) {
+                    MinecraftServer.getExceptionManager().handleException(t);
+                }
+            });
+        }
+    }
+
+    /**
+     * Immutable open-addressing table from mapped owners to their handle.
+     * <p>
+     * Keeps the equality semantic of {@link #registeredMappedNode}, references are compared first.
+     * Keys and handles are weakly referenced to never prevent a mapped owner from being collected.
+     */
+    @SuppressWarnings("unchecked")
+    static final class MappedTable<E extends Event> {
+        private final int[] hashes;
+        private final Entry<E>[] entries;
+        private final int mask;
+
+        MappedTable(@NotNull Map<Object, ListenerHandle<E>> handles) {
+            int capacity = 2;
+            while (capacity < handles.size() * 2) capacity <<= 1;
+            this.hashes = new int[capacity];
+            this.entries = new Entry[capacity];
+            this.mask = capacity - 1;
+            for (Map.Entry<Object, ListenerHandle<E>> entry : handles.entrySet()) {
+                final Object key = entry.getKey();
+                final int hash = HashCommon.mix(key.hashCode());
+                int index = hash & mask;
+                while (entries[index] != null) index = (index + 1) & mask;
+                this.hashes[index] = hash;
+                this.entries[index] = new Entry<>(key, entry.getValue());
+            }
+        }
+
+        @Nullable ListenerHandle<E> get(@Nullable Object key) {
+            if (key == null) return null;
+            final int hash = HashCommon.mix(key.hashCode());
+            int index = hash & mask;
+            Entry<E> entry;
+            while ((entry = entries[index]) != null) {
+                if (hashes[index] == hash) {
+                    final Object candidate = entry.get();
+                    if (candidate == key || (candidate != null && key.equals(candidate))) {
+                        return entry.handle.get();
+                    }
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private static final class Entry<E extends Event> extends WeakReference<Object> {
+            private final WeakReference<ListenerHandle<E>> handle;
+
+            Entry(Object key, ListenerHandle<E> handle) {
+                super(key);
+                this.handle = new WeakReference<>(handle);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     final class Handle<E extends Event> implements ListenerHandle<E> {
         private final Class<E> eventType;
-        private Consumer<E> listener = null;
+        private Step<E>[] steps = null;
         private volatile boolean updated;
+        private final LongAdder invocations = new LongAdder();
 
         Handle(Class<E> eventType) {
             this.eventType = eventType;
@@ -332,181 +511,123 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
         @Override
         public void call(@NotNull E event) {
-            final Consumer<E> listener = updatedListener();
-            if (listener == null) return;
-            try {
-                listener.accept(event);
-            } catch (Throwable e) {
-                MinecraftServer.getExceptionManager().handleException(e);
-            }
+            if (ServerFlag.EVENT_STATISTICS) invocations.increment();
+            final Step<E>[] steps = updatedSteps();
+            if (steps != null) safeDispatch(steps, event);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<E> callAsync(@NotNull E event) {
+            if (ServerFlag.EVENT_STATISTICS) invocations.increment();
+            final Step<E>[] steps = updatedSteps();
+            if (steps == null) return CompletableFuture.completedFuture(event);
+            CompletableFuture<E> future = new CompletableFuture<>();
+            ASYNC_EXECUTOR.execute(() -> {
+                try {
+                    dispatch(steps, event);
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+                future.complete(event);
+            });
+            return future;
         }
 
         @Override
         public boolean hasListener() {
-            return updatedListener() != null;
+            return updatedSteps() != null;
         }
 
         void invalidate() {
             this.updated = false;
-            this.listener = null;
+            this.steps = null;
         }
 
-        @Nullable Consumer<E> updatedListener() {
-            if (updated) return listener;
+        @Nullable Step<E>[] updatedSteps() {
+            if (updated) return steps;
             synchronized (GLOBAL_CHILD_LOCK) {
-                if (updated) return listener;
-                final Consumer<E> listener = createConsumer();
-                this.listener = listener;
+                if (updated) return steps;
+                final Step<E>[] steps = compile();
+                this.steps = steps;
                 this.updated = true;
-                return listener;
+                return steps;
             }
         }
 
-        private @Nullable Consumer<E> createConsumer() {
+        /**
+         * Flattens the listeners, mapped nodes and children of this node into a single array.
+         * <p>
+         * Children are only recompiled when invalidated, their steps are otherwise copied from their own handle.
+         */
+        private @Nullable Step<E>[] compile() {
             var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            List<Step<E>> steps = new ArrayList<>();
             // Standalone listeners
-            List<Consumer<E>> listeners = new ArrayList<>();
             forTargetEvents(eventType, type -> {
                 final ListenerEntry<E> entry = node.listenerMap.get(type);
-                if (entry != null) {
-                    final Consumer<E> result = listenersConsumer(entry);
-                    if (result != null) listeners.add(result);
-                }
+                if (entry != null) appendListeners(node, entry, steps);
             });
-            final Consumer<E>[] listenersArray = listeners.toArray(Consumer[]::new);
             // Mapped
-            final Consumer<E> mappedListener = mappedConsumer();
+            final Step<E> mappedStep = mappedStep();
+            if (mappedStep != null) steps.add(mappedStep);
             // Children
-            final Consumer<E>[] childrenListeners = node.children.stream()
-                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
-                    .sorted(Comparator.comparing(EventNode::getPriority))
-                    .map(child -> ((Handle<E>) child.getHandle(eventType)).updatedListener())
-                    .filter(Objects::nonNull)
-                    .toArray(Consumer[]::new);
-            // Empty check
-            final BiPredicate<E, Object> predicate = node.predicate;
-            final EventFilter<E, ?> filter = node.filter;
-            final boolean hasPredicate = predicate != null;
-            final boolean hasListeners = listenersArray.length > 0;
-            final boolean hasMap = mappedListener != null;
-            final boolean hasChildren = childrenListeners.length > 0;
-            if (!hasListeners && !hasMap && !hasChildren) {
-                // No listener
-                return null;
+            List<EventNodeImpl<E>> children = new ArrayList<>(node.children.size());
+            for (EventNodeImpl<E> child : node.children) {
+                if (child.eventType.isAssignableFrom(eventType)) children.add(child); // Invalid event type otherwise
             }
-            return e -> {
-                // Filtering
-                if (hasPredicate) {
-                    final Object value = filter.getHandler(e);
-                    if (!predicate.test(e, value)) return;
-                }
-                // Normal listeners
-                if (hasListeners) {
-                    for (Consumer<E> listener : listenersArray) {
-                        listener.accept(e);
-                    }
-                }
-                // Mapped nodes
-                if (hasMap) mappedListener.accept(e);
-                // Children
-                if (hasChildren) {
-                    for (Consumer<E> childHandle : childrenListeners) {
-                        childHandle.accept(e);
-                    }
-                }
-            };
+            children.sort(Comparator.comparingInt(EventNodeImpl::getPriority));
+            for (EventNodeImpl<E> child : children) {
+                final Step<E>[] childSteps = ((Handle<E>) child.getHandle(eventType)).updatedSteps();
+                if (childSteps != null) Collections.addAll(steps, childSteps);
+            }
+            // Empty check
+            if (steps.isEmpty()) return null;
+            // Filtering
+            if (node.predicate != null) steps.add(0, new GuardStep<>(node.filter, node.predicate, steps.size()));
+            final Step<E>[] result = steps.toArray(Step[]::new);
+            if (!node.async) return result;
+            // Run the whole node on a virtual thread, the caller does not wait for it
+            return new Step[]{new AsyncStep<>(result)};
         }
 
         /**
-         * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
+         * Appends all listeners from {@link EventNode#addListener(EventListener)} and
          * {@link EventNode#register(EventBinding)}.
-         * <p>
-         * Most computation should ideally be done outside the consumers as a one-time cost.
          */
-        private @Nullable Consumer<E> listenersConsumer(@NotNull ListenerEntry<E> entry) {
-            final EventListener<E>[] listenersCopy = entry.listeners.toArray(EventListener[]::new);
-            final Consumer<E>[] bindingsCopy = entry.bindingConsumers.toArray(Consumer[]::new);
-            final boolean listenersEmpty = listenersCopy.length == 0;
-            final boolean bindingsEmpty = bindingsCopy.length == 0;
-            if (listenersEmpty && bindingsEmpty) return null;
-            if (bindingsEmpty && listenersCopy.length == 1) {
-                // Only one normal listener
-                final EventListener<E> listener = listenersCopy[0];
-                return e -> callListener(listener, e);
+        private void appendListeners(EventNodeImpl<E> node, ListenerEntry<E> entry, List<Step<E>> steps) {
+            for (EventListener<E> listener : entry.listeners) {
+                steps.add(new ListenerStep<>(node, listener));
+            }
+            for (Consumer<E> consumer : entry.bindingConsumers) {
+                steps.add(new ConsumerStep<>(consumer));
             }
-            // Worse case scenario, try to run everything
-            return e -> {
-                if (!listenersEmpty) {
-                    for (EventListener<E> listener : listenersCopy) {
-                        callListener(listener, e);
-                    }
-                }
-                if (!bindingsEmpty) {
-                    for (Consumer<E> eConsumer : bindingsCopy) {
-                        eConsumer.accept(e);
-                    }
-                }
-            };
         }
 
         /**
-         * Create a consumer handling {@link EventNode#map(Object, EventFilter)}.
+         * Create a step handling {@link EventNode#map(Object, EventFilter)}.
          * The goal is to limit the amount of map lookup.
          */
-        private @Nullable Consumer<E> mappedConsumer() {
+        private @Nullable Step<E> mappedStep() {
             var node = (EventNodeImpl<E>) EventNodeImpl.this;
             final var mappedNodeCache = node.registeredMappedNode;
             if (mappedNodeCache.isEmpty()) return null;
-            Set<EventFilter<E, ?>> filters = new HashSet<>(mappedNodeCache.size());
-            Map<Object, WeakReference<Handle<E>>> handlers = new WeakHashMap<>(mappedNodeCache.size());
+            Set<EventFilter<E, ?>> filters = new HashSet<>();
+            Map<Object, ListenerHandle<E>> handlers = new HashMap<>(mappedNodeCache.size());
 
             // Retrieve all filters used to retrieve potential handlers
             for (var mappedEntry : mappedNodeCache.entrySet()) {
-                final WeakReference<EventNodeLazyImpl<E>> mappedNodeRef = mappedEntry.getValue();
-                final EventNodeLazyImpl<E> mappedNode = mappedNodeRef.get();
-                if (mappedNode == null) continue; // Weak reference collected
+                final Object owner = mappedEntry.getKey();
+                final EventNodeLazyImpl<E> mappedNode = mappedEntry.getValue().get();
+                if (owner == null || mappedNode == null) continue; // Weak reference collected
                 final Handle<E> handle = (Handle<E>) mappedNode.getHandle(eventType);
                 if (!handle.hasListener()) continue; // Implicit update
                 filters.add(mappedNode.filter);
-                handlers.put(mappedEntry.getKey(), new WeakReference<>(handle));
+                handlers.put(owner, handle);
             }
             // If at least one mapped node listen to this handle type,
             // loop through them and forward to mapped node if there is a match
             if (filters.isEmpty()) return null;
-            final EventFilter<E, ?>[] filterList = filters.toArray(EventFilter[]::new);
-            final BiConsumer<EventFilter<E, ?>, E> mapper = (filter, event) -> {
-                final Object handler = filter.castHandler(event);
-                final WeakReference<Handle<E>> handleRef = handlers.get(handler);
-                final Handle<E> handle = handleRef != null ? handleRef.get() : null;
-                if (handle != null) handle.call(event);
-            };
-            // Specialize the consumer depending on the number of filters to avoid looping
-            return switch (filterList.length) {
-                case 1 -> event -> mapper.accept(filterList[0], event);
-                case 2 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                };
-                case 3 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                    mapper.accept(filterList[2], event);
-                };
-                default -> event -> {
-                    for (var filter : filterList) {
-                        mapper.accept(filter, event);
-                    }
-                };
-            };
-        }
-
-        void callListener(@NotNull EventListener<E> listener, E event) {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
-            EventListener.Result result = listener.run(event);
-            if (result == EventListener.Result.EXPIRED) {
-                node.removeListener(listener);
-                invalidate();
-            }
+            return new MappedStep<>(filters.toArray(EventFilter[]::new), new MappedTable<>(handlers));
         }
     }
 }
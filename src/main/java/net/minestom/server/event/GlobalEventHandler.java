@@ -1,5 +1,10 @@
 package net.minestom.server.event;
 
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
 /**
  * Object containing all the global event listeners.
  */
@@ -7,4 +12,16 @@ public final class GlobalEventHandler extends EventNodeImpl<Event> {
     public GlobalEventHandler() {
         super("global", EventFilter.ALL, null);
     }
+
+    /**
+     * Gets the number of dispatched events by type, counted when the {@code minestom.event-statistics}
+     * system property is enabled.
+     *
+     * @return the dispatched event count by event type
+     */
+    @ApiStatus.Internal
+    @Override
+    public @NotNull Map<Class<? extends Event>, Long> invocationCounts() {
+        return super.invocationCounts();
+    }
 }
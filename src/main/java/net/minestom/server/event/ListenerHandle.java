@@ -3,6 +3,8 @@ package net.minestom.server.event;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Represents a key to a listenable event, retrievable from {@link EventNode#getHandle(Class)}.
  * Useful to avoid map lookups.
@@ -23,6 +25,22 @@ public sealed interface ListenerHandle<E extends Event> permits EventNodeImpl.Ha
      */
     void call(@NotNull E event);
 
+    /**
+     * Calls the given event on a virtual thread.
+     * The fast exit of {@link #call(Event)} is kept, and the returned future is directly completed
+     * when {@link #hasListener()} return {@code false}.
+     * <p>
+     * Listeners registered to an {@link EventNode#setAsync(boolean) async node} may still be running
+     * once the returned future completes.
+     * <p>
+     * Async events are not bounded by the scheduler virtual thread limit, the returned future
+     * can be joined from {@link net.minestom.server.timer.ExecutionType#VIRTUAL_THREAD} tasks.
+     *
+     * @param event the event to call
+     * @return a future completed with {@code event} once all listeners have been executed
+     */
+    @NotNull CompletableFuture<E> callAsync(@NotNull E event);
+
     /**
      * Gets if any listener has been registered for the given handle.
      * May trigger an update if the cached data is not correct.
@@ -12,6 +12,7 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.instance.heightmap.MotionBlockingHeightmap;
 import net.minestom.server.instance.heightmap.WorldSurfaceHeightmap;
+import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
@@ -54,6 +55,8 @@ public class DynamicChunk extends Chunk {
 
     // Key = ChunkUtils#getBlockIndex
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
+    // Copy of the block entries shared by snapshots until the next entry modification, guarded by the chunk lock
+    private Int2ObjectOpenHashMap<Block> snapshotEntries;
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
 
     private long lastChange;
@@ -100,8 +103,10 @@ public class DynamicChunk extends Chunk {
         final Block lastCachedBlock;
         if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
             lastCachedBlock = this.entries.put(index, block);
+            this.snapshotEntries = null;
         } else {
             lastCachedBlock = this.entries.remove(index);
+            if (lastCachedBlock != null) this.snapshotEntries = null;
         }
         // Block tick
         if (handler != null && handler.isTickable()) {
@@ -244,6 +249,7 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        this.snapshotEntries = null;
     }
 
     @Override
@@ -324,13 +330,25 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public @NotNull ChunkSnapshot updateSnapshot(@NotNull SnapshotUpdater updater) {
-        Section[] clonedSections = new Section[sections.size()];
-        for (int i = 0; i < clonedSections.length; i++)
-            clonedSections[i] = sections.get(i).clone();
+        // Palettes are copy-on-write, cloning them does not copy their content
+        final int sectionCount = sections.size();
+        Palette[] blockPalettes = new Palette[sectionCount];
+        Palette[] biomePalettes = new Palette[sectionCount];
+        Int2ObjectOpenHashMap<Block> entries;
+        // Snapshots are updated from the updater threads, the clones mark the palettes as shared
+        synchronized (this) {
+            for (int i = 0; i < sectionCount; i++) {
+                final Section section = sections.get(i);
+                blockPalettes[i] = section.blockPalette().clone();
+                biomePalettes[i] = section.biomePalette().clone();
+            }
+            entries = this.snapshotEntries;
+            if (entries == null) this.snapshotEntries = entries = this.entries.clone();
+        }
         var entities = instance.getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES);
         final int[] entityIds = ArrayUtils.mapToIntArray(entities, Entity::getEntityId);
         return new SnapshotImpl.Chunk(minSection, chunkX, chunkZ,
-                clonedSections, entries.clone(), entityIds, updater.reference(instance),
+                blockPalettes, biomePalettes, entries, entityIds, updater.reference(instance),
                 tagHandler().readableCopy());
     }
 
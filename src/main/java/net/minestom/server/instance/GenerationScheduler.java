@@ -0,0 +1,109 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes the chunk generation of {@link InstanceContainer}s on dedicated threads.
+ * <p>
+ * Pending generations are ordered by the distance between their chunk and the nearest player
+ * of the instance at the time of the request, the closest chunks being generated first.
+ * The same scheduler can be shared by multiple instances, see {@link #shared()}.
+ */
+public final class GenerationScheduler {
+    private static final GenerationScheduler SHARED = new GenerationScheduler(ServerFlag.GENERATION_THREADS);
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param parallelism the maximum number of chunks generated at the same time
+     */
+    public GenerationScheduler(int parallelism) {
+        Check.argCondition(parallelism <= 0, "Parallelism must be positive, got {0}", parallelism);
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 30, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Ms-Generation-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the scheduler used by default in every {@link InstanceContainer},
+     * its parallelism is defined by {@link ServerFlag#GENERATION_THREADS}.
+     *
+     * @return the shared scheduler
+     */
+    public static @NotNull GenerationScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets the maximum number of chunks generated at the same time.
+     *
+     * @return the parallelism of this scheduler
+     */
+    public int parallelism() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Gets the number of generations waiting for a thread.
+     *
+     * @return the number of pending generations
+     */
+    public int pendingTasks() {
+        return executor.getQueue().size();
+    }
+
+    void execute(@NotNull Instance instance, int chunkX, int chunkZ, @NotNull Runnable runnable) {
+        final int distance = nearestPlayerDistance(instance, chunkX, chunkZ);
+        this.executor.execute(new Task(distance, sequence.getAndIncrement(), runnable));
+    }
+
+    private static int nearestPlayerDistance(Instance instance, int chunkX, int chunkZ) {
+        int distance = Integer.MAX_VALUE;
+        for (Player player : instance.getPlayers()) {
+            final Pos position = player.getPosition();
+            distance = Math.min(distance, squaredDistance(position.chunkX(), position.chunkZ(), chunkX, chunkZ));
+        }
+        return distance;
+    }
+
+    /**
+     * Computes the squared distance between two chunks, clamped to {@link Integer#MAX_VALUE} for far chunks.
+     */
+    static int squaredDistance(int chunkX, int chunkZ, int otherX, int otherZ) {
+        // Each delta is clamped so that the sum of the squares fits in a long
+        final long deltaX = Math.min(Math.abs((long) chunkX - otherX), Integer.MAX_VALUE);
+        final long deltaZ = Math.min(Math.abs((long) chunkZ - otherZ), Integer.MAX_VALUE);
+        return (int) Math.min(deltaX * deltaX + deltaZ * deltaZ, Integer.MAX_VALUE);
+    }
+
+    private record Task(int distance, long sequence, Runnable runnable) implements Runnable, Comparable<Task> {
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+        @Override
+        public int compareTo(@NotNull Task other) {
+            final int compare = Integer.compare(distance, other.distance);
+            return compare != 0 ? compare : Long.compare(sequence, other.sequence);
+        }
+    }
+}
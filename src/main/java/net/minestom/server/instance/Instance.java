@@ -30,6 +30,8 @@ import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.light.Light;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.instance.palette.PaletteMemoryUsage;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.BlockActionPacket;
 import net.minestom.server.network.packet.server.play.InitializeWorldBorderPacket;
@@ -365,6 +367,27 @@ public abstract class Instance implements Block.Getter, Block.Setter,
      */
     public abstract @NotNull Collection<@NotNull Chunk> getChunks();
 
+    /**
+     * Estimates the heap used by the block and biome palettes of the loaded chunks.
+     * <p>
+     * Palettes shared between sections, e.g. after {@link InstanceContainer#copy()} or {@link Section#intern()},
+     * are only counted once. Palettes shared with other instances are counted by each of them.
+     *
+     * @return the memory used by the palettes of this instance
+     */
+    public @NotNull PaletteMemoryUsage getPaletteMemoryUsage() {
+        List<Palette> palettes = new ArrayList<>();
+        for (Chunk chunk : getChunks()) {
+            synchronized (chunk) {
+                for (Section section : chunk.getSections()) {
+                    palettes.add(section.blockPalette());
+                    palettes.add(section.biomePalette());
+                }
+            }
+        }
+        return PaletteMemoryUsage.of(palettes);
+    }
+
     /**
      * When set to true, chunks will load automatically when requested.
      * Otherwise using {@link #loadChunk(int, int)} will be required to even spawn a player
@@ -3,6 +3,7 @@ package net.minestom.server.instance;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
@@ -20,6 +21,8 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.generator.GeneratorImpl;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.monitoring.jfr.ChunkGenerateEvent;
+import net.minestom.server.monitoring.jfr.ChunkRetrieveEvent;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
@@ -41,12 +44,15 @@ import org.slf4j.LoggerFactory;
 import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static net.minestom.server.utils.chunk.ChunkUtils.*;
@@ -68,10 +74,12 @@ public class InstanceContainer extends Instance {
 
     // the chunk generator used, can be null
     private volatile Generator generator;
+    // the scheduler executing the chunk generation
+    private volatile GenerationScheduler generationScheduler = GenerationScheduler.shared();
     // (chunk index -> chunk) map, contains all the chunks in the instance
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
-    private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    private final Map<Long, ChunkLoad> loadingChunks = new ConcurrentHashMap<>();
 
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
@@ -296,10 +304,14 @@ public class InstanceContainer extends Instance {
     }
 
     protected @NotNull CompletableFuture<@NotNull Chunk> retrieveChunk(int chunkX, int chunkZ) {
-        CompletableFuture<Chunk> completableFuture = new CompletableFuture<>();
         final long index = getChunkIndex(chunkX, chunkZ);
-        final CompletableFuture<Chunk> prev = loadingChunks.putIfAbsent(index, completableFuture);
-        if (prev != null) return prev;
+        final ChunkLoad created = new ChunkLoad();
+        final ChunkLoad load = loadingChunks.compute(index, (i, prev) -> prev != null && prev.acquire() ? prev : created);
+        final CompletableFuture<Chunk> request = load.request();
+        if (load != created) return request;
+        final CompletableFuture<Chunk> completableFuture = load.future;
+        final ChunkRetrieveEvent event = ServerFlag.JFR_EVENTS ? new ChunkRetrieveEvent() : null;
+        if (event != null) event.begin();
         final IChunkLoader loader = chunkLoader;
         final Runnable retriever = () -> loader.loadChunk(this, chunkX, chunkZ)
                 .thenCompose(chunk -> {
@@ -308,22 +320,46 @@ public class InstanceContainer extends Instance {
                         return CompletableFuture.completedFuture(chunk);
                     } else {
                         // Loader couldn't load the chunk, generate it
-                        return createChunk(chunkX, chunkZ).whenComplete((c, a) -> c.onGenerate());
+                        if (event != null) event.generated = true;
+                        return createChunk(chunkX, chunkZ).thenApply(c -> {
+                            c.onGenerate();
+                            return c;
+                        });
                     }
                 })
                 // cache the retrieved chunk
                 .thenAccept(chunk -> {
+                    if (ServerFlag.PALETTE_INTERNING) {
+                        // Share the palettes of identical sections, e.g. empty or generated from the same pattern
+                        synchronized (chunk) {
+                            chunk.getSections().forEach(Section::intern);
+                        }
+                    }
                     // TODO run in the instance thread?
                     cacheChunk(chunk);
                     chunk.onLoad();
 
                     EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
-                    final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
-                    assert future == completableFuture : "Invalid future: " + future;
+                    if (event != null) {
+                        event.end();
+                        if (event.shouldCommit()) {
+                            event.instance = getUniqueId().toString();
+                            event.chunkX = chunkX;
+                            event.chunkZ = chunkZ;
+                            event.sections = chunk.getSections().size();
+                            event.commit();
+                        }
+                    }
+                    this.loadingChunks.remove(index, load);
                     completableFuture.complete(chunk);
                 })
                 .exceptionally(throwable -> {
-                    MinecraftServer.getExceptionManager().handleException(throwable);
+                    // Release the loading future, cancelled generations are not errors
+                    this.loadingChunks.remove(index, load);
+                    completableFuture.completeExceptionally(throwable);
+                    if (!(throwable instanceof CancellationException || throwable.getCause() instanceof CancellationException)) {
+                        MinecraftServer.getExceptionManager().handleException(throwable);
+                    }
                     return null;
                 });
         if (loader.supportsParallelLoading()) {
@@ -331,7 +367,7 @@ public class InstanceContainer extends Instance {
         } else {
             retriever.run();
         }
-        return completableFuture;
+        return request;
     }
 
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
@@ -342,8 +378,15 @@ public class InstanceContainer extends Instance {
         Generator generator = generator();
         if (generator != null && chunk.shouldGenerate()) {
             CompletableFuture<Chunk> resultFuture = new CompletableFuture<>();
-            // TODO: virtual thread once Loom is available
-            ForkJoinPool.commonPool().submit(() -> {
+            final ChunkLoad load = loadingChunks.get(getChunkIndex(chunkX, chunkZ));
+            generationScheduler.execute(this, chunkX, chunkZ, () -> {
+                if (load != null && load.abandon()) {
+                    // Nobody is waiting for the chunk anymore
+                    resultFuture.cancel(false);
+                    return;
+                }
+                final ChunkGenerateEvent event = ServerFlag.JFR_EVENTS ? new ChunkGenerateEvent() : null;
+                if (event != null) event.begin();
                 GeneratorImpl.GenSection[] genSections = new GeneratorImpl.GenSection[chunk.getSections().size()];
                 Arrays.setAll(genSections, i -> {
                     Section section = chunk.getSections().get(i);
@@ -363,6 +406,7 @@ public class InstanceContainer extends Instance {
                         }
                     }
                     // Register forks or apply locally
+                    if (event != null) event.forks = chunkUnit.forks().size();
                     for (var fork : chunkUnit.forks()) {
                         var sections = ((GeneratorImpl.AreaModifierImpl) fork.modifier()).sections();
                         for (var section : sections) {
@@ -394,6 +438,15 @@ public class InstanceContainer extends Instance {
                 } finally {
                     // End generation
                     refreshLastBlockChangeTime();
+                    if (event != null) {
+                        event.end();
+                        if (event.shouldCommit()) {
+                            event.instance = getUniqueId().toString();
+                            event.chunkX = chunkX;
+                            event.chunkZ = chunkZ;
+                            event.commit();
+                        }
+                    }
                     resultFuture.complete(chunk);
                 }
             });
@@ -578,6 +631,110 @@ public class InstanceContainer extends Instance {
         this.generator = generator;
     }
 
+    /**
+     * Gets the scheduler executing the chunk generation of this instance.
+     *
+     * @return the generation scheduler
+     */
+    public @NotNull GenerationScheduler getGenerationScheduler() {
+        return generationScheduler;
+    }
+
+    /**
+     * Changes the scheduler executing the chunk generation of this instance,
+     * useful to isolate the generation of an instance from the others.
+     *
+     * @param generationScheduler the new generation scheduler
+     */
+    public void setGenerationScheduler(@NotNull GenerationScheduler generationScheduler) {
+        this.generationScheduler = generationScheduler;
+    }
+
+    /**
+     * Loads all the chunks of a region, generating the missing ones.
+     * <p>
+     * Chunks are loaded row by row, with at most twice the parallelism of the {@link GenerationScheduler}
+     * chunks loading at the same time to leave room for the chunks requested by players.
+     * Cancelling the returned future stops loading the remaining chunks.
+     *
+     * @param minChunkX the minimum chunk X, inclusive
+     * @param minChunkZ the minimum chunk Z, inclusive
+     * @param maxChunkX the maximum chunk X, inclusive
+     * @param maxChunkZ the maximum chunk Z, inclusive
+     * @param consumer  called for each loaded chunk, can be used to save and unload it
+     * @return a future completed once every chunk has been loaded
+     */
+    public @NotNull CompletableFuture<Void> loadRegion(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ,
+                                                       @NotNull Consumer<@NotNull Chunk> consumer) {
+        Check.argCondition(minChunkX > maxChunkX || minChunkZ > maxChunkZ, "Invalid region bounds");
+        RegionLoader loader = new RegionLoader(minChunkX, minChunkZ, maxChunkX - minChunkX + 1,
+                (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1), consumer);
+        final int parallelism = Math.min(loader.count, generationScheduler.parallelism() * 2);
+        for (int i = 0; i < parallelism; i++) loader.loadNext();
+        return loader.future;
+    }
+
+    /**
+     * Loads all the chunks of a region, generating the missing ones.
+     *
+     * @see #loadRegion(int, int, int, int, Consumer)
+     */
+    public @NotNull CompletableFuture<Void> loadRegion(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        return loadRegion(minChunkX, minChunkZ, maxChunkX, maxChunkZ, chunk -> {
+        });
+    }
+
+    private final class RegionLoader {
+        private final int minChunkX, minChunkZ, width, count;
+        private final Consumer<Chunk> consumer;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+
+        RegionLoader(int minChunkX, int minChunkZ, int width, int count, Consumer<Chunk> consumer) {
+            this.minChunkX = minChunkX;
+            this.minChunkZ = minChunkZ;
+            this.width = width;
+            this.count = count;
+            this.consumer = consumer;
+            this.remaining = new AtomicInteger(count);
+        }
+
+        void loadNext() {
+            // Loop instead of recursing when chunks are already loaded
+            while (!future.isDone()) {
+                final int index = next.getAndIncrement();
+                if (index >= count) return;
+                final CompletableFuture<Chunk> load = loadChunk(minChunkX + index % width, minChunkZ + index / width);
+                if (!load.isDone()) {
+                    load.whenComplete((chunk, throwable) -> {
+                        if (loaded(chunk, throwable)) loadNext();
+                    });
+                    return;
+                }
+                if (!load.handle(this::loaded).join()) return;
+            }
+        }
+
+        private boolean loaded(Chunk chunk, Throwable throwable) {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return false;
+            }
+            try {
+                consumer.accept(chunk);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+                return false;
+            }
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(null);
+                return false;
+            }
+            return true;
+        }
+    }
+
     /**
      * Gets all the instance chunks.
      *
@@ -679,6 +836,51 @@ public class InstanceContainer extends Instance {
         return supplier.get();
     }
 
+    /**
+     * Chunk being retrieved, shared by all the requests of the chunk until it is cached.
+     * <p>
+     * Each request gets its own future, the generation is only skipped once every request has been cancelled.
+     */
+    private static final class ChunkLoad {
+        final CompletableFuture<Chunk> future = new CompletableFuture<>();
+        // Includes the request which started the load
+        private int requesters = 1;
+        private boolean abandoned;
+
+        /**
+         * Registers a new request.
+         *
+         * @return false if the load has been abandoned and a new one must be started
+         */
+        synchronized boolean acquire() {
+            if (abandoned) return false;
+            this.requesters++;
+            return true;
+        }
+
+        CompletableFuture<Chunk> request() {
+            CompletableFuture<Chunk> request = future.thenApply(Function.identity());
+            request.whenComplete((chunk, throwable) -> {
+                if (request.isCancelled()) release();
+            });
+            return request;
+        }
+
+        private synchronized void release() {
+            this.requesters--;
+        }
+
+        /**
+         * Abandons the load if all its requests have been cancelled, new requests then start another load.
+         *
+         * @return true if the load has been abandoned
+         */
+        synchronized boolean abandon() {
+            if (requesters == 0) this.abandoned = true;
+            return abandoned;
+        }
+    }
+
     private void cacheChunk(@NotNull Chunk chunk) {
         this.chunks.put(getChunkIndex(chunk), chunk);
         var dispatcher = MinecraftServer.process().dispatcher();
@@ -10,6 +10,7 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.monitoring.jfr.RelightEvent;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.data.LightData;
 import net.minestom.server.utils.NamespaceID;
@@ -550,7 +551,19 @@ public class LightingChunk extends DynamicChunk {
     }
 
     private static Set<Chunk> relight(Instance instance, Set<Point> queue, LightType type) {
-        return flushQueue(instance, queue, type, QueueType.INTERNAL);
+        if (!ServerFlag.JFR_EVENTS) return flushQueue(instance, queue, type, QueueType.INTERNAL);
+        RelightEvent event = new RelightEvent();
+        event.begin();
+        final Set<Chunk> chunks = flushQueue(instance, queue, type, QueueType.INTERNAL);
+        event.end();
+        if (event.shouldCommit()) {
+            event.instance = instance.getUniqueId().toString();
+            event.lightType = type.name();
+            event.sections = queue.size();
+            event.chunks = chunks.size();
+            event.commit();
+        }
+        return chunks;
     }
 
     @Override
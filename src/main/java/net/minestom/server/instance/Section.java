@@ -45,6 +45,18 @@ public final class Section implements NetworkBuffer.Writer {
         this.biomePalette.fill(0);
     }
 
+    /**
+     * Shares the palettes of this section with the other sections holding the same blocks or biomes.
+     * <p>
+     * Applied to every loaded chunk when the {@code minestom.palette-interning} system property is enabled.
+     *
+     * @see Palette#intern()
+     */
+    public void intern() {
+        this.blockPalette.intern();
+        this.biomePalette.intern();
+    }
+
     @Override
     public @NotNull Section clone() {
         final Light skyLight = Light.sky();
@@ -3,12 +3,14 @@ package net.minestom.server.instance.anvil;
 import it.unimi.dsi.fastutil.ints.*;
 import net.kyori.adventure.nbt.*;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.IChunkLoader;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.monitoring.jfr.AnvilChunkLoadEvent;
 import net.minestom.server.registry.DynamicRegistry;
 import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.MathUtils;
@@ -87,12 +89,26 @@ public class AnvilLoader implements IChunkLoader {
             // No world folder
             return CompletableFuture.completedFuture(null);
         }
+        final AnvilChunkLoadEvent event = ServerFlag.JFR_EVENTS ? new AnvilChunkLoadEvent() : null;
+        if (event != null) event.begin();
+        CompletableFuture<Chunk> result;
         try {
-            return loadMCA(instance, chunkX, chunkZ);
+            result = loadMCA(instance, chunkX, chunkZ);
         } catch (Exception e) {
             MinecraftServer.getExceptionManager().handleException(e);
-            return CompletableFuture.completedFuture(null);
+            result = CompletableFuture.completedFuture(null);
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.instance = instance.getUniqueId().toString();
+                event.chunkX = chunkX;
+                event.chunkZ = chunkZ;
+                event.found = result.getNow(null) != null;
+                event.commit();
+            }
         }
+        return result;
     }
 
     private @NotNull CompletableFuture<@Nullable Chunk> loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException {
@@ -1,11 +1,11 @@
 package net.minestom.server.instance.block;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.registry.Registry;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.collection.MergedMap;
 import net.minestom.server.utils.collection.ObjectArray;
@@ -14,12 +14,21 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-
-record BlockImpl(@NotNull Registry.BlockEntry registry,
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A block state, only the state id and the index of its property values are kept in memory.
+ * <p>
+ * The {@link Registry.BlockEntry} of a state is created the first time {@link #registry()} is called.
+ */
+record BlockImpl(@NotNull BlockType type,
+                 int stateId,
                  long propertiesArray,
                  @Nullable CompoundBinaryTag nbt,
                  @Nullable BlockHandler handler) implements Block {
@@ -35,16 +44,13 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     // Block state -> block object
     private static final ObjectArray<Block> BLOCK_STATE_MAP = ObjectArray.singleThread();
-    // Block id -> valid property keys (order is important for lookup)
-    private static final ObjectArray<PropertyType[]> PROPERTIES_TYPE = ObjectArray.singleThread();
-    // Block id -> Map<PropertiesValues, Block>
-    private static final ObjectArray<Long2ObjectArrayMap<BlockImpl>> POSSIBLE_STATES = ObjectArray.singleThread();
     private static final Registry.Container<Block> CONTAINER = Registry.createStaticContainer(Registry.Resource.BLOCKS, BlockImpl::createImpl);
+    // Block state -> registry entry, filled on first access
+    private static final AtomicReferenceArray<Registry.BlockEntry> REGISTRY_ENTRIES;
 
     static {
-        PROPERTIES_TYPE.trim();
         BLOCK_STATE_MAP.trim();
-        POSSIBLE_STATES.trim();
+        REGISTRY_ENTRIES = new AtomicReferenceArray<>(BLOCK_STATE_MAP.arrayCopy(Block.class).length);
     }
 
     static Block get(@NotNull String namespace) {
@@ -67,10 +73,28 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return CONTAINER.values();
     }
 
+    @Override
+    public @NotNull Registry.BlockEntry registry() {
+        final Registry.BlockEntry entry = REGISTRY_ENTRIES.get(stateId);
+        if (entry != null) return entry;
+        final Registry.BlockEntry created = type.createEntry(propertiesArray);
+        final Registry.BlockEntry witness = REGISTRY_ENTRIES.compareAndExchange(stateId, null, created);
+        return witness != null ? witness : created;
+    }
+
+    @Override
+    public @NotNull NamespaceID namespace() {
+        return type.namespace;
+    }
+
+    @Override
+    public int id() {
+        return type.id;
+    }
+
     @Override
     public @NotNull Block withProperty(@NotNull String property, @NotNull String value) {
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
+        final PropertyType[] propertyTypes = type.propertyTypes;
         final byte keyIndex = findKeyIndex(propertyTypes, property, this);
         final byte valueIndex = findValueIndex(propertyTypes[keyIndex], value, this);
         final long updatedProperties = updateIndex(propertiesArray, keyIndex, valueIndex);
@@ -80,8 +104,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     @Override
     public @NotNull Block withProperties(@NotNull Map<@NotNull String, @NotNull String> properties) {
         if (properties.isEmpty()) return this;
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
+        final PropertyType[] propertyTypes = type.propertyTypes;
         long updatedProperties = this.propertiesArray;
         for (Map.Entry<String, String> entry : properties.entrySet()) {
             final byte keyIndex = findKeyIndex(propertyTypes, entry.getKey(), this);
@@ -98,23 +121,22 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         tag.write(builder, value);
         final CompoundBinaryTag temporaryNbt = builder.build();
         final CompoundBinaryTag finalNbt = temporaryNbt.size() > 0 ? temporaryNbt : null;
-        return new BlockImpl(registry, propertiesArray, finalNbt, handler);
+        return new BlockImpl(type, stateId, propertiesArray, finalNbt, handler);
     }
 
     @Override
     public @NotNull Block withNbt(@Nullable CompoundBinaryTag compound) {
-        return new BlockImpl(registry, propertiesArray, compound, handler);
+        return new BlockImpl(type, stateId, propertiesArray, compound, handler);
     }
 
     @Override
     public @NotNull Block withHandler(@Nullable BlockHandler handler) {
-        return new BlockImpl(registry, propertiesArray, nbt, handler);
+        return new BlockImpl(type, stateId, propertiesArray, nbt, handler);
     }
 
     @Override
     public @Unmodifiable @NotNull Map<String, String> properties() {
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
+        final PropertyType[] propertyTypes = type.propertyTypes;
         final int length = propertyTypes.length;
         if (length == 0) return Map.of();
         String[] keys = new String[length];
@@ -135,7 +157,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     @Override
     public @NotNull Collection<@NotNull Block> possibleStates() {
-        return Collection.class.cast(possibleProperties().values());
+        return type.possibleStates;
     }
 
     @Override
@@ -143,10 +165,6 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return tag.read(Objects.requireNonNullElse(nbt, CompoundBinaryTag.empty()));
     }
 
-    private Long2ObjectArrayMap<BlockImpl> possibleProperties() {
-        return POSSIBLE_STATES.get(id());
-    }
-
     @Override
     public String toString() {
         return String.format("%s{properties=%s, nbt=%s, handler=%s}", name(), properties(), nbt, handler);
@@ -166,12 +184,11 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     private Block compute(long updatedProperties) {
         if (updatedProperties == this.propertiesArray) return this;
-        final BlockImpl block = possibleProperties().get(updatedProperties);
-        assert block != null;
+        final BlockImpl block = type.state(updatedProperties);
         // Reuse the same block instance if possible
         if (nbt == null && handler == null) return block;
         // Otherwise copy with the nbt and handler
-        return new BlockImpl(block.registry(), block.propertiesArray, nbt, handler);
+        return new BlockImpl(type, block.stateId, block.propertiesArray, nbt, handler);
     }
 
     private static Block createImpl(String namespace, Registry.Properties properties) {
@@ -199,13 +216,14 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                 propertyTypes = new PropertyType[0];
             }
         }
-        PROPERTIES_TYPE.set(blockId, propertyTypes);
 
         // Retrieve block states
+        final BlockType type;
         {
             final int propertiesCount = stateObject.size();
             long[] propertiesKeys = new long[propertiesCount];
-            BlockImpl[] blocksValues = new BlockImpl[propertiesCount];
+            int[] stateIds = new int[propertiesCount];
+            List<Map<String, Object>> overrides = new ArrayList<>(propertiesCount);
             int propertiesOffset = 0;
             for (var stateEntry : stateObject) {
                 final String query = stateEntry.getKey();
@@ -218,15 +236,16 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                     final byte valueIndex = findValueIndex(propertyTypes[keyIndex], entry.getValue(), null);
                     propertiesValue = updateIndex(propertiesValue, keyIndex, valueIndex);
                 }
-
-                var mainProperties = Registry.Properties.fromMap(new MergedMap<>(stateOverride, properties.asMap()));
-                final BlockImpl block = new BlockImpl(Registry.block(namespace, mainProperties),
-                        propertiesValue, null, null);
-                BLOCK_STATE_MAP.set(block.stateId(), block);
                 propertiesKeys[propertiesOffset] = propertiesValue;
-                blocksValues[propertiesOffset++] = block;
+                stateIds[propertiesOffset] = ((Number) stateOverride.get("stateId")).intValue();
+                overrides.add(stateOverride);
+                propertiesOffset++;
             }
-            POSSIBLE_STATES.set(blockId, new Long2ObjectArrayMap<>(propertiesKeys, blocksValues, propertiesOffset));
+            type = new BlockType(NamespaceID.from(namespace), blockId, propertyTypes,
+                    properties.asMap(), propertiesKeys, stateIds, overrides);
+        }
+        for (BlockImpl block : type.states) {
+            BLOCK_STATE_MAP.set(block.stateId, block);
         }
         // Register default state
         final int defaultState = properties.getInt("defaultStateId");
@@ -258,6 +277,62 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     private record PropertyType(String key, List<String> values) {
     }
 
+    /**
+     * Data shared by all the states of a block.
+     */
+    static final class BlockType {
+        private final NamespaceID namespace;
+        private final int id;
+        private final PropertyType[] propertyTypes;
+        private final Map<String, Object> properties;
+        // Sorted properties values, and the state/registry override at the same index
+        private final long[] propertiesKeys;
+        private final BlockImpl[] states;
+        private final List<Map<String, Object>> overrides;
+        private final List<Block> possibleStates;
+
+        private BlockType(NamespaceID namespace, int id, PropertyType[] propertyTypes, Map<String, Object> properties,
+                          long[] propertiesKeys, int[] stateIds, List<Map<String, Object>> overrides) {
+            this.namespace = namespace;
+            this.id = id;
+            this.propertyTypes = propertyTypes;
+            this.properties = properties;
+            final int count = propertiesKeys.length;
+            BlockImpl[] registryOrder = new BlockImpl[count];
+            for (int i = 0; i < count; i++) {
+                registryOrder[i] = new BlockImpl(this, stateIds[i], propertiesKeys[i], null, null);
+            }
+            this.possibleStates = List.of(registryOrder);
+            // Sort by properties for binary search
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Long.compare(propertiesKeys[a], propertiesKeys[b]));
+            this.propertiesKeys = new long[count];
+            this.states = new BlockImpl[count];
+            List<Map<String, Object>> sortedOverrides = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final int index = order[i];
+                this.propertiesKeys[i] = propertiesKeys[index];
+                this.states[i] = registryOrder[index];
+                sortedOverrides.add(overrides.get(index));
+            }
+            this.overrides = sortedOverrides;
+        }
+
+        private BlockImpl state(long propertiesArray) {
+            final int index = Arrays.binarySearch(propertiesKeys, propertiesArray);
+            assert index >= 0;
+            return states[index];
+        }
+
+        private Registry.BlockEntry createEntry(long propertiesArray) {
+            final int index = Arrays.binarySearch(propertiesKeys, propertiesArray);
+            assert index >= 0;
+            final var mainProperties = Registry.Properties.fromMap(new MergedMap<>(overrides.get(index), properties));
+            return Registry.block(namespace.asString(), mainProperties);
+        }
+    }
+
     static long updateIndex(long value, int index, byte newValue) {
         final int position = index * BITS_PER_INDEX;
         final int mask = (1 << BITS_PER_INDEX) - 1;
@@ -1,19 +1,36 @@
 package net.minestom.server.instance.palette;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.MathUtils;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.IntUnaryOperator;
 
 /**
  * Palette that switches between its backend based on the use case.
+ * <p>
+ * Clones share their backend until one of them is modified (copy-on-write),
+ * making the clone of an unmodified palette constant time. Interned palettes
+ * share their backend the same way with every palette holding the same entries.
  */
 final class AdaptivePalette implements Palette, Cloneable {
+    // Content -> backend shared by the interned palettes
+    private static final Cache<Object, SpecializedPalette> INTERNED = Caffeine.newBuilder().weakValues().build();
+
     final byte dimension, defaultBitsPerEntry, maxBitsPerEntry;
     SpecializedPalette palette;
+    // Whether the backend may be referenced by another palette, and must be copied before any modification.
+    // Like the palette content, only accessed under the lock of the owning chunk (including clones)
+    boolean shared;
 
     AdaptivePalette(byte dimension, byte maxBitsPerEntry, byte bitsPerEntry) {
         validateDimension(dimension);
@@ -52,6 +69,7 @@ final class AdaptivePalette implements Palette, Cloneable {
     @Override
     public void fill(int value) {
         this.palette = new FilledPalette(dimension, value);
+        this.shared = false;
     }
 
     @Override
@@ -59,6 +77,7 @@ final class AdaptivePalette implements Palette, Cloneable {
         SpecializedPalette newPalette = new FlexiblePalette(this);
         newPalette.setAll(supplier);
         this.palette = newPalette;
+        this.shared = false;
     }
 
     @Override
@@ -74,11 +93,58 @@ final class AdaptivePalette implements Palette, Cloneable {
         flexiblePalette().replaceAll(function);
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        validateBox(minX, minY, minZ, maxX, maxY, maxZ);
+        if (isEmptyBox(minX, minY, minZ, maxX, maxY, maxZ)) return;
+        if (isFullBox(minX, minY, minZ, maxX, maxY, maxZ)) {
+            fill(value);
+            return;
+        }
+        if (palette instanceof FilledPalette filledPalette && filledPalette.value() == value) return;
+        flexiblePalette().fill(minX, minY, minZ, maxX, maxY, maxZ, value);
+    }
+
+    @Override
+    public void copyFrom(@NotNull Palette source, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        Check.argCondition(source.dimension() != dimension,
+                "Source dimension {0} does not match {1}", source.dimension(), dimension);
+        validateBox(minX, minY, minZ, maxX, maxY, maxZ);
+        if (source == this || isEmptyBox(minX, minY, minZ, maxX, maxY, maxZ)) return;
+        SpecializedPalette sourcePalette = source instanceof AdaptivePalette adaptive ? adaptive.palette : null;
+        if (sourcePalette instanceof FilledPalette filledPalette) {
+            fill(minX, minY, minZ, maxX, maxY, maxZ, filledPalette.value());
+        } else if (isFullBox(minX, minY, minZ, maxX, maxY, maxZ) && source instanceof AdaptivePalette adaptive &&
+                adaptive.maxBitsPerEntry == maxBitsPerEntry && adaptive.defaultBitsPerEntry == defaultBitsPerEntry) {
+            // Copy the whole backend at once, the source may belong to another chunk
+            // and cannot share its backend without holding its lock
+            this.palette = sourcePalette.clone();
+            this.shared = false;
+        } else {
+            flexiblePalette().copyFrom(source, minX, minY, minZ, maxX, maxY, maxZ);
+        }
+    }
+
+    @Override
+    public void replaceValues(@NotNull IntUnaryOperator function) {
+        if (palette instanceof FilledPalette filledPalette) {
+            final int value = function.applyAsInt(filledPalette.value());
+            if (value != filledPalette.value()) fill(value);
+            return;
+        }
+        flexiblePalette().replaceValues(function);
+    }
+
     @Override
     public int count() {
         return palette.count();
     }
 
+    @Override
+    public int count(int value) {
+        return palette.count(value);
+    }
+
     @Override
     public int bitsPerEntry() {
         return palette.bitsPerEntry();
@@ -98,17 +164,36 @@ final class AdaptivePalette implements Palette, Cloneable {
     public @NotNull Palette clone() {
         try {
             AdaptivePalette adaptivePalette = (AdaptivePalette) super.clone();
-            adaptivePalette.palette = palette.clone();
+            if (!(palette instanceof SpecializedPalette.Immutable)) {
+                this.shared = true;
+                adaptivePalette.shared = true;
+            }
             return adaptivePalette;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public void intern() {
+        final SpecializedPalette optimized = optimizedPalette();
+        if (optimized != this.palette) {
+            this.palette = optimized;
+            this.shared = false;
+        }
+        final Object key = optimized instanceof FlexiblePalette flexiblePalette ? flexiblePalette.contentKey() : optimized;
+        final SpecializedPalette interned = INTERNED.get(key, k -> optimized);
+        this.palette = interned;
+        if (interned instanceof FlexiblePalette) this.shared = true;
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         final SpecializedPalette optimized = optimizedPalette();
-        this.palette = optimized;
+        if (optimized != this.palette) {
+            this.palette = optimized;
+            this.shared = false;
+        }
         optimized.write(writer);
     }
 
@@ -128,6 +213,7 @@ final class AdaptivePalette implements Palette, Cloneable {
                     return new FilledPalette(dimension, entries.iterator().nextInt());
                 } else if (currentBitsPerEntry > defaultBitsPerEntry &&
                         (bitsPerEntry = MathUtils.bitsToRepresent(entries.size() - 1)) < currentBitsPerEntry) {
+                    if (shared) flexiblePalette = (FlexiblePalette) flexiblePalette.clone();
                     flexiblePalette.resize((byte) bitsPerEntry);
                     return flexiblePalette;
                 }
@@ -142,10 +228,46 @@ final class AdaptivePalette implements Palette, Cloneable {
             currentPalette = new FlexiblePalette(this);
             currentPalette.fill(filledPalette.value());
             this.palette = currentPalette;
+            this.shared = false;
+        } else if (shared) {
+            currentPalette = currentPalette.clone();
+            this.palette = currentPalette;
+            this.shared = false;
         }
         return currentPalette;
     }
 
+    static @NotNull PaletteMemoryUsage memoryUsage(@NotNull Collection<? extends Palette> palettes) {
+        Set<SpecializedPalette> contents = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (Palette palette : palettes) {
+            final AdaptivePalette adaptivePalette = (AdaptivePalette) palette;
+            bytes += 24; // Adaptive palette
+            final SpecializedPalette content = adaptivePalette.palette;
+            if (contents.add(content)) bytes += content.sizeInBytes();
+        }
+        return new PaletteMemoryUsage(palettes.size(), contents.size(), bytes);
+    }
+
+    private void validateBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        final int dimension = this.dimension;
+        if (minX < 0 || minY < 0 || minZ < 0) {
+            throw new IllegalArgumentException("Coordinates must be positive");
+        }
+        if (maxX > dimension || maxY > dimension || maxZ > dimension) {
+            throw new IllegalArgumentException("Coordinates must be lower or equal to the dimension");
+        }
+    }
+
+    private boolean isFullBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        final int dimension = this.dimension;
+        return minX == 0 && minY == 0 && minZ == 0 && maxX == dimension && maxY == dimension && maxZ == dimension;
+    }
+
+    private static boolean isEmptyBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return minX >= maxX || minY >= maxY || minZ >= maxZ;
+    }
+
     private static void validateDimension(int dimension) {
         if (dimension <= 1 || (dimension & dimension - 1) != 0)
             throw new IllegalArgumentException("Dimension must be a positive power of 2");
@@ -35,11 +35,21 @@ record FilledPalette(byte dim, int value) implements SpecializedPalette.Immutabl
         return value != 0 ? maxSize() : 0;
     }
 
+    @Override
+    public int count(int value) {
+        return this.value == value ? maxSize() : 0;
+    }
+
     @Override
     public int dimension() {
         return dim;
     }
 
+    @Override
+    public long sizeInBytes() {
+        return 24;
+    }
+
     @Override
     public @NotNull SpecializedPalette clone() {
         return this;
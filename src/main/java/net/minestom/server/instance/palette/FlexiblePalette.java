@@ -1,5 +1,6 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minestom.server.MinecraftServer;
@@ -8,6 +9,7 @@ import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntUnaryOperator;
 
@@ -18,6 +20,16 @@ import static net.minestom.server.network.NetworkBuffer.*;
  */
 final class FlexiblePalette implements SpecializedPalette, Cloneable {
     private static final ThreadLocal<int[]> WRITE_CACHE = ThreadLocal.withInitial(() -> new int[4096]);
+    // Bits per entry -> long with the lowest bit of each entry set
+    private static final long[] LOW_BITS = new long[33];
+
+    static {
+        for (int bitsPerEntry = 1; bitsPerEntry < LOW_BITS.length; bitsPerEntry++) {
+            long lowBits = 0;
+            for (int i = 0; i < 64 / bitsPerEntry; i++) lowBits |= 1L << i * bitsPerEntry;
+            LOW_BITS[bitsPerEntry] = lowBits;
+        }
+    }
 
     // Specific to this palette type
     private final AdaptivePalette adaptivePalette;
@@ -173,11 +185,132 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         this.count = count.getPlain();
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        final int paletteIndex = getPaletteIndex(value);
+        final long pattern = LOW_BITS[bitsPerEntry] * paletteIndex;
+        final int removed = forEachRange(minX, minY, minZ, maxX, maxY, maxZ,
+                (start, end) -> fillRange(start, end, pattern));
+        final int size = (maxX - minX) * (maxY - minY) * (maxZ - minZ);
+        this.count += (paletteIndex != 0 ? size : 0) - removed;
+    }
+
+    @Override
+    public void copyFrom(@NotNull Palette source, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        if (source instanceof AdaptivePalette adaptivePalette) source = adaptivePalette.palette;
+        if (source instanceof FlexiblePalette flexiblePalette) {
+            copyFrom(flexiblePalette, minX, minY, minZ, maxX, maxY, maxZ);
+            return;
+        }
+        for (int y = minY; y < maxY; y++)
+            for (int z = minZ; z < maxZ; z++)
+                for (int x = minX; x < maxX; x++)
+                    set(x, y, z, source.get(x, y, z));
+    }
+
+    private void copyFrom(@NotNull FlexiblePalette source, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        // Find the source entries present in the box
+        BitSet used = new BitSet();
+        forEachRange(minX, minY, minZ, maxX, maxY, maxZ, (start, end) -> {
+            for (int index = start; index < end; index++) used.set(source.paletteIndex(index));
+            return 0;
+        });
+        // Source palette index -> palette index, computed again if the palette had to be resized
+        int[] translation = new int[used.length()];
+        boolean identity;
+        byte bitsPerEntry;
+        do {
+            bitsPerEntry = this.bitsPerEntry;
+            identity = bitsPerEntry == source.bitsPerEntry;
+            for (int i = used.nextSetBit(0); i >= 0; i = used.nextSetBit(i + 1)) {
+                final int value = source.hasPalette() ? source.paletteToValueList.getInt(i) : i;
+                translation[i] = getPaletteIndex(value);
+                identity &= translation[i] == i;
+            }
+        } while (bitsPerEntry != this.bitsPerEntry);
+
+        final long[] sourceValues = source.values;
+        final int delta;
+        if (identity) {
+            // Same layout, copy whole words
+            delta = forEachRange(minX, minY, minZ, maxX, maxY, maxZ,
+                    (start, end) -> copyRange(sourceValues, start, end));
+        } else {
+            delta = forEachRange(minX, minY, minZ, maxX, maxY, maxZ, (start, end) -> {
+                int added = 0;
+                for (int index = start; index < end; index++) {
+                    final int paletteIndex = translation[source.paletteIndex(index)];
+                    added += setPaletteIndex(index, paletteIndex);
+                }
+                return added;
+            });
+        }
+        this.count += delta;
+    }
+
+    @Override
+    public void replaceValues(@NotNull IntUnaryOperator function) {
+        if (!hasPalette()) {
+            // Values are stored directly, only compute each of them once
+            int[] table = new int[maxPaletteSize(bitsPerEntry)];
+            Arrays.fill(table, -1);
+            remap(table, function);
+            return;
+        }
+        final int[] oldValues = paletteToValueList.toIntArray();
+        IntArrayList paletteToValueList = new IntArrayList(oldValues.length);
+        paletteToValueList.add(0);
+        Int2IntOpenHashMap valueToPaletteMap = new Int2IntOpenHashMap(oldValues.length);
+        valueToPaletteMap.put(0, 0);
+        valueToPaletteMap.defaultReturnValue(-1);
+        // Old palette index -> new palette index
+        int[] table = new int[oldValues.length];
+        boolean identity = true;
+        for (int i = 0; i < oldValues.length; i++) {
+            final int newValue = function.applyAsInt(oldValues[i]);
+            int paletteIndex = valueToPaletteMap.putIfAbsent(newValue, paletteToValueList.size());
+            if (paletteIndex == -1) {
+                paletteIndex = paletteToValueList.size();
+                paletteToValueList.add(newValue);
+            }
+            table[i] = paletteIndex;
+            identity &= paletteIndex == i;
+        }
+        if (paletteToValueList.size() > maxPaletteSize(bitsPerEntry)) {
+            // The empty value is always kept in the palette, which may need one more entry
+            resize((byte) (bitsPerEntry + 1));
+            replaceValues(function);
+            return;
+        }
+        this.paletteToValueList = paletteToValueList;
+        this.valueToPaletteMap = valueToPaletteMap;
+        // Entries only need to be rewritten if two values have been merged or the empty value changed
+        if (!identity) remap(table, null);
+    }
+
     @Override
     public int count() {
         return count;
     }
 
+    @Override
+    public int count(int value) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int paletteIndex = hasPalette() ? valueToPaletteMap.get(value) : value;
+        if (paletteIndex < 0 || paletteIndex >= maxPaletteSize(bitsPerEntry)) return 0;
+        if (paletteIndex == 0) return maxSize() - count;
+        final long pattern = LOW_BITS[bitsPerEntry] * paletteIndex;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int size = maxSize();
+        final long[] values = this.values;
+        int different = 0;
+        for (int i = 0; i < values.length; i++) {
+            final int entries = Math.min(valuesPerLong, size - i * valuesPerLong);
+            different += countNonZero((values[i] ^ pattern) & entriesMask(bitsPerEntry, 0, entries), bitsPerEntry);
+        }
+        return size - different;
+    }
+
     @Override
     public int bitsPerEntry() {
         return bitsPerEntry;
@@ -193,6 +326,24 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         return adaptivePalette.dimension();
     }
 
+    @Override
+    public long sizeInBytes() {
+        // Object headers and fields, the palette list and map are estimated from their size
+        final int paletteSize = paletteToValueList.size();
+        final long mapArrays = 2L * (16 + 4L * (HashCommon.arraySize(paletteSize, Int2IntOpenHashMap.DEFAULT_LOAD_FACTOR) + 1));
+        return 32 + (16 + 8L * values.length) + (24 + 16 + 4L * paletteSize) + (64 + mapArrays);
+    }
+
+    /**
+     * Key used to find the palettes holding the same entries, see {@link AdaptivePalette#intern()}.
+     * <p>
+     * Arrays are not copied, the palette must not be modified once interned.
+     */
+    @NotNull Object contentKey() {
+        final int[] palette = hasPalette() ? paletteToValueList.toIntArray() : null;
+        return new ContentKey((byte) dimension(), (byte) maxBitsPerEntry(), bitsPerEntry, palette, values);
+    }
+
     @Override
     public @NotNull SpecializedPalette clone() {
         try {
@@ -266,6 +417,129 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         }
     }
 
+    private int forEachRange(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, RangeOperation operation) {
+        final int dimension = dimension();
+        int result = 0;
+        if (minX == 0 && maxX == dimension) {
+            if (minZ == 0 && maxZ == dimension) {
+                // Contiguous layers
+                return operation.apply(getSectionIndex(dimension, 0, minY, 0),
+                        getSectionIndex(dimension, 0, minY, 0) + (maxY - minY) * dimension * dimension);
+            }
+            for (int y = minY; y < maxY; y++) {
+                final int start = getSectionIndex(dimension, 0, y, minZ);
+                result += operation.apply(start, start + (maxZ - minZ) * dimension);
+            }
+            return result;
+        }
+        for (int y = minY; y < maxY; y++) {
+            for (int z = minZ; z < maxZ; z++) {
+                final int start = getSectionIndex(dimension, minX, y, z);
+                result += operation.apply(start, start + maxX - minX);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets the entries in [start, end) to the same palette index.
+     *
+     * @return the number of non-empty entries overwritten
+     */
+    private int fillRange(int start, int end, long pattern) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long[] values = this.values;
+        int removed = 0;
+        int index = start;
+        while (index < end) {
+            final int word = index / valuesPerLong;
+            final int from = index - word * valuesPerLong;
+            final int to = Math.min(valuesPerLong, from + end - index);
+            final long mask = entriesMask(bitsPerEntry, from, to);
+            final long block = values[word];
+            removed += countNonZero(block & mask, bitsPerEntry);
+            values[word] = block & ~mask | pattern & mask;
+            index += to - from;
+        }
+        return removed;
+    }
+
+    /**
+     * Copies the entries in [start, end) from a palette using the same layout.
+     *
+     * @return the difference in non-empty entries
+     */
+    private int copyRange(long[] sourceValues, int start, int end) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long[] values = this.values;
+        int delta = 0;
+        int index = start;
+        while (index < end) {
+            final int word = index / valuesPerLong;
+            final int from = index - word * valuesPerLong;
+            final int to = Math.min(valuesPerLong, from + end - index);
+            final long mask = entriesMask(bitsPerEntry, from, to);
+            final long block = values[word];
+            final long copied = sourceValues[word] & mask;
+            delta += countNonZero(copied, bitsPerEntry) - countNonZero(block & mask, bitsPerEntry);
+            values[word] = block & ~mask | copied;
+            index += to - from;
+        }
+        return delta;
+    }
+
+    /**
+     * Rewrites every entry through a palette index lookup table, negative entries are computed using {@code function}.
+     */
+    private void remap(int[] table, IntUnaryOperator function) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int mask = (1 << bitsPerEntry) - 1;
+        final int size = maxSize();
+        final long[] values = this.values;
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            final long block = values[i];
+            final int entries = Math.min(valuesPerLong, size - i * valuesPerLong);
+            long result = 0;
+            for (int j = 0; j < entries; j++) {
+                final int bitIndex = j * bitsPerEntry;
+                final int paletteIndex = (int) (block >>> bitIndex) & mask;
+                int newIndex = table[paletteIndex];
+                if (newIndex < 0) table[paletteIndex] = newIndex = function.applyAsInt(paletteIndex);
+                result |= (long) newIndex << bitIndex;
+            }
+            count += countNonZero(result, bitsPerEntry);
+            values[i] = result;
+        }
+        this.count = count;
+    }
+
+    private int paletteIndex(int sectionIndex) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int index = sectionIndex / valuesPerLong;
+        final int bitIndex = (sectionIndex - index * valuesPerLong) * bitsPerEntry;
+        return (int) (values[index] >>> bitIndex) & ((1 << bitsPerEntry) - 1);
+    }
+
+    /**
+     * @return the difference in non-empty entries
+     */
+    private int setPaletteIndex(int sectionIndex, int paletteIndex) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int index = sectionIndex / valuesPerLong;
+        final int bitIndex = (sectionIndex - index * valuesPerLong) * bitsPerEntry;
+        final long clear = (1L << bitsPerEntry) - 1L;
+        final long block = values[index];
+        final boolean wasEmpty = (block >>> bitIndex & clear) == 0;
+        values[index] = block & ~(clear << bitIndex) | ((long) paletteIndex << bitIndex);
+        return (paletteIndex == 0 ? 0 : 1) - (wasEmpty ? 0 : 1);
+    }
+
     void resize(byte newBitsPerEntry) {
         newBitsPerEntry = newBitsPerEntry > maxBitsPerEntry() ? 15 : newBitsPerEntry;
         FlexiblePalette palette = new FlexiblePalette(adaptivePalette, newBitsPerEntry);
@@ -308,4 +582,50 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     static int maxPaletteSize(int bitsPerEntry) {
         return 1 << bitsPerEntry;
     }
+
+    /**
+     * Returns the bits of the entries in [from, to) of a long.
+     */
+    static long entriesMask(int bitsPerEntry, int from, int to) {
+        final int end = to * bitsPerEntry;
+        final long high = end == 64 ? -1L : (1L << end) - 1;
+        return high & -(1L << from * bitsPerEntry);
+    }
+
+    /**
+     * Counts the entries of a long which are not zero, without extracting them one by one.
+     */
+    static int countNonZero(long block, int bitsPerEntry) {
+        final long highBits = LOW_BITS[bitsPerEntry] << (bitsPerEntry - 1);
+        final long lowBits = (LOW_BITS[bitsPerEntry] * ((1L << bitsPerEntry) - 1)) & ~highBits;
+        // The highest bit of each entry is set if any of its bits is
+        return Long.bitCount((((block & lowBits) + lowBits) | block) & highBits);
+    }
+
+    private record ContentKey(byte dimension, byte maxBitsPerEntry, byte bitsPerEntry,
+                              int[] palette, long[] values, int hash) {
+        ContentKey(byte dimension, byte maxBitsPerEntry, byte bitsPerEntry, int[] palette, long[] values) {
+            this(dimension, maxBitsPerEntry, bitsPerEntry, palette, values,
+                    31 * (31 * bitsPerEntry + Arrays.hashCode(palette)) + Arrays.hashCode(values));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ContentKey that)) return false;
+            return hash == that.hash && dimension == that.dimension && maxBitsPerEntry == that.maxBitsPerEntry &&
+                    bitsPerEntry == that.bitsPerEntry &&
+                    Arrays.equals(palette, that.palette) && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeOperation {
+        int apply(int start, int end);
+    }
 }
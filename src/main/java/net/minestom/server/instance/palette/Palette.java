@@ -39,11 +39,57 @@ public interface Palette extends NetworkBuffer.Writer {
 
     void replaceAll(@NotNull EntryFunction function);
 
+    /**
+     * Sets every entry of a box to the same value.
+     *
+     * @param minX  the minimum x coordinate, inclusive
+     * @param minY  the minimum y coordinate, inclusive
+     * @param minZ  the minimum z coordinate, inclusive
+     * @param maxX  the maximum x coordinate, exclusive
+     * @param maxY  the maximum y coordinate, exclusive
+     * @param maxZ  the maximum z coordinate, exclusive
+     * @param value the new value
+     */
+    void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value);
+
+    /**
+     * Copies the entries of a box from another palette, at the same coordinates.
+     * <p>
+     * The source palette is only read, it must not be modified during the copy.
+     *
+     * @param source the palette to copy from, must have the same dimension
+     * @param minX   the minimum x coordinate, inclusive
+     * @param minY   the minimum y coordinate, inclusive
+     * @param minZ   the minimum z coordinate, inclusive
+     * @param maxX   the maximum x coordinate, exclusive
+     * @param maxY   the maximum y coordinate, exclusive
+     * @param maxZ   the maximum z coordinate, exclusive
+     */
+    void copyFrom(@NotNull Palette source, int minX, int minY, int minZ, int maxX, int maxY, int maxZ);
+
+    /**
+     * Replaces every value of the palette.
+     * <p>
+     * Unlike {@link #replaceAll(EntryFunction)}, {@code function} is called per distinct value
+     * and not per entry, it must therefore not depend on the coordinates nor have side effects.
+     *
+     * @param function the function computing the new value from the old one
+     */
+    void replaceValues(@NotNull IntUnaryOperator function);
+
     /**
      * Returns the number of entries in this palette.
      */
     int count();
 
+    /**
+     * Returns the number of entries equal to {@code value}.
+     *
+     * @param value the value to count
+     * @return the number of entries equal to {@code value}
+     */
+    int count(int value);
+
     /**
      * Returns the number of bits used per entry.
      */
@@ -63,6 +109,13 @@ public interface Palette extends NetworkBuffer.Writer {
 
     @NotNull Palette clone();
 
+    /**
+     * Shares the content of this palette with the other palettes holding the same entries.
+     * <p>
+     * The content is compacted first, and copied again the next time this palette is modified.
+     */
+    void intern();
+
     @FunctionalInterface
     interface EntrySupplier {
         int get(int x, int y, int z);
@@ -0,0 +1,19 @@
+package net.minestom.server.instance.palette;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Estimated heap used by a group of palettes.
+ *
+ * @param palettes the number of palettes
+ * @param contents the number of distinct contents, lower than {@code palettes} when some of them are shared
+ *                 (see {@link Palette#clone()} and {@link Palette#intern()})
+ * @param bytes    the estimated number of bytes, shared contents are only counted once
+ */
+public record PaletteMemoryUsage(int palettes, int contents, long bytes) {
+    public static @NotNull PaletteMemoryUsage of(@NotNull Collection<? extends Palette> palettes) {
+        return AdaptivePalette.memoryUsage(palettes);
+    }
+}
@@ -18,6 +18,16 @@ interface SpecializedPalette extends Palette {
     @Override
     @NotNull SpecializedPalette clone();
 
+    @Override
+    default void intern() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this palette.
+     */
+    long sizeInBytes();
+
     interface Immutable extends SpecializedPalette {
         @Override
         default void set(int x, int y, int z, int value) {
@@ -43,5 +53,20 @@ interface SpecializedPalette extends Palette {
         default void replaceAll(@NotNull EntryFunction function) {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        default void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default void copyFrom(@NotNull Palette source, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default void replaceValues(@NotNull IntUnaryOperator function) {
+            throw new UnsupportedOperationException();
+        }
     }
 }
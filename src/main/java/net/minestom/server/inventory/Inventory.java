@@ -1,6 +1,7 @@
 package net.minestom.server.inventory;
 
 import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.Viewable;
 import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.click.ClickType;
@@ -10,12 +11,11 @@ import net.minestom.server.network.packet.server.play.OpenWindowPacket;
 import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import net.minestom.server.network.packet.server.play.WindowPropertyPacket;
+import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.inventory.PlayerInventoryUtils;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -41,6 +41,12 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     private final Set<Player> viewers = new CopyOnWriteArraySet<>();
     private final Set<Player> unmodifiableViewers = Collections.unmodifiableSet(viewers);
 
+    // whether slot changes are batched until the end of the tick
+    private volatile boolean deferredUpdates;
+    // the slots modified since the last flush, guarded by the inventory lock
+    private final BitSet dirtySlots = new BitSet();
+    private boolean flushScheduled;
+
     public Inventory(@NotNull InventoryType inventoryType, @NotNull Component title) {
         super(inventoryType.getSize());
         this.id = generateId();
@@ -96,12 +102,40 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
         return id;
     }
 
+    /**
+     * Gets if slot changes are sent at the end of the tick instead of immediately.
+     *
+     * @return true if slot updates are deferred
+     * @see #setDeferredUpdates(boolean)
+     */
+    public boolean hasDeferredUpdates() {
+        return deferredUpdates;
+    }
+
+    /**
+     * Changes if slot changes are sent at the end of the tick instead of immediately.
+     * <p>
+     * When enabled, the slots modified during a tick are tracked and sent once at the end of the tick,
+     * either as a run of {@link SetSlotPacket} or as a single {@link WindowItemsPacket} when most slots changed.
+     * Packets are encoded once and shared by all viewers, which is recommended for inventories viewed by many players.
+     *
+     * @param deferredUpdates true to defer slot updates to the end of the tick
+     */
+    public void setDeferredUpdates(boolean deferredUpdates) {
+        this.deferredUpdates = deferredUpdates;
+        // Send the pending changes
+        if (!deferredUpdates) flushUpdates();
+    }
+
     /**
      * Refreshes the inventory for all viewers.
      */
     @Override
     public void update() {
-        this.viewers.forEach(p -> p.sendPacket(createNewWindowItemsPacket(p)));
+        synchronized (this) {
+            this.dirtySlots.clear();
+        }
+        sendWindowItems();
     }
 
     /**
@@ -172,7 +206,52 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     @Override
     protected void UNSAFE_itemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket) {
         itemStacks[slot] = itemStack;
-        if (sendPacket) sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+        if (!sendPacket) return;
+        if (deferredUpdates) {
+            markDirty(slot);
+        } else {
+            sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+        }
+    }
+
+    private synchronized void markDirty(int slot) {
+        this.dirtySlots.set(slot);
+        if (!flushScheduled) {
+            this.flushScheduled = true;
+            MinecraftServer.getSchedulerManager().scheduleEndOfTick(this::flushUpdates);
+        }
+    }
+
+    private void flushUpdates() {
+        final int[] slots;
+        synchronized (this) {
+            this.flushScheduled = false;
+            if (dirtySlots.isEmpty()) return;
+            slots = dirtySlots.stream().toArray();
+            this.dirtySlots.clear();
+        }
+        if (viewers.isEmpty()) return;
+        if (slots.length > getSize() / 2) {
+            // Most of the window changed, a single packet is smaller
+            sendWindowItems();
+        } else {
+            for (int slot : slots) {
+                sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, getItemStack(slot)));
+            }
+        }
+    }
+
+    private void sendWindowItems() {
+        if (viewers.isEmpty()) return;
+        final List<ItemStack> items = List.of(getItemStacks());
+        // The cursor is part of the packet, share the encoding between viewers holding the same item
+        Map<ItemStack, List<Player>> cursorGroups = new HashMap<>();
+        for (Player viewer : viewers) {
+            final ItemStack cursor = viewer.getInventory().getCursorItem();
+            cursorGroups.computeIfAbsent(cursor, c -> new ArrayList<>()).add(viewer);
+        }
+        cursorGroups.forEach((cursor, players) ->
+                PacketUtils.sendGroupedPacket(players, new WindowItemsPacket(getWindowId(), 0, items, cursor)));
     }
 
     private @NotNull WindowItemsPacket createNewWindowItemsPacket(Player player) {
@@ -46,7 +46,7 @@ public sealed interface ItemStack extends TagReadable, DataComponent.Holder, Hov
 
             buffer.write(NetworkBuffer.VAR_INT, value.amount());
             buffer.write(NetworkBuffer.VAR_INT, value.material().id());
-            buffer.write(ItemComponent.PATCH_NETWORK_TYPE, ((ItemStackImpl) value).components());
+            ItemStackImpl.writePatch(buffer, ((ItemStackImpl) value).components());
         }
 
         @Override
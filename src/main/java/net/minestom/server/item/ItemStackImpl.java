@@ -1,10 +1,14 @@
 package net.minestom.server.item;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.component.DataComponent;
 import net.minestom.server.component.DataComponentMap;
 import net.minestom.server.item.component.*;
+import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.Unit;
 import net.minestom.server.utils.nbt.BinaryTagSerializer;
@@ -13,13 +17,18 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
 record ItemStackImpl(Material material, int amount, DataComponentMap components) implements ItemStack {
+    // Encoded forms of the immutable patches and stacks, weakly keyed by identity
+    private static final Cache<DataComponentMap, byte[]> PATCH_NETWORK_CACHE = Caffeine.newBuilder().weakKeys().build();
+    private static final Cache<ItemStack, CompoundBinaryTag> NBT_CACHE = Caffeine.newBuilder().weakKeys().build();
 
     static ItemStack create(Material material, int amount, DataComponentMap components) {
         if (amount <= 0) return AIR;
+        if (components == DataComponentMap.EMPTY) return SimpleStacks.get(material, amount);
         return new ItemStackImpl(material, amount, components);
     }
 
@@ -27,6 +36,16 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
         return create(material, amount, DataComponentMap.EMPTY);
     }
 
+    static void writePatch(@NotNull NetworkBuffer buffer, @NotNull DataComponentMap components) {
+        if (!ServerFlag.ITEM_ENCODING_CACHE || components == DataComponentMap.EMPTY) {
+            buffer.write(ItemComponent.PATCH_NETWORK_TYPE, components);
+            return;
+        }
+        final byte[] bytes = PATCH_NETWORK_CACHE.get(components, patch ->
+                NetworkBuffer.makeArray(writer -> writer.write(ItemComponent.PATCH_NETWORK_TYPE, patch)));
+        buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+    }
+
     public ItemStackImpl {
         Check.notNull(material, "Material cannot be null");
 
@@ -116,6 +135,11 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
     }
 
     static @NotNull CompoundBinaryTag toCompound(@NotNull ItemStack itemStack) {
+        if (!ServerFlag.ITEM_ENCODING_CACHE) return createCompound(itemStack);
+        return NBT_CACHE.get(itemStack, ItemStackImpl::createCompound);
+    }
+
+    private static @NotNull CompoundBinaryTag createCompound(@NotNull ItemStack itemStack) {
         CompoundBinaryTag.Builder tag = CompoundBinaryTag.builder();
         tag.putString("id", itemStack.material().name());
         tag.putInt("count", itemStack.amount());
@@ -127,6 +151,29 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
         return tag.build();
     }
 
+    /**
+     * Stacks without components are the most common, they are shared instead of allocated on each creation.
+     */
+    private static final class SimpleStacks {
+        private static final int MAX_AMOUNT = 64;
+        private static volatile ItemStack[][] stacksById = new ItemStack[0][];
+
+        static ItemStack get(Material material, int amount) {
+            final int id = material.id();
+            if (amount > MAX_AMOUNT || id < 0) return new ItemStackImpl(material, amount, DataComponentMap.EMPTY);
+            // Racy initialization is fine, stacks are immutable and a lost write only costs an allocation
+            ItemStack[][] stacksById = SimpleStacks.stacksById;
+            if (id >= stacksById.length) {
+                SimpleStacks.stacksById = stacksById = Arrays.copyOf(stacksById, Math.max(id + 1, stacksById.length * 2));
+            }
+            ItemStack[] stacks = stacksById[id];
+            if (stacks == null) stacksById[id] = stacks = new ItemStack[MAX_AMOUNT];
+            ItemStack stack = stacks[amount - 1];
+            if (stack == null) stacks[amount - 1] = stack = new ItemStackImpl(material, amount, DataComponentMap.EMPTY);
+            return stack;
+        }
+    }
+
     static final class Builder implements ItemStack.Builder {
         private Material material;
         private int amount;
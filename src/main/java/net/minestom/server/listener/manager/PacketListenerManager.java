@@ -1,6 +1,7 @@
 package net.minestom.server.listener.manager;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.listener.*;
@@ -22,22 +23,35 @@ import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
 import net.minestom.server.network.packet.client.play.*;
 import net.minestom.server.network.packet.client.status.StatusRequestPacket;
 import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.server.utils.collection.ObjectArray;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class PacketListenerManager {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(PacketListenerManager.class);
 
-    private final Map<Class<? extends ClientPacket>, PacketPrePlayListenerConsumer>[] listeners = new Map[ConnectionState.values().length];
+    // Dense index of each packet class, used instead of a map lookup for every received packet
+    private static final AtomicInteger NEXT_PACKET_INDEX = new AtomicInteger();
+    private static final ClassValue<Integer> PACKET_INDEX = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(@NotNull Class<?> type) {
+            return NEXT_PACKET_INDEX.getAndIncrement();
+        }
+    };
+
+    private final ObjectArray<Slot>[] slots = new ObjectArray[ConnectionState.values().length];
 
     public PacketListenerManager() {
-        for (int i = 0; i < listeners.length; i++) {
-            listeners[i] = new ConcurrentHashMap<>();
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = ObjectArray.concurrent();
         }
 
         setListener(ConnectionState.HANDSHAKE, ClientHandshakePacket.class, HandshakeListener::listener);
@@ -110,7 +124,8 @@ public final class PacketListenerManager {
     public <T extends ClientPacket> void processClientPacket(@NotNull T packet, @NotNull PlayerConnection connection) {
         final ConnectionState state = connection.getConnectionState();
         final Class clazz = packet.getClass();
-        PacketPrePlayListenerConsumer<T> packetListenerConsumer = listeners[state.ordinal()].get(clazz);
+        final Slot slot = slots[state.ordinal()].get(PACKET_INDEX.get(clazz));
+        final PacketPrePlayListenerConsumer<T> packetListenerConsumer = slot != null ? slot.listener : null;
 
         // Listener can be null if none has been set before, call PacketConsumer anyway
         if (packetListenerConsumer == null) {
@@ -118,21 +133,79 @@ public final class PacketListenerManager {
             return;
         }
 
-        // Event
-        if (state == ConnectionState.PLAY) {
-            PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(connection.getPlayer(), packet);
-            EventDispatcher.call(playerPacketEvent);
-            if (playerPacketEvent.isCancelled()) {
-                return;
+        final long start = ServerFlag.PACKET_STATISTICS ? System.nanoTime() : 0;
+        try {
+            // Event
+            if (state == ConnectionState.PLAY) {
+                PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(connection.getPlayer(), packet);
+                EventDispatcher.call(playerPacketEvent);
+                if (playerPacketEvent.isCancelled()) {
+                    return;
+                }
+            }
+
+            // Finally execute the listener
+            try {
+                packetListenerConsumer.accept(packet, connection);
+            } catch (Exception e) {
+                // Packet is likely invalid
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        } finally {
+            if (ServerFlag.PACKET_STATISTICS) {
+                slot.count.increment();
+                slot.processTime.add(System.nanoTime() - start);
             }
         }
+    }
 
-        // Finally execute the listener
-        try {
-            packetListenerConsumer.accept(packet, connection);
-        } catch (Exception e) {
-            // Packet is likely invalid
-            MinecraftServer.getExceptionManager().handleException(e);
+    /**
+     * Records the time spent decoding a packet, used when {@link ServerFlag#PACKET_STATISTICS} is enabled.
+     *
+     * @param state       the state in which the packet has been received
+     * @param packet      the decoded packet
+     * @param decodeNanos the time spent decoding the packet, in nanoseconds
+     */
+    @ApiStatus.Internal
+    public void recordDecode(@NotNull ConnectionState state, @NotNull ClientPacket packet, long decodeNanos) {
+        final Slot slot = slot(state, packet.getClass());
+        slot.decodeCount.increment();
+        slot.decodeTime.add(decodeNanos);
+    }
+
+    /**
+     * Gets the statistics of every packet type received since the last {@link #resetStatistics()}.
+     * <p>
+     * Always empty unless {@link ServerFlag#PACKET_STATISTICS} is enabled.
+     *
+     * @return the statistics of the received packet types
+     */
+    public @NotNull List<@NotNull PacketStatistics> getStatistics() {
+        List<PacketStatistics> statistics = new ArrayList<>();
+        for (ConnectionState state : ConnectionState.values()) {
+            for (Slot slot : slots[state.ordinal()].arrayCopy(Slot.class)) {
+                if (slot == null) continue;
+                final long count = slot.count.sum(), decodeCount = slot.decodeCount.sum();
+                if (count == 0 && decodeCount == 0) continue;
+                statistics.add(new PacketStatistics(state, slot.packetClass,
+                        decodeCount, slot.decodeTime.sum(), count, slot.processTime.sum()));
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Resets the counters returned by {@link #getStatistics()}.
+     */
+    public void resetStatistics() {
+        for (ObjectArray<Slot> stateSlots : slots) {
+            for (Slot slot : stateSlots.arrayCopy(Slot.class)) {
+                if (slot == null) continue;
+                slot.count.reset();
+                slot.processTime.reset();
+                slot.decodeCount.reset();
+                slot.decodeTime.reset();
+            }
         }
     }
 
@@ -147,7 +220,7 @@ public final class PacketListenerManager {
      * @param <T>         the type of the packet
      */
     public <T extends ClientPacket> void setListener(@NotNull ConnectionState state, @NotNull Class<T> packetClass, @NotNull PacketPrePlayListenerConsumer<T> consumer) {
-        this.listeners[state.ordinal()].put(packetClass, consumer);
+        slot(state, packetClass).listener = consumer;
     }
 
     /**
@@ -181,4 +254,30 @@ public final class PacketListenerManager {
         setPlayListener(packetClass, consumer);
     }
 
+    private Slot slot(ConnectionState state, Class<? extends ClientPacket> packetClass) {
+        final ObjectArray<Slot> stateSlots = slots[state.ordinal()];
+        final int index = PACKET_INDEX.get(packetClass);
+        Slot slot = stateSlots.get(index);
+        if (slot == null) {
+            synchronized (stateSlots) {
+                slot = stateSlots.get(index);
+                if (slot == null) stateSlots.set(index, slot = new Slot(packetClass));
+            }
+        }
+        return slot;
+    }
+
+    private static final class Slot {
+        final Class<? extends ClientPacket> packetClass;
+        volatile PacketPrePlayListenerConsumer listener;
+
+        final LongAdder count = new LongAdder();
+        final LongAdder processTime = new LongAdder();
+        final LongAdder decodeCount = new LongAdder();
+        final LongAdder decodeTime = new LongAdder();
+
+        Slot(Class<? extends ClientPacket> packetClass) {
+            this.packetClass = packetClass;
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package net.minestom.server.listener.manager;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.ClientPacket;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counters of a received packet type, see {@link PacketListenerManager#getStatistics()}.
+ *
+ * @param state         the state in which the packets have been received
+ * @param packetClass   the type of the packets
+ * @param decodeCount   the number of decoded packets
+ * @param decodeNanos   the total time spent decoding the packets, in nanoseconds
+ * @param processCount  the number of processed packets
+ * @param processNanos  the total time spent in the event and the listener of the packets, in nanoseconds
+ */
+public record PacketStatistics(@NotNull ConnectionState state, @NotNull Class<? extends ClientPacket> packetClass,
+                               long decodeCount, long decodeNanos,
+                               long processCount, long processNanos) {
+    /**
+     * Gets the average time spent processing a packet.
+     *
+     * @return the average processing time in nanoseconds, 0 if no packet has been processed
+     */
+    public double averageProcessNanos() {
+        return processCount != 0 ? (double) processNanos / processCount : 0;
+    }
+
+    /**
+     * Gets the average time spent decoding a packet.
+     *
+     * @return the average decoding time in nanoseconds, 0 if no packet has been decoded
+     */
+    public double averageDecodeNanos() {
+        return decodeCount != 0 ? (double) decodeNanos / decodeCount : 0;
+    }
+}
@@ -6,6 +6,8 @@ import java.util.List;
 
 /**
  * Framebuffer to render to a map
+ * <p>
+ * Use a {@link MapUpdateTracker} to only send the parts of the map which changed between frames.
  */
 public interface Framebuffer {
 
@@ -78,6 +78,11 @@ public enum MapColors {
     // only used if mappingStrategy == ColorMappingStrategy.PRECISE
     private static volatile PreciseMapColor[] rgbArray = null;
 
+    // Index lookup table of closestColor, split in pages of 4096 colors allocated on first use.
+    // 0 (NONE) is never a closest color and marks unknown entries, racing writers only cause recomputation
+    private static final int INDEX_PAGE_SHIFT = 12;
+    private static final byte[][] indexPages = new byte[1 << (24 - INDEX_PAGE_SHIFT)][];
+
     private static final ColorMappingStrategy mappingStrategy;
     private static final int colorReduction;
 
@@ -209,6 +214,62 @@ public enum MapColors {
         return rgbMap.computeIfAbsent(noAlpha, MapColors::mapColor);
     }
 
+    /**
+     * Gets the map color index of the closest color, same as {@code closestColor(argb).getIndex()}.
+     * <p>
+     * Results are kept in a lookup table, making repeated conversions of the same colors cheap.
+     *
+     * @param argb the color to convert, alpha is ignored
+     * @return the closest map color index
+     */
+    public static byte closestIndex(int argb) {
+        final int rgb = argb & 0xFFFFFF;
+        byte[] page = indexPages[rgb >>> INDEX_PAGE_SHIFT];
+        if (page == null) {
+            page = new byte[1 << INDEX_PAGE_SHIFT];
+            indexPages[rgb >>> INDEX_PAGE_SHIFT] = page;
+        }
+        final int pageIndex = rgb & ((1 << INDEX_PAGE_SHIFT) - 1);
+        byte index = page[pageIndex];
+        if (index == 0) {
+            index = closestColor(rgb).getIndex();
+            page[pageIndex] = index;
+        }
+        return index;
+    }
+
+    /**
+     * Converts a rectangle of pixels to map color indices using {@link #closestIndex(int)}.
+     * Both arrays are addressed with the same coordinates.
+     *
+     * @param pixels       the source pixels, alpha is ignored
+     * @param pixelsStride the row length of {@code pixels}
+     * @param colors       the destination map colors
+     * @param colorsStride the row length of {@code colors}
+     * @param minX         the left of the rectangle
+     * @param minY         the top of the rectangle
+     * @param width        the width of the rectangle
+     * @param height       the height of the rectangle
+     */
+    public static void closestIndices(int[] pixels, int pixelsStride, byte[] colors, int colorsStride,
+                                      int minX, int minY, int width, int height) {
+        for (int y = minY; y < minY + height; y++) {
+            final int pixelsRow = y * pixelsStride;
+            final int colorsRow = y * colorsStride;
+            int previousPixel = 0;
+            byte previousIndex = 0;
+            for (int x = minX; x < minX + width; x++) {
+                final int pixel = pixels[pixelsRow + x] & 0xFFFFFF;
+                // Runs of the same color are common in rendered images
+                if (pixel != previousPixel || previousIndex == 0) {
+                    previousPixel = pixel;
+                    previousIndex = closestIndex(pixel);
+                }
+                colors[colorsRow + x] = previousIndex;
+            }
+        }
+    }
+
     private static int reduceColor(int rgb) {
         int red = (rgb >> 16) & 0xFF;
         int green = (rgb >> 8) & 0xFF;
@@ -0,0 +1,117 @@
+package net.minestom.server.map;
+
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the last frame sent for a single map, and prepares packets containing only the rectangle
+ * which changed since then.
+ * <p>
+ * One tracker should be used per map id, {@link #reset()} must be called when the map needs to be
+ * fully resent (e.g. for a new viewer).
+ */
+public final class MapUpdateTracker {
+    private static final int SIZE = Framebuffer.WIDTH * Framebuffer.HEIGHT;
+
+    private final byte[] lastFrame = new byte[SIZE];
+    private final byte[] currentFrame = new byte[SIZE];
+    private boolean sent;
+
+    /**
+     * Prepares the packet updating the map to the current content of a framebuffer.
+     *
+     * @param mapId       the map to update
+     * @param framebuffer the framebuffer to render
+     * @return the packet, null if nothing changed since the last call
+     */
+    public @Nullable MapDataPacket prepareUpdate(int mapId, @NotNull Framebuffer framebuffer) {
+        return packet(mapId, update(framebuffer.toMapColors()));
+    }
+
+    /**
+     * Prepares the packet updating the map to the current content of a 128x128 sub view of a large framebuffer.
+     *
+     * @param mapId       the map to update
+     * @param framebuffer the framebuffer to render
+     * @param left        the left of the sub view
+     * @param top         the top of the sub view
+     * @return the packet, null if nothing changed since the last call
+     * @see LargeFramebuffer#preparePacket(int, int, int)
+     */
+    public @Nullable MapDataPacket prepareUpdate(int mapId, @NotNull LargeFramebuffer framebuffer, int left, int top) {
+        final byte[] frame = this.currentFrame;
+        Arrays.fill(frame, (byte) 0);
+        final int width = Math.min(framebuffer.width(), left + Framebuffer.WIDTH) - left;
+        final int height = Math.min(framebuffer.height(), top + Framebuffer.HEIGHT) - top;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                frame[Framebuffer.index(x, y)] = framebuffer.getMapColor(x + left, y + top);
+            }
+        }
+        return packet(mapId, update(frame));
+    }
+
+    /**
+     * Computes the smallest rectangle containing every color which changed since the last frame,
+     * and remembers {@code colors} as the last frame.
+     *
+     * @param colors the new 128x128 frame
+     * @return the content of the changed rectangle, null if nothing changed
+     */
+    public @Nullable MapDataPacket.ColorContent update(byte @NotNull [] colors) {
+        Check.argCondition(colors.length != SIZE, "Expected {0} colors, got {1}", SIZE, colors.length);
+        final byte[] lastFrame = this.lastFrame;
+        if (!sent) {
+            this.sent = true;
+            System.arraycopy(colors, 0, lastFrame, 0, SIZE);
+            return content(colors, 0, 0, Framebuffer.WIDTH, Framebuffer.HEIGHT);
+        }
+        if (Arrays.equals(colors, lastFrame)) return null;
+
+        int minX = Framebuffer.WIDTH, maxX = -1;
+        int minY = -1, maxY = -1;
+        for (int y = 0; y < Framebuffer.HEIGHT; y++) {
+            final int row = y * Framebuffer.WIDTH;
+            final int first = Arrays.mismatch(colors, row, row + Framebuffer.WIDTH, lastFrame, row, row + Framebuffer.WIDTH);
+            if (first == -1) continue;
+            if (minY == -1) minY = y;
+            maxY = y;
+            minX = Math.min(minX, first);
+            int last = Framebuffer.WIDTH - 1;
+            while (last > maxX && colors[row + last] == lastFrame[row + last]) last--;
+            maxX = Math.max(maxX, last);
+        }
+        System.arraycopy(colors, 0, lastFrame, 0, SIZE);
+        return content(colors, minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    /**
+     * Forces the next update to contain the whole map.
+     */
+    public void reset() {
+        this.sent = false;
+    }
+
+    private static MapDataPacket.ColorContent content(byte[] colors, int minX, int minY, int width, int height) {
+        final byte[] data;
+        if (width == Framebuffer.WIDTH) {
+            data = Arrays.copyOfRange(colors, minY * Framebuffer.WIDTH, (minY + height) * Framebuffer.WIDTH);
+        } else {
+            data = new byte[width * height];
+            for (int y = 0; y < height; y++) {
+                System.arraycopy(colors, Framebuffer.index(minX, minY + y), data, y * width, width);
+            }
+        }
+        return new MapDataPacket.ColorContent((byte) width, (byte) height, (byte) minX, (byte) minY, data);
+    }
+
+    private static @Nullable MapDataPacket packet(int mapId, @Nullable MapDataPacket.ColorContent content) {
+        if (content == null) return null;
+        return new MapDataPacket(mapId, (byte) 0, false, false, List.of(), content);
+    }
+}
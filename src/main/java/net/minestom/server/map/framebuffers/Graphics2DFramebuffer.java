@@ -41,12 +41,7 @@ public class Graphics2DFramebuffer implements Framebuffer {
 
     @Override
     public byte[] toMapColors() {
-        // TODO: update subparts only
-        for (int x = 0; x < 128; x++) {
-            for (int z = 0; z < 128; z++) {
-                colors[Framebuffer.index(x, z)] = MapColors.closestColor(get(x, z)).getIndex();
-            }
-        }
+        MapColors.closestIndices(pixels, WIDTH, colors, WIDTH, 0, 0, WIDTH, HEIGHT);
         return colors;
     }
 }
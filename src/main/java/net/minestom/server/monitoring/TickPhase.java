@@ -0,0 +1,48 @@
+package net.minestom.server.monitoring;
+
+/**
+ * Sequential steps of a server tick, in execution order.
+ * <p>
+ * Nested phases are excluded from the duration of the phase they run in.
+ *
+ * @see TickProfile#phaseNanos(TickPhase)
+ */
+public enum TickPhase {
+    /**
+     * Scheduled tasks running at the start of the tick.
+     */
+    SCHEDULER,
+    /**
+     * Waiting players, keep alive and configuration players packets.
+     */
+    CONNECTION,
+    /**
+     * {@link net.minestom.server.instance.Instance#tick(long)} of every instance.
+     */
+    INSTANCE,
+    /**
+     * Chunk and entity ticks, dispatched to the tick threads.
+     */
+    DISPATCHER,
+    /**
+     * Removal of unloaded elements and partition refresh of the dispatcher.
+     */
+    THREAD_REFRESH,
+    /**
+     * Scheduled tasks running at the end of the tick.
+     */
+    SCHEDULER_END,
+    /**
+     * Snapshots taken by {@link net.minestom.server.snapshot.ServerSnapshot#updateEveryTick(java.util.function.Consumer)},
+     * nested in {@link #SCHEDULER_END}.
+     */
+    SNAPSHOT,
+    /**
+     * Viewable packets flush.
+     */
+    PACKET_FLUSH,
+    /**
+     * Socket writes of the network workers.
+     */
+    SOCKET_FLUSH
+}
@@ -0,0 +1,59 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Timings of a single server tick, recorded by the {@link TickProfiler}.
+ *
+ * @param tick            the tick number, starting at 0 when the profiler is created
+ * @param durationNanos   the total tick duration
+ * @param phaseNanos      the duration of each {@link TickPhase}, indexed by ordinal
+ * @param threadNanos     the time spent ticking chunks and entities by each tick thread
+ * @param instanceNanos   the time spent ticking each instance, including its chunks and entities, by instance UUID
+ * @param entityTypeNanos the time spent ticking entities, by entity type
+ * @param slowestChunks   the chunks which took the longest to tick (including their entities), slowest first
+ */
+public record TickProfile(long tick, long durationNanos,
+                          long @NotNull [] phaseNanos, long @NotNull [] threadNanos,
+                          @NotNull Map<UUID, Long> instanceNanos,
+                          @NotNull Map<EntityType, Long> entityTypeNanos,
+                          @NotNull List<ChunkTime> slowestChunks) {
+    public TickProfile {
+        phaseNanos = phaseNanos.clone();
+        threadNanos = threadNanos.clone();
+        instanceNanos = Map.copyOf(instanceNanos);
+        entityTypeNanos = Map.copyOf(entityTypeNanos);
+        slowestChunks = List.copyOf(slowestChunks);
+    }
+
+    public long phaseNanos(@NotNull TickPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Gets the time spent ticking entities of every type.
+     *
+     * @return the entity tick time
+     */
+    public long entityNanos() {
+        long total = 0;
+        for (long nanos : entityTypeNanos.values()) total += nanos;
+        return total;
+    }
+
+    /**
+     * Time spent ticking a chunk partition.
+     *
+     * @param instance the instance UUID of the chunk
+     * @param chunkX   the chunk X
+     * @param chunkZ   the chunk Z
+     * @param nanos    the time spent ticking the chunk and its entities
+     */
+    public record ChunkTime(@NotNull UUID instance, int chunkX, int chunkZ, long nanos) {
+    }
+}
@@ -0,0 +1,239 @@
+package net.minestom.server.monitoring;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.monitoring.jfr.ChunkTickEvent;
+import net.minestom.server.monitoring.jfr.InstanceTickEvent;
+import net.minestom.server.monitoring.jfr.TickEvent;
+import net.minestom.server.thread.TickThread;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records the duration of each {@link TickPhase} of the server ticks, broken down by instance, chunk and entity type.
+ * <p>
+ * Disabled by default, enabled with the {@code minestom.tick-profiler} system property.
+ * The last {@code minestom.tick-profiler.history} ticks are kept in memory, and each tick is also
+ * committed as JFR events ({@code minestom.Tick}, {@code minestom.InstanceTick} and {@code minestom.ChunkTick})
+ * when a recording is running.
+ * <p>
+ * When disabled, every recording method returns immediately without reading the clock.
+ */
+public final class TickProfiler {
+    private static final int SLOWEST_CHUNKS = 8;
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private final boolean enabled;
+    private final AtomicReferenceArray<TickProfile> history;
+
+    // Only written by the tick scheduler thread
+    private volatile long tick;
+    private final long[] phaseNanos = new long[PHASES.length];
+    // Duration of the nested phases recorded since the start of the current phase
+    private long nestedNanos;
+    private final Object2LongOpenHashMap<Instance> instanceNanos = new Object2LongOpenHashMap<>();
+
+    public TickProfiler() {
+        this(ServerFlag.TICK_PROFILER, ServerFlag.TICK_PROFILER_HISTORY);
+    }
+
+    TickProfiler(boolean enabled, int historySize) {
+        Check.argCondition(historySize <= 0, "The history size must be positive, got {0}", historySize);
+        this.enabled = enabled;
+        this.history = new AtomicReferenceArray<>(enabled ? historySize : 1);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the profile of the last completed tick.
+     *
+     * @return the last tick profile, null if disabled or if no tick completed yet
+     */
+    public @Nullable TickProfile lastTick() {
+        if (tick == 0) return null;
+        return history.get((int) ((tick - 1) % history.length()));
+    }
+
+    /**
+     * Gets the recorded tick profiles, the oldest first.
+     *
+     * @return the tick history, empty if disabled
+     */
+    public @NotNull List<@NotNull TickProfile> history() {
+        final int length = history.length();
+        List<TickProfile> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            final TickProfile profile = history.get(i);
+            if (profile != null) result.add(profile);
+        }
+        result.sort(Comparator.comparingLong(TickProfile::tick));
+        return result;
+    }
+
+    @ApiStatus.Internal
+    public long time() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Ends a tick phase.
+     *
+     * @param phase the ended phase
+     * @param start the phase start, as returned by {@link #time()} or a previous phase
+     * @return the phase end, to be used as the start of the next phase
+     */
+    @ApiStatus.Internal
+    public long phase(@NotNull TickPhase phase, long start) {
+        if (!enabled) return 0;
+        final long now = System.nanoTime();
+        this.phaseNanos[phase.ordinal()] += now - start - nestedNanos;
+        this.nestedNanos = 0;
+        return now;
+    }
+
+    /**
+     * Records a phase running inside the current one, its duration is excluded from the current phase.
+     *
+     * @param phase the nested phase
+     * @param start the nested phase start, as returned by {@link #time()}
+     */
+    @ApiStatus.Internal
+    public void nestedPhase(@NotNull TickPhase phase, long start) {
+        if (!enabled) return;
+        final long duration = System.nanoTime() - start;
+        this.phaseNanos[phase.ordinal()] += duration;
+        this.nestedNanos += duration;
+    }
+
+    @ApiStatus.Internal
+    public void recordInstance(@NotNull Instance instance, long start) {
+        if (!enabled) return;
+        this.instanceNanos.addTo(instance, System.nanoTime() - start);
+    }
+
+    /**
+     * Completes the current tick by merging the timings of the tick threads.
+     * <p>
+     * Must be called once the threads finished ticking.
+     *
+     * @param tickStart the tick start in nanoseconds
+     * @param threads   the threads which ticked chunks and entities
+     */
+    @ApiStatus.Internal
+    public void endTick(long tickStart, @NotNull List<@NotNull TickThread> threads) {
+        if (!enabled) return;
+        List<TickRecorder> recorders = new ArrayList<>(threads.size());
+        for (TickThread thread : threads) {
+            final TickRecorder recorder = thread.recorder();
+            if (recorder != null) recorders.add(recorder);
+        }
+        complete(tickStart, recorders);
+    }
+
+    void complete(long tickStart, @NotNull List<@NotNull TickRecorder> recorders) {
+        final long duration = System.nanoTime() - tickStart;
+        final long[] threadNanos = new long[recorders.size()];
+        Object2LongOpenHashMap<Instance> instances = this.instanceNanos;
+        Object2LongOpenHashMap<Chunk> chunks = new Object2LongOpenHashMap<>();
+        Object2LongOpenHashMap<EntityType> entityTypes = new Object2LongOpenHashMap<>();
+        for (int i = 0; i < threadNanos.length; i++) {
+            final TickRecorder recorder = recorders.get(i);
+            threadNanos[i] = recorder.busyNanos;
+            for (Object2LongMap.Entry<Instance> entry : recorder.instances.object2LongEntrySet()) {
+                instances.addTo(entry.getKey(), entry.getLongValue());
+            }
+            for (Object2LongMap.Entry<Chunk> entry : recorder.chunks.object2LongEntrySet()) {
+                chunks.addTo(entry.getKey(), entry.getLongValue());
+            }
+            for (Object2LongMap.Entry<EntityType> entry : recorder.entityTypes.object2LongEntrySet()) {
+                entityTypes.addTo(entry.getKey(), entry.getLongValue());
+            }
+            recorder.clear();
+        }
+
+        Map<UUID, Long> instanceNanos = new HashMap<>(instances.size());
+        for (Object2LongMap.Entry<Instance> entry : instances.object2LongEntrySet()) {
+            instanceNanos.put(entry.getKey().getUniqueId(), entry.getLongValue());
+        }
+        final List<TickProfile.ChunkTime> slowestChunks = slowestChunks(chunks);
+        final TickProfile profile = new TickProfile(tick, duration, phaseNanos, threadNanos,
+                instanceNanos, entityTypes, slowestChunks);
+        this.history.set((int) (tick % history.length()), profile);
+        this.tick++;
+        Arrays.fill(phaseNanos, 0);
+        this.nestedNanos = 0;
+        instances.clear();
+
+        commitEvents(profile);
+    }
+
+    private static List<TickProfile.ChunkTime> slowestChunks(Object2LongOpenHashMap<Chunk> chunks) {
+        if (chunks.isEmpty()) return List.of();
+        PriorityQueue<TickProfile.ChunkTime> queue = new PriorityQueue<>(SLOWEST_CHUNKS + 1,
+                Comparator.comparingLong(TickProfile.ChunkTime::nanos));
+        for (Object2LongMap.Entry<Chunk> entry : chunks.object2LongEntrySet()) {
+            final long nanos = entry.getLongValue();
+            if (queue.size() == SLOWEST_CHUNKS && queue.peek().nanos() >= nanos) continue;
+            final Chunk chunk = entry.getKey();
+            queue.add(new TickProfile.ChunkTime(chunk.getInstance().getUniqueId(),
+                    chunk.getChunkX(), chunk.getChunkZ(), nanos));
+            if (queue.size() > SLOWEST_CHUNKS) queue.poll();
+        }
+        List<TickProfile.ChunkTime> result = new ArrayList<>(queue);
+        result.sort(Comparator.comparingLong(TickProfile.ChunkTime::nanos).reversed());
+        return result;
+    }
+
+    private static void commitEvents(TickProfile profile) {
+        TickEvent tickEvent = new TickEvent();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.tick = profile.tick();
+            tickEvent.tickTime = profile.durationNanos();
+            tickEvent.scheduler = profile.phaseNanos(TickPhase.SCHEDULER);
+            tickEvent.connection = profile.phaseNanos(TickPhase.CONNECTION);
+            tickEvent.instance = profile.phaseNanos(TickPhase.INSTANCE);
+            tickEvent.dispatcher = profile.phaseNanos(TickPhase.DISPATCHER);
+            tickEvent.entities = profile.entityNanos();
+            tickEvent.threadRefresh = profile.phaseNanos(TickPhase.THREAD_REFRESH);
+            tickEvent.schedulerEnd = profile.phaseNanos(TickPhase.SCHEDULER_END);
+            tickEvent.snapshot = profile.phaseNanos(TickPhase.SNAPSHOT);
+            tickEvent.packetFlush = profile.phaseNanos(TickPhase.PACKET_FLUSH);
+            tickEvent.socketFlush = profile.phaseNanos(TickPhase.SOCKET_FLUSH);
+            tickEvent.commit();
+        }
+        InstanceTickEvent instanceEvent = new InstanceTickEvent();
+        if (instanceEvent.shouldCommit()) {
+            for (Map.Entry<UUID, Long> entry : profile.instanceNanos().entrySet()) {
+                instanceEvent = new InstanceTickEvent();
+                instanceEvent.tick = profile.tick();
+                instanceEvent.instance = entry.getKey().toString();
+                instanceEvent.tickTime = entry.getValue();
+                instanceEvent.commit();
+            }
+        }
+        ChunkTickEvent chunkEvent = new ChunkTickEvent();
+        if (chunkEvent.shouldCommit()) {
+            for (TickProfile.ChunkTime chunk : profile.slowestChunks()) {
+                chunkEvent = new ChunkTickEvent();
+                chunkEvent.tick = profile.tick();
+                chunkEvent.instance = chunk.instance().toString();
+                chunkEvent.chunkX = chunk.chunkX();
+                chunkEvent.chunkZ = chunk.chunkZ();
+                chunkEvent.tickTime = chunk.nanos();
+                chunkEvent.commit();
+            }
+        }
+    }
+}
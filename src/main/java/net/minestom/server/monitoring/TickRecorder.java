@@ -0,0 +1,48 @@
+package net.minestom.server.monitoring;
+
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minestom.server.Tickable;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Accumulates the tick time of the elements ticked by a single thread, merged by the {@link TickProfiler}
+ * once every thread finished ticking.
+ */
+@ApiStatus.Internal
+public final class TickRecorder {
+    final Object2LongOpenHashMap<Instance> instances = new Object2LongOpenHashMap<>();
+    final Object2LongOpenHashMap<Chunk> chunks = new Object2LongOpenHashMap<>();
+    final Object2LongOpenHashMap<EntityType> entityTypes = new Object2LongOpenHashMap<>();
+    long busyNanos;
+
+    public void record(@NotNull Tickable element, long nanos) {
+        this.busyNanos += nanos;
+        switch (element) {
+            case Chunk chunk -> {
+                this.chunks.addTo(chunk, nanos);
+                this.instances.addTo(chunk.getInstance(), nanos);
+            }
+            case Entity entity -> {
+                this.entityTypes.addTo(entity.getEntityType(), nanos);
+                final Chunk chunk = entity.getChunk();
+                if (chunk != null) this.chunks.addTo(chunk, nanos);
+                final Instance instance = entity.getInstance();
+                if (instance != null) this.instances.addTo(instance, nanos);
+            }
+            default -> {
+            }
+        }
+    }
+
+    void clear() {
+        this.instances.clear();
+        this.chunks.clear();
+        this.entityTypes.clear();
+        this.busyNanos = 0;
+    }
+}
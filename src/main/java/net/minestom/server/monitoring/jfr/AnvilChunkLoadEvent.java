@@ -0,0 +1,22 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Read and decoding of a chunk from an anvil region file.
+ */
+@Name("minestom.AnvilChunkLoad")
+@Label("Anvil Chunk Load")
+@Category({"Minestom", "Chunk"})
+@StackTrace(false)
+public final class AnvilChunkLoadEvent extends Event {
+    @Label("Instance")
+    public String instance;
+    @Label("Chunk X")
+    public int chunkX;
+    @Label("Chunk Z")
+    public int chunkZ;
+    @Label("Found")
+    @Description("Whether the chunk was present in the region file")
+    public boolean found;
+}
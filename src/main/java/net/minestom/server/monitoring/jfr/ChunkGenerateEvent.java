@@ -0,0 +1,22 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Generation of a chunk by the instance generator, including forks application.
+ */
+@Name("minestom.ChunkGenerate")
+@Label("Chunk Generate")
+@Category({"Minestom", "Chunk"})
+@StackTrace(false)
+public final class ChunkGenerateEvent extends Event {
+    @Label("Instance")
+    public String instance;
+    @Label("Chunk X")
+    public int chunkX;
+    @Label("Chunk Z")
+    public int chunkZ;
+    @Label("Forks")
+    @Description("Number of generation forks created by the generator")
+    public int forks;
+}
@@ -0,0 +1,26 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Retrieval of a chunk by an instance container, from the chunk loader or the generator.
+ * <p>
+ * Spans from the request to the chunk being cached, including the time spent waiting for the loader threads.
+ */
+@Name("minestom.ChunkRetrieve")
+@Label("Chunk Retrieve")
+@Category({"Minestom", "Chunk"})
+@StackTrace(false)
+public final class ChunkRetrieveEvent extends Event {
+    @Label("Instance")
+    public String instance;
+    @Label("Chunk X")
+    public int chunkX;
+    @Label("Chunk Z")
+    public int chunkZ;
+    @Label("Generated")
+    @Description("Whether the chunk has been generated because the loader did not contain it")
+    public boolean generated;
+    @Label("Sections")
+    public int sections;
+}
@@ -0,0 +1,24 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Time spent ticking one of the slowest chunks of a server tick, including its entities.
+ */
+@Name("minestom.ChunkTick")
+@Label("Chunk Tick")
+@Category({"Minestom", "Tick"})
+@StackTrace(false)
+public final class ChunkTickEvent extends Event {
+    @Label("Tick")
+    public long tick;
+    @Label("Instance")
+    public String instance;
+    @Label("Chunk X")
+    public int chunkX;
+    @Label("Chunk Z")
+    public int chunkZ;
+    @Label("Tick Time")
+    @Timespan
+    public long tickTime;
+}
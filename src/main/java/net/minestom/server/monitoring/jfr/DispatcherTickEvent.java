@@ -0,0 +1,20 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Tick of the partitions of a thread dispatcher, until every tick thread completed.
+ */
+@Name("minestom.DispatcherTick")
+@Label("Dispatcher Tick")
+@Category({"Minestom", "Tick"})
+@StackTrace(false)
+public final class DispatcherTickEvent extends Event {
+    @Label("Updates")
+    @Description("Partition and element updates processed before ticking")
+    public int updates;
+    @Label("Threads")
+    public int threads;
+    @Label("Partitions")
+    public int partitions;
+}
@@ -0,0 +1,20 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Time spent ticking an instance, its chunks and its entities during a server tick.
+ */
+@Name("minestom.InstanceTick")
+@Label("Instance Tick")
+@Category({"Minestom", "Tick"})
+@StackTrace(false)
+public final class InstanceTickEvent extends Event {
+    @Label("Tick")
+    public long tick;
+    @Label("Instance")
+    public String instance;
+    @Label("Tick Time")
+    @Timespan
+    public long tickTime;
+}
@@ -0,0 +1,26 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Compression of a framed packet, disabled by default as it is emitted for every packet above the threshold.
+ */
+@Name("minestom.PacketCompression")
+@Label("Packet Compression")
+@Category({"Minestom", "Network"})
+@Enabled(false)
+@StackTrace(false)
+public final class PacketCompressionEvent extends Event {
+    @Label("Packet Id")
+    public int packetId;
+    @Label("Uncompressed Size")
+    @DataAmount
+    public int uncompressedSize;
+    @Label("Compressed Size")
+    @DataAmount
+    public int compressedSize;
+    @Label("Ratio")
+    @Description("Compressed size divided by the uncompressed size")
+    @Percentage
+    public float ratio;
+}
@@ -0,0 +1,21 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Light propagation of a set of sections in a lighting instance.
+ */
+@Name("minestom.Relight")
+@Label("Relight")
+@Category({"Minestom", "Chunk"})
+@StackTrace(false)
+public final class RelightEvent extends Event {
+    @Label("Instance")
+    public String instance;
+    @Label("Light Type")
+    public String lightType;
+    @Label("Sections")
+    public int sections;
+    @Label("Updated Chunks")
+    public int chunks;
+}
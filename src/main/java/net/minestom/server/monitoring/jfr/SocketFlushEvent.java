@@ -0,0 +1,22 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Write of the buffered packets of a connection to its socket.
+ */
+@Name("minestom.SocketFlush")
+@Label("Socket Flush")
+@Category({"Minestom", "Network"})
+@Threshold("1 ms")
+@StackTrace(false)
+public final class SocketFlushEvent extends Event {
+    @Label("Connection")
+    public String connection;
+    @Label("Written")
+    @DataAmount
+    public long written;
+    @Label("Waiting Buffers")
+    @Description("Full buffers still waiting to be written once the flush completed")
+    public int waitingBuffers;
+}
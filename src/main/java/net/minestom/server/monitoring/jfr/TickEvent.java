@@ -0,0 +1,49 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Durations of the phases of a server tick, committed by the {@link net.minestom.server.monitoring.TickProfiler}.
+ */
+@Name("minestom.Tick")
+@Label("Server Tick")
+@Category({"Minestom", "Tick"})
+@StackTrace(false)
+public final class TickEvent extends Event {
+    @Label("Tick")
+    public long tick;
+    @Label("Tick Time")
+    @Timespan
+    public long tickTime;
+    @Label("Scheduler")
+    @Timespan
+    public long scheduler;
+    @Label("Connection")
+    @Timespan
+    public long connection;
+    @Label("Instances")
+    @Timespan
+    public long instance;
+    @Label("Dispatcher")
+    @Timespan
+    public long dispatcher;
+    @Label("Entities")
+    @Description("Time spent ticking entities, summed over every tick thread")
+    @Timespan
+    public long entities;
+    @Label("Thread Refresh")
+    @Timespan
+    public long threadRefresh;
+    @Label("Scheduler End")
+    @Timespan
+    public long schedulerEnd;
+    @Label("Snapshot")
+    @Timespan
+    public long snapshot;
+    @Label("Packet Flush")
+    @Timespan
+    public long packetFlush;
+    @Label("Socket Flush")
+    @Timespan
+    public long socketFlush;
+}
@@ -0,0 +1,11 @@
+/**
+ * JDK Flight Recorder events emitted by the server, all in the {@code Minestom} category.
+ * <p>
+ * Events are recorded with {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}, and can be enabled,
+ * disabled or given a threshold individually through the recording settings, e.g.
+ * {@code jfr configure +minestom.PacketCompression#enabled=true}. Events emitted once per packet are disabled
+ * by default, and events emitted once per connection and tick only record durations above a threshold.
+ * <p>
+ * Event creation can be removed entirely with {@code -Dminestom.jfr-events=false}.
+ */
+package net.minestom.server.monitoring.jfr;
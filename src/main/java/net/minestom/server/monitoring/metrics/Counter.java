@@ -0,0 +1,95 @@
+package net.minestom.server.monitoring.metrics;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing counter, optionally split by labels.
+ * <p>
+ * Increments are lock-free and do not allocate, children returned by {@link #labels(String...)}
+ * should be kept by hot paths to avoid the label lookup.
+ */
+public final class Counter implements MetricsCollector {
+    private final String name;
+    private final String help;
+    private final List<String> labelNames;
+    private final Child root = new Child();
+    private final Map<List<String>, Child> children = new ConcurrentHashMap<>();
+
+    public Counter(@NotNull String name, @NotNull String help, @NotNull String... labelNames) {
+        MetricsRegistry.checkName(name);
+        this.name = name;
+        this.help = help;
+        this.labelNames = List.of(labelNames);
+    }
+
+    public void inc() {
+        inc(1);
+    }
+
+    public void inc(long amount) {
+        Check.stateCondition(!labelNames.isEmpty(), "The counter {0} has labels, use #labels(String...)", name);
+        this.root.inc(amount);
+    }
+
+    public long get() {
+        return root.get();
+    }
+
+    /**
+     * Gets the counter of a label combination, created on first access.
+     *
+     * @param labelValues the label values, in the order of the label names
+     * @return the counter of the labels
+     */
+    public @NotNull Child labels(@NotNull String... labelValues) {
+        Check.argCondition(labelValues.length != labelNames.size(),
+                "Expected {0} label values, got {1}", labelNames.size(), labelValues.length);
+        final List<String> key = List.of(labelValues);
+        final Child child = children.get(key);
+        return child != null ? child : children.computeIfAbsent(key, k -> new Child());
+    }
+
+    @Override
+    public @NotNull List<@NotNull MetricFamily> collect() {
+        if (labelNames.isEmpty()) {
+            return List.of(new MetricFamily(name, help, MetricType.COUNTER,
+                    List.of(new MetricFamily.Sample(name, root.get()))));
+        }
+        List<MetricFamily.Sample> samples = new ArrayList<>(children.size());
+        for (Map.Entry<List<String>, Child> entry : children.entrySet()) {
+            samples.add(new MetricFamily.Sample(name, labels(labelNames, entry.getKey()), entry.getValue().get()));
+        }
+        return List.of(new MetricFamily(name, help, MetricType.COUNTER, samples));
+    }
+
+    static Map<String, String> labels(List<String> names, List<String> values) {
+        Map<String, String> labels = new LinkedHashMap<>(names.size());
+        for (int i = 0; i < names.size(); i++) labels.put(names.get(i), values.get(i));
+        return labels;
+    }
+
+    public static final class Child {
+        private final LongAdder value = new LongAdder();
+
+        private Child() {
+        }
+
+        public void inc() {
+            this.value.increment();
+        }
+
+        public void inc(long amount) {
+            Check.argCondition(amount < 0, "Counters cannot be decreased, got {0}", amount);
+            this.value.add(amount);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+}
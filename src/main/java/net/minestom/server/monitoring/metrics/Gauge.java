@@ -0,0 +1,34 @@
+package net.minestom.server.monitoring.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Value read from a supplier every time the metrics are collected.
+ * <p>
+ * Gauges split by labels can be exposed with a custom {@link MetricsCollector}.
+ */
+public final class Gauge implements MetricsCollector {
+    private final String name;
+    private final String help;
+    private final DoubleSupplier supplier;
+
+    public Gauge(@NotNull String name, @NotNull String help, @NotNull DoubleSupplier supplier) {
+        MetricsRegistry.checkName(name);
+        this.name = name;
+        this.help = help;
+        this.supplier = supplier;
+    }
+
+    public double get() {
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public @NotNull List<@NotNull MetricFamily> collect() {
+        return List.of(new MetricFamily(name, help, MetricType.GAUGE,
+                List.of(new MetricFamily.Sample(name, get()))));
+    }
+}
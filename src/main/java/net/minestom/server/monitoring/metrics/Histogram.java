@@ -0,0 +1,93 @@
+package net.minestom.server.monitoring.metrics;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Distribution of observed values in fixed buckets.
+ * <p>
+ * Observations are lock-free: a binary search of the bucket followed by an atomic increment.
+ */
+public final class Histogram implements MetricsCollector {
+    private final String name;
+    private final String help;
+    private final double[] bounds;
+    // Non-cumulative counts, the last slot being the +Inf bucket
+    private final AtomicLongArray counts;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * Creates a histogram.
+     *
+     * @param name   the metric name
+     * @param help   the metric description
+     * @param bounds the inclusive upper bounds of the buckets, in increasing order, the +Inf bucket is implicit
+     */
+    public Histogram(@NotNull String name, @NotNull String help, double @NotNull ... bounds) {
+        MetricsRegistry.checkName(name);
+        Check.argCondition(bounds.length == 0, "A histogram requires at least one bucket");
+        for (int i = 1; i < bounds.length; i++) {
+            Check.argCondition(bounds[i] <= bounds[i - 1], "Bucket bounds must be increasing, got {0}", Arrays.toString(bounds));
+        }
+        this.name = name;
+        this.help = help;
+        this.bounds = bounds.clone();
+        this.counts = new AtomicLongArray(bounds.length + 1);
+    }
+
+    /**
+     * Creates bucket bounds growing exponentially.
+     *
+     * @param start  the upper bound of the first bucket
+     * @param factor the factor between two consecutive bounds
+     * @param count  the number of buckets
+     * @return the bucket bounds
+     */
+    public static double @NotNull [] exponentialBuckets(double start, double factor, int count) {
+        Check.argCondition(start <= 0 || factor <= 1 || count <= 0, "Invalid exponential buckets");
+        double[] bounds = new double[count];
+        bounds[0] = start;
+        for (int i = 1; i < count; i++) bounds[i] = bounds[i - 1] * factor;
+        return bounds;
+    }
+
+    public void observe(double value) {
+        int index = Arrays.binarySearch(bounds, value);
+        if (index < 0) index = -index - 1;
+        this.counts.incrementAndGet(index);
+        this.sum.add(value);
+    }
+
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) count += counts.get(i);
+        return count;
+    }
+
+    public double sum() {
+        return sum.sum();
+    }
+
+    @Override
+    public @NotNull List<@NotNull MetricFamily> collect() {
+        List<MetricFamily.Sample> samples = new ArrayList<>(bounds.length + 3);
+        final String bucketName = name + "_bucket";
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts.get(i);
+            samples.add(new MetricFamily.Sample(bucketName, Map.of("le", PrometheusFormat.formatValue(bounds[i])), cumulative));
+        }
+        cumulative += counts.get(bounds.length);
+        samples.add(new MetricFamily.Sample(bucketName, Map.of("le", "+Inf"), cumulative));
+        samples.add(new MetricFamily.Sample(name + "_sum", sum.sum()));
+        samples.add(new MetricFamily.Sample(name + "_count", cumulative));
+        return List.of(new MetricFamily(name, help, MetricType.HISTOGRAM, samples));
+    }
+}
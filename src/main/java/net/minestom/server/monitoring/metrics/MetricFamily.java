@@ -0,0 +1,34 @@
+package net.minestom.server.monitoring.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Samples of a metric collected at a given time.
+ *
+ * @param name    the metric name
+ * @param help    the metric description
+ * @param type    the metric type
+ * @param samples the samples of the metric, one for each label combination (and bucket for histograms)
+ */
+public record MetricFamily(@NotNull String name, @NotNull String help, @NotNull MetricType type,
+                           @NotNull List<@NotNull Sample> samples) {
+    public MetricFamily {
+        samples = List.copyOf(samples);
+    }
+
+    /**
+     * Single value of a metric.
+     *
+     * @param name   the sample name, the metric name with an optional suffix ({@code _bucket}, {@code _sum}, {@code _count})
+     * @param labels the sample labels, in iteration order
+     * @param value  the sample value
+     */
+    public record Sample(@NotNull String name, @NotNull Map<String, String> labels, double value) {
+        public Sample(@NotNull String name, double value) {
+            this(name, Map.of(), value);
+        }
+    }
+}
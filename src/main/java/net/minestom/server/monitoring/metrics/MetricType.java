@@ -0,0 +1,19 @@
+package net.minestom.server.monitoring.metrics;
+
+/**
+ * Type of a {@link MetricFamily}, as exposed in the text exposition format.
+ */
+public enum MetricType {
+    /**
+     * Monotonically increasing value, reset on restart.
+     */
+    COUNTER,
+    /**
+     * Value which can go up and down.
+     */
+    GAUGE,
+    /**
+     * Distribution of observations in cumulative buckets, with their sum and count.
+     */
+    HISTOGRAM
+}
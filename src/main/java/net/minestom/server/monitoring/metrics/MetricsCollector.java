@@ -0,0 +1,16 @@
+package net.minestom.server.monitoring.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Source of metrics, called every time the {@link MetricsRegistry} is scraped.
+ * <p>
+ * Collectors reading server state (e.g. the loaded chunks of every instance) are called from the exporter thread,
+ * they must therefore only read thread-safe data.
+ */
+@FunctionalInterface
+public interface MetricsCollector {
+    @NotNull List<@NotNull MetricFamily> collect();
+}
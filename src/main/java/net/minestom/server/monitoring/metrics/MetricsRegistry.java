@@ -0,0 +1,101 @@
+package net.minestom.server.monitoring.metrics;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of the metrics exposed by the server, in the Prometheus text format.
+ * <p>
+ * Metrics are registered as {@link MetricsCollector collectors} identified by a unique key,
+ * either the built-in {@link Counter}, {@link Gauge} and {@link Histogram}, or custom collectors:
+ * <pre>{@code
+ * MetricsRegistry registry = MinecraftServer.getMetricsRegistry();
+ * Counter kills = registry.counter("game_kills_total", "Number of kills", "arena");
+ * kills.labels("arena-1").inc();
+ * }</pre>
+ * The registry can be exposed over HTTP with a {@link MetricsServer}, started automatically when
+ * the {@code minestom.metrics.port} system property is set.
+ */
+public final class MetricsRegistry {
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    private final Map<String, MetricsCollector> collectors = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a collector.
+     *
+     * @param key       the unique key of the collector, usually the metric name
+     * @param collector the collector
+     * @throws IllegalArgumentException if a collector is already registered with the key
+     */
+    public void register(@NotNull String key, @NotNull MetricsCollector collector) {
+        final MetricsCollector previous = collectors.putIfAbsent(key, collector);
+        Check.argCondition(previous != null, "A collector is already registered with the key {0}", key);
+    }
+
+    public void unregister(@NotNull String key) {
+        this.collectors.remove(key);
+    }
+
+    public @NotNull Counter counter(@NotNull String name, @NotNull String help, @NotNull String... labelNames) {
+        final Counter counter = new Counter(name, help, labelNames);
+        register(name, counter);
+        return counter;
+    }
+
+    public @NotNull Gauge gauge(@NotNull String name, @NotNull String help, @NotNull DoubleSupplier supplier) {
+        final Gauge gauge = new Gauge(name, help, supplier);
+        register(name, gauge);
+        return gauge;
+    }
+
+    public @NotNull Histogram histogram(@NotNull String name, @NotNull String help, double @NotNull ... bounds) {
+        final Histogram histogram = new Histogram(name, help, bounds);
+        register(name, histogram);
+        return histogram;
+    }
+
+    /**
+     * Collects the samples of every registered collector, sorted by metric name.
+     * <p>
+     * Collectors throwing an exception are skipped and reported to the exception manager.
+     *
+     * @return the collected metrics
+     */
+    public @NotNull List<@NotNull MetricFamily> collect() {
+        List<MetricFamily> families = new ArrayList<>();
+        for (MetricsCollector collector : collectors.values()) {
+            try {
+                families.addAll(collector.collect());
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        families.sort(Comparator.comparing(MetricFamily::name));
+        return families;
+    }
+
+    /**
+     * Collects every metric in the Prometheus text exposition format.
+     *
+     * @return the metrics text
+     */
+    public @NotNull String scrape() {
+        StringBuilder builder = new StringBuilder(4096);
+        PrometheusFormat.write(builder, collect());
+        return builder.toString();
+    }
+
+    static void checkName(String name) {
+        Check.argCondition(!NAME_PATTERN.matcher(name).matches(), "Invalid metric name: {0}", name);
+    }
+}
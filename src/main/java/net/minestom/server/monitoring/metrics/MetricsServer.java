@@ -0,0 +1,81 @@
+package net.minestom.server.monitoring.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal HTTP server exposing a {@link MetricsRegistry} on {@code /metrics} in the Prometheus text format.
+ * <p>
+ * Based on the HTTP server of the JDK, requests are handled by a single daemon thread.
+ */
+public final class MetricsServer implements AutoCloseable {
+    private final MetricsRegistry registry;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsServer(MetricsRegistry registry, HttpServer server) {
+        this.registry = registry;
+        this.server = server;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, MinecraftServer.THREAD_NAME_METRICS);
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/metrics", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts an HTTP server exposing the metrics of a registry.
+     *
+     * @param registry the registry to expose
+     * @param address  the address to bind, port 0 to use an ephemeral port
+     * @return the started server
+     * @throws IOException if the address cannot be bound
+     */
+    public static @NotNull MetricsServer start(@NotNull MetricsRegistry registry, @NotNull InetSocketAddress address) throws IOException {
+        final MetricsServer server = new MetricsServer(registry, HttpServer.create(address, 0));
+        server.server.start();
+        return server;
+    }
+
+    public @NotNull InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            final byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusFormat.CONTENT_TYPE);
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package net.minestom.server.monitoring.metrics;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writer of the Prometheus text exposition format, version 0.0.4.
+ */
+final class PrometheusFormat {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private PrometheusFormat() {
+    }
+
+    static void write(StringBuilder builder, List<MetricFamily> families) {
+        for (MetricFamily family : families) {
+            builder.append("# HELP ").append(family.name()).append(' ');
+            escape(builder, family.help(), false);
+            builder.append('\n');
+            builder.append("# TYPE ").append(family.name()).append(' ')
+                    .append(family.type().name().toLowerCase(Locale.ROOT)).append('\n');
+            for (MetricFamily.Sample sample : family.samples()) {
+                builder.append(sample.name());
+                final Map<String, String> labels = sample.labels();
+                if (!labels.isEmpty()) {
+                    builder.append('{');
+                    boolean first = true;
+                    for (Map.Entry<String, String> label : labels.entrySet()) {
+                        if (!first) builder.append(',');
+                        first = false;
+                        builder.append(label.getKey()).append("=\"");
+                        escape(builder, label.getValue(), true);
+                        builder.append('"');
+                    }
+                    builder.append('}');
+                }
+                builder.append(' ').append(formatValue(sample.value())).append('\n');
+            }
+        }
+    }
+
+    static String formatValue(double value) {
+        if (value == Double.POSITIVE_INFINITY) return "+Inf";
+        if (value == Double.NEGATIVE_INFINITY) return "-Inf";
+        if (Double.isNaN(value)) return "NaN";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return Double.toString(value);
+    }
+
+    private static void escape(StringBuilder builder, String text, boolean quotes) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '"' -> builder.append(quotes ? "\\\"" : "\"");
+                default -> builder.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package net.minestom.server.monitoring.metrics;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.ServerProcess;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.Event;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.listener.manager.PacketStatistics;
+import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.server.utils.ObjectPool;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metrics of the server internals, registered in the {@link MetricsRegistry} of every server process.
+ * <p>
+ * Per packet type counts require the {@code minestom.packet-statistics} system property,
+ * and event counts the {@code minestom.event-statistics} one.
+ */
+@ApiStatus.Internal
+public final class ServerMetrics {
+    /**
+     * Packets written to the connections by packet type, shared by every process as connections write from
+     * the worker threads.
+     */
+    public static final Counter PACKETS_SENT = new Counter("minestom_packets_sent_total",
+            "Server packets written to connections", "packet");
+
+    private static final double[] TICK_BUCKETS = {0.005, 0.01, 0.02, 0.03, 0.04, 0.05, 0.075, 0.1, 0.25, 0.5, 1};
+
+    private final Histogram tickDuration = new Histogram("minestom_tick_duration_seconds",
+            "Duration of the server ticks", TICK_BUCKETS);
+
+    public ServerMetrics(@NotNull ServerProcess process, @NotNull MetricsRegistry registry) {
+        registry.register("minestom_tick_duration_seconds", tickDuration);
+        registry.register("minestom_packets_sent_total", PACKETS_SENT);
+        registry.register("minestom_packets_received_total", () -> {
+            List<MetricFamily.Sample> samples = new ArrayList<>();
+            for (PacketStatistics statistics : process.packetListener().getStatistics()) {
+                samples.add(new MetricFamily.Sample("minestom_packets_received_total",
+                        Map.of("state", statistics.state().name(), "packet", statistics.packetClass().getSimpleName()),
+                        statistics.processCount()));
+            }
+            return List.of(new MetricFamily("minestom_packets_received_total",
+                    "Client packets processed", MetricType.COUNTER, samples));
+        });
+        registry.register("minestom_connection_bytes", () -> {
+            final String receivedName = "minestom_connection_received_bytes_total";
+            final String sentName = "minestom_connection_sent_bytes_total";
+            List<MetricFamily.Sample> received = new ArrayList<>();
+            List<MetricFamily.Sample> sent = new ArrayList<>();
+            for (Player player : process.connection().getOnlinePlayers()) {
+                final PlayerConnection connection = player.getPlayerConnection();
+                if (!(connection instanceof PlayerSocketConnection socketConnection)) continue;
+                final Map<String, String> labels = Map.of("player", player.getUsername());
+                received.add(new MetricFamily.Sample(receivedName, labels, socketConnection.getBytesReceived()));
+                sent.add(new MetricFamily.Sample(sentName, labels, socketConnection.getBytesSent()));
+            }
+            return List.of(
+                    new MetricFamily(receivedName, "Bytes received from the player connections", MetricType.COUNTER, received),
+                    new MetricFamily(sentName, "Bytes sent to the player connections", MetricType.COUNTER, sent));
+        });
+        registry.gauge("minestom_players_online", "Players in the play state",
+                () -> process.connection().getOnlinePlayers().size());
+        registry.register("minestom_object_pool_available", () -> List.of(new MetricFamily("minestom_object_pool_available",
+                "Pooled objects ready to be reused", MetricType.GAUGE, List.of(
+                new MetricFamily.Sample("minestom_object_pool_available", Map.of("pool", "buffer"), ObjectPool.BUFFER_POOL.count()),
+                new MetricFamily.Sample("minestom_object_pool_available", Map.of("pool", "packet"), ObjectPool.PACKET_POOL.count())))));
+        registry.register("minestom_worker_queue_size", () -> {
+            List<MetricFamily.Sample> samples = new ArrayList<>();
+            for (Worker worker : process.server().workers()) {
+                samples.add(new MetricFamily.Sample("minestom_worker_queue_size",
+                        Map.of("worker", worker.getName()), worker.queue().size()));
+            }
+            return List.of(new MetricFamily("minestom_worker_queue_size",
+                    "Tasks waiting in the network worker queues", MetricType.GAUGE, samples));
+        });
+        registry.register("minestom_instance", () -> {
+            final String chunksName = "minestom_instance_chunks";
+            final String entitiesName = "minestom_instance_entities";
+            List<MetricFamily.Sample> chunks = new ArrayList<>();
+            List<MetricFamily.Sample> entities = new ArrayList<>();
+            for (Instance instance : process.instance().getInstances()) {
+                final String id = instance.getUniqueId().toString();
+                chunks.add(new MetricFamily.Sample(chunksName, Map.of("instance", id), instance.getChunks().size()));
+                final EntityTracker tracker = instance.getEntityTracker();
+                for (EntityTracker.Target<? extends Entity> target : EntityTracker.Target.TARGETS) {
+                    entities.add(new MetricFamily.Sample(entitiesName,
+                            Map.of("instance", id, "target", target.type().getSimpleName()),
+                            tracker.entities(target).size()));
+                }
+            }
+            return List.of(
+                    new MetricFamily(chunksName, "Loaded chunks by instance", MetricType.GAUGE, chunks),
+                    new MetricFamily(entitiesName, "Tracked entities by instance and tracker target", MetricType.GAUGE, entities));
+        });
+        registry.register("minestom_scheduler_tasks", () -> List.of(
+                new MetricFamily("minestom_scheduler_tasks_submitted_total", "Tasks submitted to the server scheduler",
+                        MetricType.COUNTER, List.of(new MetricFamily.Sample("minestom_scheduler_tasks_submitted_total",
+                        process.scheduler().submittedTasks()))),
+                new MetricFamily("minestom_scheduler_tasks_executed_total", "Task executions of the server scheduler",
+                        MetricType.COUNTER, List.of(new MetricFamily.Sample("minestom_scheduler_tasks_executed_total",
+                        process.scheduler().executedTasks())))));
+        if (ServerFlag.EVENT_STATISTICS) {
+            registry.register("minestom_events_total", () -> {
+                List<MetricFamily.Sample> samples = new ArrayList<>();
+                for (Map.Entry<Class<? extends Event>, Long> entry : process.eventHandler().invocationCounts().entrySet()) {
+                    samples.add(new MetricFamily.Sample("minestom_events_total",
+                            Map.of("event", entry.getKey().getSimpleName()), entry.getValue()));
+                }
+                return List.of(new MetricFamily("minestom_events_total",
+                        "Events dispatched through the global event handler", MetricType.COUNTER, samples));
+            });
+        }
+    }
+
+    public void recordTick(long durationNanos) {
+        this.tickDuration.observe(durationNanos / 1e9);
+    }
+}
@@ -27,6 +27,7 @@ import net.minestom.server.network.plugin.LoginPluginMessageProcessor;
 import net.minestom.server.registry.StaticProtocolObject;
 import net.minestom.server.utils.StringUtils;
 import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.collection.TimingWheel;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
@@ -50,18 +51,16 @@ public final class ConnectionManager {
     // Players waiting to be spawned (post configuration state)
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
     // Players in configuration state
-    private final Set<Player> configurationPlayers = new CopyOnWriteArraySet<>();
+    private final PlayerRegistry configurationPlayers = new PlayerRegistry(false);
     // Players in play state
-    private final Set<Player> playPlayers = new CopyOnWriteArraySet<>();
+    private final PlayerRegistry playPlayers = new PlayerRegistry(true);
 
     // The players who need keep alive ticks. This was added because we may not send a keep alive in
     // the time after sending finish configuration but before receiving configuration end (to swap to play).
     // I(mattw) could not come up with a better way to express this besides completely splitting client/server
     // states. Perhaps there will be an improvement in the future.
-    private final Set<Player> keepAlivePlayers = new CopyOnWriteArraySet<>();
-
-    private final Set<Player> unmodifiableConfigurationPlayers = Collections.unmodifiableSet(configurationPlayers);
-    private final Set<Player> unmodifiablePlayPlayers = Collections.unmodifiableSet(playPlayers);
+    // Each player is scheduled at the time of its next keep alive check.
+    private final TimingWheel<Player> keepAlivePlayers = new TimingWheel<>(MinecraftServer.TICK_MS, ServerFlag.KEEP_ALIVE_DELAY);
 
     private final CachedPacket resetChatPacket = new CachedPacket(new ResetChatPacket());
 
@@ -77,21 +76,21 @@ public final class ConnectionManager {
      * <p>Only includes players in the play state, not players in configuration.</p>
      */
     public int getOnlinePlayerCount() {
-        return playPlayers.size();
+        return playPlayers.view().size();
     }
 
     /**
      * Returns an unmodifiable set containing the players currently in the play state.
      */
     public @NotNull Collection<@NotNull Player> getOnlinePlayers() {
-        return unmodifiablePlayPlayers;
+        return playPlayers.view();
     }
 
     /**
      * Returns an unmodifiable set containing the players currently in the configuration state.
      */
     public @NotNull Collection<@NotNull Player> getConfigPlayers() {
-        return unmodifiableConfigurationPlayers;
+        return configurationPlayers.view();
     }
 
     /**
@@ -116,11 +115,7 @@ public final class ConnectionManager {
      * @return the first player who validate the username condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUsername(@NotNull String username) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUsername().equalsIgnoreCase(username))
-                return player;
-        }
-        return null;
+        return playPlayers.getByUsername(username);
     }
 
     /**
@@ -132,11 +127,7 @@ public final class ConnectionManager {
      * @return the first player who validate the UUID condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUuid(@NotNull UUID uuid) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid))
-                return player;
-        }
-        return null;
+        return playPlayers.getByUuid(uuid);
     }
 
     /**
@@ -264,7 +255,7 @@ public final class ConnectionManager {
     public CompletableFuture<Void> doConfiguration(@NotNull Player player, boolean isFirstConfig) {
         if (isFirstConfig) {
             configurationPlayers.add(player);
-            keepAlivePlayers.add(player);
+            keepAlivePlayers.schedule(player, 0);
         }
 
         final PlayerConnection connection = player.getPlayerConnection();
@@ -320,7 +311,7 @@ public final class ConnectionManager {
             var packFuture = player.getResourcePackFuture();
             if (packFuture != null) packFuture.join();
 
-            keepAlivePlayers.remove(player);
+            keepAlivePlayers.cancel(player);
             player.setPendingOptions(spawningInstance, event.isHardcore());
             player.sendPacket(new FinishConfigurationPacket());
         });
@@ -345,7 +336,7 @@ public final class ConnectionManager {
         if (player == null) return;
         this.configurationPlayers.remove(player);
         this.playPlayers.remove(player);
-        this.keepAlivePlayers.remove(player);
+        this.keepAlivePlayers.cancel(player);
     }
 
     /**
@@ -363,10 +354,10 @@ public final class ConnectionManager {
         updateWaitingPlayers();
 
         // Send keep alive packets
-        handleKeepAlive(keepAlivePlayers, tickStart);
+        handleKeepAlive(tickStart);
 
         // Interpret packets for configuration players
-        configurationPlayers.forEach(Player::interpretPacketQueue);
+        configurationPlayers.view().forEach(Player::interpretPacketQueue);
     }
 
     /**
@@ -378,7 +369,7 @@ public final class ConnectionManager {
             if (!player.isOnline()) return; // Player disconnected while in queued to join
             player.getPlayerConnection().setConnectionState(ConnectionState.PLAY);
             playPlayers.add(player);
-            keepAlivePlayers.add(player);
+            keepAlivePlayers.schedule(player, 0);
 
             // This fixes a bug with Geyser. They do not reply to keep alive during config, meaning that
             // `Player#didAnswerKeepAlive()` will always be false when entering the play state, so a new keep
@@ -395,19 +386,27 @@ public final class ConnectionManager {
 
     /**
      * Updates keep alive by checking the last keep alive packet and send a new one if needed.
+     * <p>
+     * Only the players whose check is due are visited, and are then scheduled for their next check.
      *
      * @param tickStart the time of the update in milliseconds, forwarded to the packet
      */
-    private void handleKeepAlive(@NotNull Collection<Player> playerGroup, long tickStart) {
+    private void handleKeepAlive(long tickStart) {
         final KeepAlivePacket keepAlivePacket = new KeepAlivePacket(tickStart);
-        for (Player player : playerGroup) {
+        keepAlivePlayers.advance(tickStart, player -> {
             final long lastKeepAlive = tickStart - player.getLastKeepAlive();
             if (lastKeepAlive > ServerFlag.KEEP_ALIVE_DELAY && player.didAnswerKeepAlive()) {
                 player.refreshKeepAlive(tickStart);
                 player.sendPacket(keepAlivePacket);
+                keepAlivePlayers.schedule(player, tickStart + ServerFlag.KEEP_ALIVE_DELAY + 1);
             } else if (lastKeepAlive >= ServerFlag.KEEP_ALIVE_KICK) {
                 player.kick(TIMEOUT_TEXT);
+            } else if (lastKeepAlive <= ServerFlag.KEEP_ALIVE_DELAY) {
+                keepAlivePlayers.schedule(player, player.getLastKeepAlive() + ServerFlag.KEEP_ALIVE_DELAY + 1);
+            } else {
+                // Late answer, check again next tick until answered or kicked
+                keepAlivePlayers.schedule(player, tickStart + 1);
             }
-        }
+        });
     }
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.network;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.Player;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.network.packet.client.ClientPacket;
@@ -34,6 +35,7 @@ public class PacketProcessor {
     }
 
     public @NotNull ClientPacket create(@NotNull ConnectionState connectionState, int packetId, ByteBuffer body) {
+        final long start = ServerFlag.PACKET_STATISTICS ? System.nanoTime() : 0;
         NetworkBuffer buffer = new NetworkBuffer(body);
         final ClientPacket clientPacket = switch (connectionState) {
             case HANDSHAKE -> {
@@ -46,6 +48,9 @@ public class PacketProcessor {
             case PLAY -> playHandler.create(packetId, buffer);
         };
         body.position(buffer.readIndex());
+        if (ServerFlag.PACKET_STATISTICS) {
+            packetListenerManager.recordDecode(connectionState, clientPacket, System.nanoTime() - start);
+        }
         return clientPacket;
     }
 
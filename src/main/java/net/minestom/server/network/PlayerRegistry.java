@@ -0,0 +1,141 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Set of players with constant time addition and removal, optionally indexed by username and UUID.
+ * <p>
+ * Iteration goes through an immutable snapshot in addition order,
+ * rebuilt on the first iteration following a modification.
+ */
+final class PlayerRegistry {
+    private final boolean indexed;
+    // Player -> lowercase username at the time of the addition, the username may change afterward
+    private final Map<Player, Registration> players = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // Players sharing the same key in registration order, the first one is returned by the lookups
+    private final Map<String, List<Player>> usernames = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Player>> uuids = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+
+    private final Collection<Player> view = new AbstractCollection<>() {
+        @Override
+        public @NotNull Iterator<Player> iterator() {
+            return snapshot().iterator();
+        }
+
+        @Override
+        public int size() {
+            return players.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o != null && players.containsKey(o);
+        }
+    };
+
+    PlayerRegistry(boolean indexed) {
+        this.indexed = indexed;
+    }
+
+    boolean add(@NotNull Player player) {
+        final String username = usernameKey(player.getUsername());
+        final Registration registration = new Registration(username, sequence.incrementAndGet());
+        if (players.putIfAbsent(player, registration) != null) return false;
+        if (indexed) {
+            index(usernames, username, player);
+            index(uuids, player.getUuid(), player);
+        }
+        this.version.incrementAndGet();
+        return true;
+    }
+
+    boolean remove(@NotNull Player player) {
+        final Registration registration = players.remove(player);
+        if (registration == null) return false;
+        if (indexed) {
+            unindex(usernames, registration.username(), player);
+            unindex(uuids, player.getUuid(), player);
+        }
+        this.version.incrementAndGet();
+        return true;
+    }
+
+    void clear() {
+        this.players.clear();
+        this.usernames.clear();
+        this.uuids.clear();
+        this.version.incrementAndGet();
+    }
+
+    @Nullable Player getByUsername(@NotNull String username) {
+        assert indexed;
+        final List<Player> players = usernames.get(usernameKey(username));
+        return players != null ? players.getFirst() : null;
+    }
+
+    @Nullable Player getByUuid(@NotNull UUID uuid) {
+        assert indexed;
+        final List<Player> players = uuids.get(uuid);
+        return players != null ? players.getFirst() : null;
+    }
+
+    /**
+     * Gets an unmodifiable view of the registry, iterating over the players at the time the iteration starts.
+     *
+     * @return the registry view
+     */
+    @NotNull Collection<Player> view() {
+        return view;
+    }
+
+    private List<Player> snapshot() {
+        final long version = this.version.get();
+        Snapshot snapshot = this.snapshot;
+        if (snapshot.version != version) {
+            // Modifications after the version read trigger a new copy on the next iteration
+            final List<Player> players = this.players.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().order()))
+                    .map(Map.Entry::getKey).toList();
+            this.snapshot = snapshot = new Snapshot(version, players);
+        }
+        return snapshot.players;
+    }
+
+    private static <K> void index(Map<K, List<Player>> index, K key, Player player) {
+        index.merge(key, List.of(player), (current, added) -> {
+            List<Player> players = new ArrayList<>(current);
+            players.add(player);
+            return List.copyOf(players);
+        });
+    }
+
+    private static <K> void unindex(Map<K, List<Player>> index, K key, Player player) {
+        // The next player sharing the key, if any, becomes the indexed one
+        index.computeIfPresent(key, (k, current) -> {
+            if (current.size() == 1) return current.getFirst() == player ? null : current;
+            List<Player> players = new ArrayList<>(current);
+            players.removeIf(p -> p == player);
+            return List.copyOf(players);
+        });
+    }
+
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private record Registration(String username, long order) {
+    }
+
+    private record Snapshot(long version, List<Player> players) {
+    }
+}
@@ -1,5 +1,7 @@
 package net.minestom.server.network.packet.client;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.common.*;
 import net.minestom.server.network.packet.client.configuration.ClientFinishConfigurationPacket;
@@ -11,24 +13,47 @@ import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
 import net.minestom.server.network.packet.client.play.*;
 import net.minestom.server.network.packet.client.status.StatusRequestPacket;
 import net.minestom.server.utils.collection.ObjectArray;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * Contains registered packets and a way to instantiate them.
  * <p>
- * Packets are registered using {@link #register(int, NetworkBuffer.Reader)} and created using {@link #create(int, NetworkBuffer)}.
+ * Packets are registered using {@link #register(int, Class, NetworkBuffer.Reader)} and created using {@link #create(int, NetworkBuffer)}.
+ * The id of a registered packet class is available from {@link #packetId(Class)}.
  */
 public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, ClientPacketsHandler.Login, ClientPacketsHandler.Configuration, ClientPacketsHandler.Play {
     private final ObjectArray<NetworkBuffer.Reader<ClientPacket>> suppliers = ObjectArray.singleThread(0x10);
+    private final Object2IntMap<Class<? extends ClientPacket>> packetIds = new Object2IntOpenHashMap<>();
 
     private ClientPacketsHandler() {
+        this.packetIds.defaultReturnValue(-1);
     }
 
     public void register(int id, @NotNull NetworkBuffer.Reader<ClientPacket> packetSupplier) {
         this.suppliers.set(id, packetSupplier);
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends ClientPacket> void register(int id, @NotNull Class<T> packetClass, @NotNull NetworkBuffer.Reader<T> packetSupplier) {
+        register(id, (NetworkBuffer.Reader<ClientPacket>) packetSupplier);
+        this.packetIds.put(packetClass, id);
+    }
+
+    /**
+     * Gets the id of a packet registered in this state.
+     *
+     * @param packetClass the packet class
+     * @return the packet id
+     * @throws IllegalArgumentException if the packet is not registered in this state
+     */
+    public int packetId(@NotNull Class<? extends ClientPacket> packetClass) {
+        final int id = packetIds.getInt(packetClass);
+        Check.argCondition(id == -1, "Packet {0} is not registered in this state", packetClass.getSimpleName());
+        return id;
+    }
+
     public @UnknownNullability ClientPacket create(int packetId, @NotNull NetworkBuffer reader) {
         final NetworkBuffer.Reader<ClientPacket> supplier = suppliers.get(packetId);
         if (supplier == null)
@@ -37,117 +62,117 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
     }
 
     public static final class Status extends ClientPacketsHandler {
-        private static int nextId = 0;
-        private static int nextId() {
+        private int nextId = 0;
+        private int nextId() {
             return nextId++;
         }
 
         public Status() {
-            register(nextId(), StatusRequestPacket::new);
-            register(nextId(), ClientPingRequestPacket::new);
+            register(nextId(), StatusRequestPacket.class, StatusRequestPacket::new);
+            register(nextId(), ClientPingRequestPacket.class, ClientPingRequestPacket::new);
         }
     }
 
     public static final class Login extends ClientPacketsHandler {
-        private static int nextId = 0;
-        private static int nextId() {
+        private int nextId = 0;
+        private int nextId() {
             return nextId++;
         }
 
         public Login() {
-            register(nextId(), ClientLoginStartPacket::new);
-            register(nextId(), ClientEncryptionResponsePacket::new);
-            register(nextId(), ClientLoginPluginResponsePacket::new);
-            register(nextId(), ClientLoginAcknowledgedPacket::new);
-            register(nextId(), ClientCookieResponsePacket::new);
+            register(nextId(), ClientLoginStartPacket.class, ClientLoginStartPacket::new);
+            register(nextId(), ClientEncryptionResponsePacket.class, ClientEncryptionResponsePacket::new);
+            register(nextId(), ClientLoginPluginResponsePacket.class, ClientLoginPluginResponsePacket::new);
+            register(nextId(), ClientLoginAcknowledgedPacket.class, ClientLoginAcknowledgedPacket::new);
+            register(nextId(), ClientCookieResponsePacket.class, ClientCookieResponsePacket::new);
         }
     }
 
     public static final class Configuration extends ClientPacketsHandler {
-        private static int nextId = 0;
-        private static int nextId() {
+        private int nextId = 0;
+        private int nextId() {
             return nextId++;
         }
 
         public Configuration() {
-            register(nextId(), ClientSettingsPacket::new);
-            register(nextId(), ClientCookieResponsePacket::new);
-            register(nextId(), ClientPluginMessagePacket::new);
-            register(nextId(), ClientFinishConfigurationPacket::new);
-            register(nextId(), ClientKeepAlivePacket::new);
-            register(nextId(), ClientPongPacket::new);
-            register(nextId(), ClientResourcePackStatusPacket::new);
-            register(nextId(), ClientSelectKnownPacksPacket::new);
+            register(nextId(), ClientSettingsPacket.class, ClientSettingsPacket::new);
+            register(nextId(), ClientCookieResponsePacket.class, ClientCookieResponsePacket::new);
+            register(nextId(), ClientPluginMessagePacket.class, ClientPluginMessagePacket::new);
+            register(nextId(), ClientFinishConfigurationPacket.class, ClientFinishConfigurationPacket::new);
+            register(nextId(), ClientKeepAlivePacket.class, ClientKeepAlivePacket::new);
+            register(nextId(), ClientPongPacket.class, ClientPongPacket::new);
+            register(nextId(), ClientResourcePackStatusPacket.class, ClientResourcePackStatusPacket::new);
+            register(nextId(), ClientSelectKnownPacksPacket.class, ClientSelectKnownPacksPacket::new);
         }
 
     }
 
     public static final class Play extends ClientPacketsHandler {
-        private static int nextId = 0;
+        private int nextId = 0;
 
-        private static int nextId() {
+        private int nextId() {
             return nextId++;
         }
 
         public Play() {
-            register(nextId(), ClientTeleportConfirmPacket::new);
-            register(nextId(), ClientQueryBlockNbtPacket::new);
+            register(nextId(), ClientTeleportConfirmPacket.class, ClientTeleportConfirmPacket::new);
+            register(nextId(), ClientQueryBlockNbtPacket.class, ClientQueryBlockNbtPacket::new);
             nextId(); // difficulty packet
-            register(nextId(), ClientChatAckPacket::new);
-            register(nextId(), ClientCommandChatPacket::new);
-            register(nextId(), ClientSignedCommandChatPacket::new);
-            register(nextId(), ClientChatMessagePacket::new);
-            register(nextId(), ClientChatSessionUpdatePacket::new);
-            register(nextId(), ClientChunkBatchReceivedPacket::new);
-            register(nextId(), ClientStatusPacket::new);
-            register(nextId(), ClientSettingsPacket::new);
-            register(nextId(), ClientTabCompletePacket::new);
-            register(nextId(), ClientConfigurationAckPacket::new);
-            register(nextId(), ClientClickWindowButtonPacket::new);
-            register(nextId(), ClientClickWindowPacket::new);
-            register(nextId(), ClientCloseWindowPacket::new);
-            register(nextId(), ClientWindowSlotStatePacket::new);
-            register(nextId(), ClientCookieResponsePacket::new);
-            register(nextId(), ClientPluginMessagePacket::new);
-            register(nextId(), ClientDebugSampleSubscriptionPacket::new);
-            register(nextId(), ClientEditBookPacket::new);
-            register(nextId(), ClientQueryEntityNbtPacket::new);
-            register(nextId(), ClientInteractEntityPacket::new);
-            register(nextId(), ClientGenerateStructurePacket::new);
-            register(nextId(), ClientKeepAlivePacket::new);
+            register(nextId(), ClientChatAckPacket.class, ClientChatAckPacket::new);
+            register(nextId(), ClientCommandChatPacket.class, ClientCommandChatPacket::new);
+            register(nextId(), ClientSignedCommandChatPacket.class, ClientSignedCommandChatPacket::new);
+            register(nextId(), ClientChatMessagePacket.class, ClientChatMessagePacket::new);
+            register(nextId(), ClientChatSessionUpdatePacket.class, ClientChatSessionUpdatePacket::new);
+            register(nextId(), ClientChunkBatchReceivedPacket.class, ClientChunkBatchReceivedPacket::new);
+            register(nextId(), ClientStatusPacket.class, ClientStatusPacket::new);
+            register(nextId(), ClientSettingsPacket.class, ClientSettingsPacket::new);
+            register(nextId(), ClientTabCompletePacket.class, ClientTabCompletePacket::new);
+            register(nextId(), ClientConfigurationAckPacket.class, ClientConfigurationAckPacket::new);
+            register(nextId(), ClientClickWindowButtonPacket.class, ClientClickWindowButtonPacket::new);
+            register(nextId(), ClientClickWindowPacket.class, ClientClickWindowPacket::new);
+            register(nextId(), ClientCloseWindowPacket.class, ClientCloseWindowPacket::new);
+            register(nextId(), ClientWindowSlotStatePacket.class, ClientWindowSlotStatePacket::new);
+            register(nextId(), ClientCookieResponsePacket.class, ClientCookieResponsePacket::new);
+            register(nextId(), ClientPluginMessagePacket.class, ClientPluginMessagePacket::new);
+            register(nextId(), ClientDebugSampleSubscriptionPacket.class, ClientDebugSampleSubscriptionPacket::new);
+            register(nextId(), ClientEditBookPacket.class, ClientEditBookPacket::new);
+            register(nextId(), ClientQueryEntityNbtPacket.class, ClientQueryEntityNbtPacket::new);
+            register(nextId(), ClientInteractEntityPacket.class, ClientInteractEntityPacket::new);
+            register(nextId(), ClientGenerateStructurePacket.class, ClientGenerateStructurePacket::new);
+            register(nextId(), ClientKeepAlivePacket.class, ClientKeepAlivePacket::new);
             nextId(); // lock difficulty
-            register(nextId(), ClientPlayerPositionPacket::new);
-            register(nextId(), ClientPlayerPositionAndRotationPacket::new);
-            register(nextId(), ClientPlayerRotationPacket::new);
-            register(nextId(), ClientPlayerPacket::new);
-            register(nextId(), ClientVehicleMovePacket::new);
-            register(nextId(), ClientSteerBoatPacket::new);
-            register(nextId(), ClientPickItemPacket::new);
-            register(nextId(), ClientPingRequestPacket::new);
-            register(nextId(), ClientCraftRecipeRequest::new);
-            register(nextId(), ClientPlayerAbilitiesPacket::new);
-            register(nextId(), ClientPlayerDiggingPacket::new);
-            register(nextId(), ClientEntityActionPacket::new);
-            register(nextId(), ClientSteerVehiclePacket::new);
-            register(nextId(), ClientPongPacket::new);
-            register(nextId(), ClientSetRecipeBookStatePacket::new);
-            register(nextId(), ClientSetDisplayedRecipePacket::new);
-            register(nextId(), ClientNameItemPacket::new);
-            register(nextId(), ClientResourcePackStatusPacket::new);
-            register(nextId(), ClientAdvancementTabPacket::new);
-            register(nextId(), ClientSelectTradePacket::new);
-            register(nextId(), ClientSetBeaconEffectPacket::new);
-            register(nextId(), ClientHeldItemChangePacket::new);
-            register(nextId(), ClientUpdateCommandBlockPacket::new);
-            register(nextId(), ClientUpdateCommandBlockMinecartPacket::new);
-            register(nextId(), ClientCreativeInventoryActionPacket::new);
+            register(nextId(), ClientPlayerPositionPacket.class, ClientPlayerPositionPacket::new);
+            register(nextId(), ClientPlayerPositionAndRotationPacket.class, ClientPlayerPositionAndRotationPacket::new);
+            register(nextId(), ClientPlayerRotationPacket.class, ClientPlayerRotationPacket::new);
+            register(nextId(), ClientPlayerPacket.class, ClientPlayerPacket::new);
+            register(nextId(), ClientVehicleMovePacket.class, ClientVehicleMovePacket::new);
+            register(nextId(), ClientSteerBoatPacket.class, ClientSteerBoatPacket::new);
+            register(nextId(), ClientPickItemPacket.class, ClientPickItemPacket::new);
+            register(nextId(), ClientPingRequestPacket.class, ClientPingRequestPacket::new);
+            register(nextId(), ClientCraftRecipeRequest.class, ClientCraftRecipeRequest::new);
+            register(nextId(), ClientPlayerAbilitiesPacket.class, ClientPlayerAbilitiesPacket::new);
+            register(nextId(), ClientPlayerDiggingPacket.class, ClientPlayerDiggingPacket::new);
+            register(nextId(), ClientEntityActionPacket.class, ClientEntityActionPacket::new);
+            register(nextId(), ClientSteerVehiclePacket.class, ClientSteerVehiclePacket::new);
+            register(nextId(), ClientPongPacket.class, ClientPongPacket::new);
+            register(nextId(), ClientSetRecipeBookStatePacket.class, ClientSetRecipeBookStatePacket::new);
+            register(nextId(), ClientSetDisplayedRecipePacket.class, ClientSetDisplayedRecipePacket::new);
+            register(nextId(), ClientNameItemPacket.class, ClientNameItemPacket::new);
+            register(nextId(), ClientResourcePackStatusPacket.class, ClientResourcePackStatusPacket::new);
+            register(nextId(), ClientAdvancementTabPacket.class, ClientAdvancementTabPacket::new);
+            register(nextId(), ClientSelectTradePacket.class, ClientSelectTradePacket::new);
+            register(nextId(), ClientSetBeaconEffectPacket.class, ClientSetBeaconEffectPacket::new);
+            register(nextId(), ClientHeldItemChangePacket.class, ClientHeldItemChangePacket::new);
+            register(nextId(), ClientUpdateCommandBlockPacket.class, ClientUpdateCommandBlockPacket::new);
+            register(nextId(), ClientUpdateCommandBlockMinecartPacket.class, ClientUpdateCommandBlockMinecartPacket::new);
+            register(nextId(), ClientCreativeInventoryActionPacket.class, ClientCreativeInventoryActionPacket::new);
             nextId(); // Update Jigsaw Block
-            register(nextId(), ClientUpdateStructureBlockPacket::new);
-            register(nextId(), ClientUpdateSignPacket::new);
-            register(nextId(), ClientAnimationPacket::new);
-            register(nextId(), ClientSpectatePacket::new);
-            register(nextId(), ClientPlayerBlockPlacementPacket::new);
-            register(nextId(), ClientUseItemPacket::new);
+            register(nextId(), ClientUpdateStructureBlockPacket.class, ClientUpdateStructureBlockPacket::new);
+            register(nextId(), ClientUpdateSignPacket.class, ClientUpdateSignPacket::new);
+            register(nextId(), ClientAnimationPacket.class, ClientAnimationPacket::new);
+            register(nextId(), ClientSpectatePacket.class, ClientSpectatePacket::new);
+            register(nextId(), ClientPlayerBlockPlacementPacket.class, ClientPlayerBlockPlacementPacket::new);
+            register(nextId(), ClientUseItemPacket.class, ClientUseItemPacket::new);
         }
     }
 }
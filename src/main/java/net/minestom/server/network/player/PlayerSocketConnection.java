@@ -1,12 +1,16 @@
 package net.minestom.server.network.player;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.monitoring.metrics.Counter;
+import net.minestom.server.monitoring.metrics.ServerMetrics;
+import net.minestom.server.monitoring.jfr.SocketFlushEvent;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
@@ -34,6 +38,7 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SocketChannel;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.DataFormatException;
 
 /**
@@ -45,6 +50,12 @@ import java.util.zip.DataFormatException;
 public class PlayerSocketConnection extends PlayerConnection {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerSocketConnection.class);
     private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
+    private static final ClassValue<Counter.Child> SENT_PACKETS = new ClassValue<>() {
+        @Override
+        protected Counter.Child computeValue(@NotNull Class<?> type) {
+            return ServerMetrics.PACKETS_SENT.labels(type.getSimpleName());
+        }
+    };
 
     private final Worker worker;
     private final MessagePassingQueue<Runnable> workerQueue;
@@ -67,6 +78,8 @@ public class PlayerSocketConnection extends PlayerConnection {
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
     private BinaryBuffer cacheBuffer;
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
@@ -178,6 +191,29 @@ public class PlayerSocketConnection extends PlayerConnection {
         return remoteAddress;
     }
 
+    /**
+     * Gets the number of bytes read from the socket since the connection started.
+     *
+     * @return the received bytes
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Gets the number of bytes written to the socket since the connection started.
+     *
+     * @return the sent bytes
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @ApiStatus.Internal
+    public void recordBytesReceived(int bytes) {
+        this.bytesReceived.add(bytes);
+    }
+
     /**
      * Changes the internal remote address field.
      * <p>
@@ -303,12 +339,16 @@ public class PlayerSocketConnection extends PlayerConnection {
         if (packet instanceof ServerPacket serverPacket) {
             writeServerPacketSync(serverPacket, compressed);
         } else if (packet instanceof FramedPacket framedPacket) {
+            if (ServerFlag.PACKET_STATISTICS) SENT_PACKETS.get(framedPacket.packet().getClass()).inc();
             var buffer = framedPacket.body();
             writeBufferSync(buffer, 0, buffer.limit());
         } else if (packet instanceof CachedPacket cachedPacket) {
             var buffer = cachedPacket.body(getConnectionState());
-            if (buffer != null) writeBufferSync(buffer, buffer.position(), buffer.remaining());
-            else writeServerPacketSync(cachedPacket.packet(getConnectionState()), compressed);
+            if (buffer != null) {
+                if (ServerFlag.PACKET_STATISTICS)
+                    SENT_PACKETS.get(cachedPacket.packet(getConnectionState()).getClass()).inc();
+                writeBufferSync(buffer, buffer.position(), buffer.remaining());
+            } else writeServerPacketSync(cachedPacket.packet(getConnectionState()), compressed);
         } else if (packet instanceof LazyPacket lazyPacket) {
             writeServerPacketSync(lazyPacket.packet(), compressed);
         } else {
@@ -317,6 +357,7 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     private void writeServerPacketSync(ServerPacket serverPacket, boolean compressed) {
+        if (ServerFlag.PACKET_STATISTICS) SENT_PACKETS.get(serverPacket.getClass()).inc();
         final Player player = getPlayer();
         if (player != null) {
             if (MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION && serverPacket instanceof ServerPacket.ComponentHolding) {
@@ -368,23 +409,53 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     public void flushSync() throws IOException {
+        if (!ServerFlag.JFR_EVENTS) {
+            this.bytesSent.add(writeBuffers());
+            return;
+        }
+        SocketFlushEvent event = new SocketFlushEvent();
+        event.begin();
+        final long written = writeBuffers();
+        event.end();
+        this.bytesSent.add(written);
+        if (event.shouldCommit()) {
+            event.connection = getIdentifier();
+            event.written = written;
+            event.waitingBuffers = waitingBuffers.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes the pending buffers to the socket.
+     *
+     * @return the number of written bytes
+     */
+    private long writeBuffers() throws IOException {
         final SocketChannel channel = this.channel;
         final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
         if (!channel.isConnected()) throw new ClosedChannelException();
         if (waitingBuffers.isEmpty()) {
             BinaryBuffer localBuffer = tickBuffer.getPlain();
             if (localBuffer == null)
-                return; // Socket is closed
+                return 0; // Socket is closed
+            final int start = localBuffer.readerOffset();
             localBuffer.writeChannel(channel);
+            return localBuffer.readerOffset() - start;
         } else {
             // Write as much as possible from the waiting list
+            long written = 0;
             Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
             while (iterator.hasNext()) {
                 BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
+                final int start = waitingBuffer.readerOffset();
+                final boolean complete = waitingBuffer.writeChannel(channel);
+                written += waitingBuffer.readerOffset() - start;
+                if (!complete) break;
                 iterator.remove();
                 POOL.add(waitingBuffer);
             }
+            return written;
         }
     }
 
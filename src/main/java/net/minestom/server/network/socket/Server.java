@@ -123,6 +123,11 @@ public final class Server {
         this.workers.forEach(Worker::close);
     }
 
+    @ApiStatus.Internal
+    public @NotNull List<@NotNull Worker> workers() {
+        return workers;
+    }
+
     @ApiStatus.Internal
     public @NotNull PacketProcessor packetProcessor() {
         return packetProcessor;
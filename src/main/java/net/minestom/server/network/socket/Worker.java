@@ -99,7 +99,7 @@ public final class Worker extends MinestomThread {
                             // Consume last incomplete packet
                             connection.consumeCache(readBuffer);
                             // Read & process
-                            readBuffer.readChannel(channel);
+                            connection.recordBytesReceived(readBuffer.readChannel(channel));
                             connection.processPackets(readBuffer, server.packetProcessor());
                         }
                     } catch (IOException e) {
@@ -31,10 +31,15 @@ import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -45,6 +50,8 @@ import java.util.stream.Collectors;
  * Use at your own risk.
  */
 public final class Registry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Registry.class);
+
     @ApiStatus.Internal
     public static BlockEntry block(String namespace, @NotNull Properties main) {
         return new BlockEntry(namespace, main, null);
@@ -149,16 +156,61 @@ public final class Registry {
         return new GameEventEntry(namespace, properties, null);
     }
 
+    /**
+     * Loads a registry resource, using its precompiled binary version when present
+     * and generated from the same JSON resource.
+     *
+     * @param resource the resource to load
+     * @return the entries of the registry by namespace
+     */
     @ApiStatus.Internal
     public static Map<String, Map<String, Object>> load(Resource resource) {
+        final byte[] json = readResource(resource.name);
+        Check.notNull(json, "Resource {0} does not exist!", resource);
+        final Map<String, Map<String, Object>> binary = loadBinary(resource, json);
+        return binary != null ? binary : parseJson(json);
+    }
+
+    static @Nullable Map<String, Map<String, Object>> loadBinary(Resource resource) {
+        final byte[] json = readResource(resource.name);
+        Check.notNull(json, "Resource {0} does not exist!", resource);
+        return loadBinary(resource, json);
+    }
+
+    private static @Nullable Map<String, Map<String, Object>> loadBinary(Resource resource, byte[] json) {
+        final String binaryName = RegistryBinary.binaryName(resource.name);
+        if (binaryName == null) return null;
+        final byte[] binary = readResource(binaryName);
+        if (binary == null) return null;
+        final Map<String, Map<String, Object>> entries = RegistryBinary.read(ByteBuffer.wrap(binary), RegistryBinary.checksum(json));
+        if (entries == null) {
+            LOGGER.warn("{} was not generated from the {} resource on the classpath, loading the JSON resource", binaryName, resource.name);
+        }
+        return entries;
+    }
+
+    static Map<String, Map<String, Object>> loadJson(Resource resource) {
+        final byte[] json = readResource(resource.name);
+        Check.notNull(json, "Resource {0} does not exist!", resource);
+        return parseJson(json);
+    }
+
+    static byte @Nullable [] readResource(String name) {
+        try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(name)) {
+            return resourceStream != null ? resourceStream.readAllBytes() : null;
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Map<String, Object>> parseJson(byte[] json) {
         Map<String, Map<String, Object>> map = new HashMap<>();
-        try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(resource.name)) {
-            Check.notNull(resourceStream, "Resource {0} does not exist!", resource);
-            try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream))) {
-                reader.beginObject();
-                while (reader.hasNext()) map.put(reader.nextName(), (Map<String, Object>) readObject(reader));
-                reader.endObject();
-            }
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) map.put(reader.nextName(), (Map<String, Object>) readObject(reader));
+            reader.endObject();
         } catch (IOException e) {
             MinecraftServer.getExceptionManager().handleException(e);
         }
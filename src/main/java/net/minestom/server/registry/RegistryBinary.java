@@ -0,0 +1,238 @@
+package net.minestom.server.registry;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary equivalent of the JSON registries, without the tokenization and number parsing.
+ * <p>
+ * The binary resources are generated at build time from the JSON resources of the data artifact
+ * (see the {@code generateRegistryBinaries} Gradle task, which runs {@link #main(String[])}).
+ * Their header stores a checksum of the source JSON resource, a binary resource which does not match
+ * the JSON resource on the classpath is ignored.
+ * <p>
+ * Layout, all counts and string references being var ints:
+ * <pre>
+ * int magic ("MSRG"), int version, int source checksum
+ * string table: count, then for each string its UTF-8 length and bytes
+ * entries: count, then for each entry its namespace reference and value
+ * value: byte tag, followed by
+ *   MAP: size, then key reference and value for each pair
+ *   LIST: size, then each value
+ *   STRING: reference
+ *   LONG: zigzag var long
+ *   DOUBLE: 8 bytes
+ *   TRUE/FALSE: nothing
+ * </pre>
+ * Strings are stored once in the table, every occurrence of a property name or value
+ * shares the same instance once decoded.
+ */
+final class RegistryBinary {
+    static final int MAGIC = 0x4D535247; // MSRG
+    static final int VERSION = 2;
+
+    static final Registry.Resource[] RESOURCES = {Registry.Resource.BLOCKS, Registry.Resource.ITEMS, Registry.Resource.ENTITIES};
+
+    private static final byte MAP = 0, LIST = 1, STRING = 2, LONG = 3, DOUBLE = 4, TRUE = 5, FALSE = 6;
+
+    private RegistryBinary() {
+    }
+
+    /**
+     * Generates the binary version of the {@link #RESOURCES} in a folder.
+     *
+     * @param args the output folder
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: <output folder>");
+            System.exit(1);
+        }
+        final Path folder = Path.of(args[0]);
+        Files.createDirectories(folder);
+        for (Registry.Resource resource : RESOURCES) {
+            final byte[] json = Registry.readResource(resource.fileName());
+            Objects.requireNonNull(json, () -> "Resource " + resource + " does not exist!");
+            final byte[] binary = write(Registry.parseJson(json), checksum(json));
+            Files.write(folder.resolve(binaryName(resource.fileName())), binary);
+        }
+    }
+
+    static @Nullable String binaryName(@NotNull String name) {
+        if (!name.endsWith(".json")) return null;
+        return name.substring(0, name.length() - ".json".length()) + ".bin";
+    }
+
+    static int checksum(byte @NotNull [] json) {
+        CRC32C crc = new CRC32C();
+        crc.update(json);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Decodes a binary registry.
+     *
+     * @param buffer   the binary registry
+     * @param checksum the checksum of the JSON resource the registry must have been generated from
+     * @return the entries by namespace, null if the buffer is not a binary registry of the supported version
+     * or if it was generated from another JSON resource
+     */
+    @SuppressWarnings("unchecked")
+    static @Nullable Map<String, Map<String, Object>> read(@NotNull ByteBuffer buffer, int checksum) {
+        if (buffer.remaining() < 12) return null;
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != checksum) return null;
+        final String[] strings = new String[readVarInt(buffer)];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = readVarInt(buffer);
+            strings[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        final int size = readVarInt(buffer);
+        Map<String, Map<String, Object>> entries = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            final String namespace = strings[readVarInt(buffer)];
+            entries.put(namespace, (Map<String, Object>) readValue(buffer, strings));
+        }
+        return entries;
+    }
+
+    static byte @NotNull [] write(@NotNull Map<String, Map<String, Object>> entries, int checksum) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        collectStrings(entries, strings);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(checksum);
+            writeVarInt(output, strings.size());
+            for (String string : strings.keySet()) {
+                final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(output, utf8.length);
+                output.write(utf8);
+            }
+            writeVarInt(output, entries.size());
+            for (Map.Entry<String, Map<String, Object>> entry : entries.entrySet()) {
+                writeVarInt(output, strings.get(entry.getKey()));
+                writeValue(output, entry.getValue(), strings);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object readValue(ByteBuffer buffer, String[] strings) {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case MAP -> {
+                final int size = readVarInt(buffer);
+                Map<String, Object> map = new HashMap<>(size);
+                for (int i = 0; i < size; i++) {
+                    final String key = strings[readVarInt(buffer)];
+                    map.put(key, readValue(buffer, strings));
+                }
+                yield map;
+            }
+            case LIST -> {
+                final int size = readVarInt(buffer);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(buffer, strings));
+                yield list;
+            }
+            case STRING -> strings[readVarInt(buffer)];
+            case LONG -> {
+                final long zigzag = readVarLong(buffer);
+                yield (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            case DOUBLE -> buffer.getDouble();
+            case TRUE -> true;
+            case FALSE -> false;
+            default -> throw new IllegalStateException("Invalid tag: " + tag);
+        };
+    }
+
+    private static void collectStrings(Object value, Map<String, Integer> strings) {
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                strings.putIfAbsent((String) entry.getKey(), strings.size());
+                collectStrings(entry.getValue(), strings);
+            }
+        } else if (value instanceof List<?> list) {
+            for (Object element : list) collectStrings(element, strings);
+        } else if (value instanceof String string) {
+            strings.putIfAbsent(string, strings.size());
+        }
+    }
+
+    private static void writeValue(DataOutputStream output, Object value, Map<String, Integer> strings) throws IOException {
+        switch (value) {
+            case Map<?, ?> map -> {
+                output.writeByte(MAP);
+                writeVarInt(output, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeVarInt(output, strings.get((String) entry.getKey()));
+                    writeValue(output, entry.getValue(), strings);
+                }
+            }
+            case List<?> list -> {
+                output.writeByte(LIST);
+                writeVarInt(output, list.size());
+                for (Object element : list) writeValue(output, element, strings);
+            }
+            case String string -> {
+                output.writeByte(STRING);
+                writeVarInt(output, strings.get(string));
+            }
+            case Long number -> {
+                output.writeByte(LONG);
+                writeVarLong(output, (number << 1) ^ (number >> 63));
+            }
+            case Double number -> {
+                output.writeByte(DOUBLE);
+                output.writeDouble(number);
+            }
+            case Boolean bool -> output.writeByte(bool ? TRUE : FALSE);
+            default -> throw new IllegalStateException("Unsupported value: " + value);
+        }
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        return (int) readVarLong(buffer);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        writeVarLong(output, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+}
@@ -3,11 +3,17 @@
 package net.minestom.server.snapshot;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.monitoring.TickPhase;
+import net.minestom.server.monitoring.TickProfiler;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnknownNullability;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * Represents the complete state of the server at a given moment.
@@ -24,4 +30,24 @@ public sealed interface ServerSnapshot extends Snapshot
     static ServerSnapshot update() {
         return SnapshotUpdater.update(MinecraftServer.process());
     }
+
+    /**
+     * Takes a snapshot at the end of every tick, once all instances and entities have been ticked.
+     * <p>
+     * Unmodified chunk data is shared between consecutive snapshots, making per-tick snapshots cheap.
+     * The time spent taking the snapshots is recorded as the {@link TickPhase#SNAPSHOT} phase of the tick profiler.
+     *
+     * @param consumer the consumer of each snapshot, called on the tick thread
+     * @return the task taking the snapshots, to cancel in order to stop
+     */
+    @ApiStatus.Experimental
+    static @NotNull Task updateEveryTick(@NotNull Consumer<@NotNull ServerSnapshot> consumer) {
+        final TickProfiler profiler = MinecraftServer.process().tickProfiler();
+        return MinecraftServer.getSchedulerManager().scheduleTask(() -> {
+            final long start = profiler.time();
+            final ServerSnapshot snapshot = update();
+            profiler.nestedPhase(TickPhase.SNAPSHOT, start);
+            consumer.accept(snapshot);
+        }, TaskSchedule.immediate(), TaskSchedule.tick(1), ExecutionType.TICK_END);
+    }
 }
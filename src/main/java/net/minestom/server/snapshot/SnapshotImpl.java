@@ -6,8 +6,8 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.GameMode;
-import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.registry.DynamicRegistry;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.tag.TagReadable;
@@ -78,7 +78,7 @@ public final class SnapshotImpl {
     }
 
     public record Chunk(int minSection, int chunkX, int chunkZ,
-                        Section[] sections,
+                        Palette[] blockPalettes, Palette[] biomePalettes,
                         Int2ObjectOpenHashMap<Block> blockEntries,
                         int[] entitiesIds,
                         AtomicReference<InstanceSnapshot> instanceRef,
@@ -94,16 +94,16 @@ public final class SnapshotImpl {
                 }
             }
             // Retrieve the block from state id
-            final Section section = sections[getChunkCoordinate(y) - minSection];
-            final int blockStateId = section.blockPalette()
+            final Palette palette = blockPalettes[getChunkCoordinate(y) - minSection];
+            final int blockStateId = palette
                     .get(toSectionRelativeCoordinate(x), toSectionRelativeCoordinate(y), toSectionRelativeCoordinate(z));
             return Objects.requireNonNullElse(Block.fromStateId((short) blockStateId), Block.AIR);
         }
 
         @Override
         public @NotNull DynamicRegistry.Key<Biome> getBiome(int x, int y, int z) {
-            final Section section = sections[getChunkCoordinate(y) - minSection];
-            final int id = section.biomePalette()
+            final Palette palette = biomePalettes[getChunkCoordinate(y) - minSection];
+            final int id = palette
                     .get(toSectionRelativeCoordinate(x) / 4, toSectionRelativeCoordinate(y) / 4, toSectionRelativeCoordinate(z) / 4);
             DynamicRegistry.Key<Biome> key = MinecraftServer.getBiomeRegistry().getKey(id);
             Check.notNull(key, "Biome with id {0} is not registered", id);
@@ -1,16 +1,23 @@
-
-
 package net.minestom.server.snapshot;
 
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 final class SnapshotUpdaterImpl implements SnapshotUpdater {
-    private final IdentityHashMap<Snapshotable, AtomicReference<Snapshot>> referenceMap = new IdentityHashMap<>();
-    private IdentityHashMap<Snapshotable, AtomicReference<Snapshot>> readOnlyReferenceMap;
-    private List<Entry> queue = new ArrayList<>();
+    // Below this amount of pending snapshots, the parallel stream overhead is not worth it
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    // Snapshotables are identified by reference, whatever their equals implementation
+    private final Map<IdentityKey, AtomicReference<Snapshot>> referenceMap = new ConcurrentHashMap<>();
+    private final MessagePassingQueue<Entry> queue = new MpscUnboundedArrayQueue<>(64);
 
     static <T extends Snapshot> @NotNull T update(@NotNull Snapshotable snapshotable) {
         var updater = new SnapshotUpdaterImpl();
@@ -21,34 +28,47 @@ final class SnapshotUpdaterImpl implements SnapshotUpdater {
 
     @Override
     public <T extends Snapshot> @NotNull AtomicReference<T> reference(@NotNull Snapshotable snapshotable) {
-        AtomicReference<Snapshot> ref;
         // Very often the same snapshotable is referenced multiple times.
-        var readOnly = this.readOnlyReferenceMap;
-        if (readOnly != null && (ref = readOnly.get(snapshotable)) != null) {
-            return (AtomicReference<T>) ref;
-        }
+        final IdentityKey key = new IdentityKey(snapshotable);
+        AtomicReference<Snapshot> ref = referenceMap.get(key);
+        if (ref != null) return (AtomicReference<T>) ref;
         // If this is a new snapshotable, we need to create a new reference.
-        synchronized (this) {
-            ref = new AtomicReference<>();
-            var prev = referenceMap.putIfAbsent(snapshotable, ref);
-            if (prev != null) return (AtomicReference<T>) prev;
-            this.queue.add(new Entry(snapshotable, ref));
-            return (AtomicReference<T>) ref;
-        }
+        ref = new AtomicReference<>();
+        var prev = referenceMap.putIfAbsent(key, ref);
+        if (prev != null) return (AtomicReference<T>) prev;
+        this.queue.offer(new Entry(snapshotable, ref));
+        return (AtomicReference<T>) ref;
     }
 
     record Entry(Snapshotable snapshotable, AtomicReference<Snapshot> ref) {
     }
 
+    record IdentityKey(Snapshotable snapshotable) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey key && key.snapshotable == snapshotable;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(snapshotable);
+        }
+    }
+
     void update() {
-        List<Entry> temp;
-        while (!(temp = new ArrayList<>(queue)).isEmpty()) {
-            queue = new ArrayList<>();
-            readOnlyReferenceMap = (IdentityHashMap<Snapshotable, AtomicReference<Snapshot>>) referenceMap.clone();
-            temp.parallelStream().forEach(entry -> {
-                Snapshotable snap = entry.snapshotable;
-                entry.ref.set(Objects.requireNonNull(snap.updateSnapshot(this), "Snapshot must not be null after an update!"));
-            });
+        List<Entry> entries = new ArrayList<>();
+        while (queue.drain(entries::add) > 0) {
+            // Updates may reference new snapshotables, processed in the next iteration
+            if (entries.size() < PARALLEL_THRESHOLD) {
+                for (Entry entry : entries) update(entry);
+            } else {
+                entries.parallelStream().forEach(this::update);
+            }
+            entries.clear();
         }
     }
+
+    private void update(Entry entry) {
+        entry.ref.set(Objects.requireNonNull(entry.snapshotable.updateSnapshot(this), "Snapshot must not be null after an update!"));
+    }
 }
@@ -6,6 +6,7 @@ import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.utils.UniqueIdUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Function;
 
@@ -31,7 +32,7 @@ final class Serializers {
     static final Entry<Object, ByteBinaryTag> EMPTY = new Entry<>(BinaryTagTypes.BYTE, unused -> null, component -> null);
 
     static <T> Entry<T, CompoundBinaryTag> fromTagSerializer(TagSerializer<T> serializer) {
-        return new Serializers.Entry<>(BinaryTagTypes.COMPOUND,
+        return new Serializers.Entry<T, CompoundBinaryTag>(BinaryTagTypes.COMPOUND,
                 (CompoundBinaryTag compound) -> {
                     if ((!ServerFlag.SERIALIZE_EMPTY_COMPOUND) && compound.size() == 0) return null;
                     return serializer.read(TagHandler.fromCompound(compound));
@@ -41,10 +42,19 @@ final class Serializers {
                     TagHandler handler = TagHandler.newHandler();
                     serializer.write(handler, value);
                     return handler.asCompound();
-                });
+                }, false, null, serializer);
     }
 
-    record Entry<T, N extends BinaryTag>(BinaryTagType<N> nbtType, Function<N, T> reader, Function<T, N> writer, boolean isPath) {
+    /**
+     * @param element    the serializer of the elements, for list entries
+     * @param serializer the serializer used to write the value in a handler, for structure entries
+     */
+    record Entry<T, N extends BinaryTag>(BinaryTagType<N> nbtType, Function<N, T> reader, Function<T, N> writer, boolean isPath,
+                                         @Nullable Entry<?, ?> element, @Nullable TagSerializer<T> serializer) {
+        Entry(BinaryTagType<N> nbtType, Function<N, T> reader, Function<T, N> writer, boolean isPath) {
+            this(nbtType, reader, writer, isPath, null, null);
+        }
+
         Entry(BinaryTagType<N> nbtType, Function<N, T> reader, Function<T, N> writer) {
             this(nbtType, reader, writer, false);
         }
@@ -127,7 +127,7 @@ public class Tag<T> {
                     final List<BinaryTag> list = write.stream().map(writeFunction).toList();
                     final BinaryTagType<?> type = list.get(0).type();
                     return ListBinaryTag.listBinaryTag(type, list);
-                });
+                }, false, entry, null);
         UnaryOperator<List<T>> co = this.copy != null ? ts -> {
             final int size = ts.size();
             T[] array = (T[]) new Object[size];
@@ -0,0 +1,286 @@
+package net.minestom.server.tag;
+
+import net.kyori.adventure.nbt.*;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.tag.TagHandlerImpl.Entry;
+import net.minestom.server.tag.TagHandlerImpl.Node;
+import net.minestom.server.tag.TagHandlerImpl.NumberEntry;
+import net.minestom.server.tag.TagHandlerImpl.NumberKind;
+import net.minestom.server.utils.nbt.BinaryTagUtil;
+import net.minestom.server.utils.validate.Check;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * Compact binary format of a {@link TagHandlerImpl}, written directly from its nodes.
+ * <p>
+ * A node is a sequence of entries terminated by {@link #END}, each entry being its kind, its key, then its value.
+ * Numbers use variable length zigzag encoding, lists of primitives are written without per-element headers.
+ * Values without a primitive representation fall back to their NBT form, compounds being converted to nodes.
+ * <p>
+ * Decoding creates the same entries as {@link TagNbtSeparator}, so both formats can be used interchangeably.
+ */
+final class TagBinary {
+    private static final byte VERSION = 1;
+
+    private static final byte END = 0;
+    private static final byte BYTE_KIND = 1;
+    private static final byte SHORT_KIND = 2;
+    private static final byte INT_KIND = 3;
+    private static final byte LONG_KIND = 4;
+    private static final byte FLOAT_KIND = 5;
+    private static final byte DOUBLE_KIND = 6;
+    private static final byte STRING_KIND = 7;
+    private static final byte NODE_KIND = 8;
+    private static final byte LIST_KIND = 9;
+    private static final byte NBT_KIND = 10;
+
+    // UTF-8 keys indexed by tag index, avoids encoding the same keys for every handler
+    private static volatile byte[][] encodedKeys = new byte[64][];
+
+    private TagBinary() {
+    }
+
+    static void write(NetworkBuffer buffer, Node root) {
+        buffer.write(BYTE, VERSION);
+        writeNode(buffer, root);
+    }
+
+    static void read(NetworkBuffer buffer, TagHandlerImpl handler) {
+        final byte version = buffer.read(BYTE);
+        Check.argCondition(version != VERSION, "Unsupported tag format version {0}", version);
+        readNode(buffer, handler, handler.root);
+    }
+
+    private static void writeNode(NetworkBuffer buffer, Node node) {
+        node.entries.forValues(entry -> writeEntry(buffer, entry));
+        buffer.write(BYTE, END);
+    }
+
+    private static void writeEntry(NetworkBuffer buffer, Entry<?> entry) {
+        final Tag<?> tag = entry.tag;
+        final Serializers.Entry<?, ?> serializer = tag.entry;
+        if (serializer.isPath()) {
+            writeHeader(buffer, NODE_KIND, tag);
+            writeNode(buffer, (Node) entry.value);
+            return;
+        }
+        if (entry instanceof NumberEntry<?> numberEntry) {
+            // Avoid boxing the current value
+            final long bits = numberEntry.bits;
+            switch (numberEntry.kind) {
+                case INT -> {
+                    writeHeader(buffer, INT_KIND, tag);
+                    buffer.write(VAR_INT, zigzag((int) bits));
+                }
+                case LONG -> {
+                    writeHeader(buffer, LONG_KIND, tag);
+                    buffer.write(VAR_LONG, zigzag(bits));
+                }
+                case DOUBLE -> {
+                    writeHeader(buffer, DOUBLE_KIND, tag);
+                    buffer.write(DOUBLE, Double.longBitsToDouble(bits));
+                }
+            }
+            return;
+        }
+
+        final Object value = entry.value();
+        final byte kind = kind(serializer);
+        if (kind != NBT_KIND) {
+            writeHeader(buffer, kind, tag);
+            writeValue(buffer, kind, value);
+            return;
+        }
+        final Serializers.Entry<?, ?> element = serializer.element();
+        final byte elementKind;
+        if (element != null && (elementKind = kind(element)) != NBT_KIND) {
+            final List<?> list = (List<?>) value;
+            writeHeader(buffer, LIST_KIND, tag);
+            buffer.write(BYTE, elementKind);
+            buffer.write(VAR_INT, list.size());
+            for (Object elementValue : list) writeValue(buffer, elementKind, elementValue);
+            return;
+        }
+        final TagSerializer<Object> tagSerializer = (TagSerializer<Object>) serializer.serializer();
+        if (tagSerializer != null) {
+            // Write the structure in a temporary handler instead of converting it to NBT
+            TagHandlerImpl handler = new TagHandlerImpl();
+            tagSerializer.write(handler, value);
+            writeHeader(buffer, NODE_KIND, tag);
+            writeNode(buffer, handler.root);
+            return;
+        }
+        final BinaryTag nbt = entry.updatedNbt();
+        if (nbt != null) writeNbt(buffer, tag.getKey(), nbt);
+    }
+
+    private static void writeNbt(NetworkBuffer buffer, String key, BinaryTag nbt) {
+        final byte kind = kind(nbt.type());
+        if (kind != NBT_KIND) {
+            writeHeader(buffer, kind, key);
+            writeValue(buffer, kind, BinaryTagUtil.nbtValueFromTag(nbt));
+        } else if (nbt instanceof CompoundBinaryTag compound) {
+            writeHeader(buffer, NODE_KIND, key);
+            for (var entry : compound) writeNbt(buffer, entry.getKey(), entry.getValue());
+            buffer.write(BYTE, END);
+        } else if (nbt instanceof ListBinaryTag list && list.size() > 0 && kind(list.elementType()) != NBT_KIND) {
+            final byte elementKind = kind(list.elementType());
+            writeHeader(buffer, LIST_KIND, key);
+            buffer.write(BYTE, elementKind);
+            buffer.write(VAR_INT, list.size());
+            for (BinaryTag element : list) writeValue(buffer, elementKind, BinaryTagUtil.nbtValueFromTag(element));
+        } else {
+            writeHeader(buffer, NBT_KIND, key);
+            buffer.write(NBT, nbt);
+        }
+    }
+
+    private static void writeHeader(NetworkBuffer buffer, byte kind, Tag<?> tag) {
+        buffer.write(BYTE, kind);
+        final byte[] key = encodedKey(tag);
+        buffer.write(VAR_INT, key.length);
+        buffer.write(RAW_BYTES, key);
+    }
+
+    private static void writeHeader(NetworkBuffer buffer, byte kind, String key) {
+        buffer.write(BYTE, kind);
+        buffer.write(STRING, key);
+    }
+
+    private static byte[] encodedKey(Tag<?> tag) {
+        final int index = tag.index;
+        byte[][] keys = encodedKeys;
+        byte[] key;
+        if (index < keys.length && (key = keys[index]) != null) return key;
+        synchronized (TagBinary.class) {
+            keys = encodedKeys;
+            if (index >= keys.length) keys = Arrays.copyOf(keys, Math.max(index + 1, keys.length * 2));
+            else keys = keys.clone();
+            keys[index] = key = tag.getKey().getBytes(StandardCharsets.UTF_8);
+            encodedKeys = keys;
+        }
+        return key;
+    }
+
+    private static void writeValue(NetworkBuffer buffer, byte kind, Object value) {
+        switch (kind) {
+            case BYTE_KIND -> buffer.write(BYTE, value instanceof Boolean bool ? (byte) (bool ? 1 : 0) : (Byte) value);
+            case SHORT_KIND -> buffer.write(SHORT, (Short) value);
+            case INT_KIND -> buffer.write(VAR_INT, zigzag((Integer) value));
+            case LONG_KIND -> buffer.write(VAR_LONG, zigzag((Long) value));
+            case FLOAT_KIND -> buffer.write(FLOAT, (Float) value);
+            case DOUBLE_KIND -> buffer.write(DOUBLE, (Double) value);
+            case STRING_KIND -> buffer.write(STRING, (String) value);
+            default -> throw new IllegalStateException("Not a primitive kind: " + kind);
+        }
+    }
+
+    private static int readNode(NetworkBuffer buffer, TagHandlerImpl handler, Node node) {
+        int count = 0;
+        byte kind;
+        while ((kind = buffer.read(BYTE)) != END) {
+            final String key = buffer.read(STRING);
+            final Entry<?> entry = switch (kind) {
+                case NODE_KIND -> {
+                    Node child = handler.new Node(node);
+                    // Empty compounds are not kept, similarly to TagNbtSeparator
+                    yield readNode(buffer, handler, child) > 0 ? Entry.makePathEntry(key, child) : null;
+                }
+                case LIST_KIND -> readList(buffer, key);
+                case NBT_KIND -> {
+                    final var nbtEntry = TagNbtSeparator.separateSingle(key, buffer.read(NBT));
+                    yield new Entry<>(nbtEntry.tag(), nbtEntry.value());
+                }
+                case INT_KIND -> NumberEntry.fromBits(Tag.Integer(key), NumberKind.INT, unzigzag(buffer.read(VAR_INT)));
+                case LONG_KIND -> NumberEntry.fromBits(Tag.Long(key), NumberKind.LONG, unzigzag(buffer.read(VAR_LONG)));
+                case DOUBLE_KIND -> NumberEntry.fromBits(Tag.Double(key), NumberKind.DOUBLE,
+                        Double.doubleToRawLongBits(buffer.read(DOUBLE)));
+                default -> new Entry<>((Tag<Object>) primitiveTag(kind, key), readValue(buffer, kind));
+            };
+            if (entry != null) {
+                node.entries.put(entry.tag.index, entry);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Entry<?> readList(NetworkBuffer buffer, String key) {
+        final byte elementKind = buffer.read(BYTE);
+        final int size = buffer.read(VAR_INT);
+        Check.argCondition(size < 0 || size > buffer.readableBytes(), "Invalid list size {0}", size);
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) values[i] = readValue(buffer, elementKind);
+        final Tag<List<Object>> tag = ((Tag<Object>) primitiveTag(elementKind, key)).list();
+        return new Entry<>(tag, List.of(values));
+    }
+
+    private static Object readValue(NetworkBuffer buffer, byte kind) {
+        return switch (kind) {
+            case BYTE_KIND -> buffer.read(BYTE);
+            case SHORT_KIND -> buffer.read(SHORT);
+            case INT_KIND -> (int) unzigzag(buffer.read(VAR_INT));
+            case LONG_KIND -> unzigzag(buffer.read(VAR_LONG));
+            case FLOAT_KIND -> buffer.read(FLOAT);
+            case DOUBLE_KIND -> buffer.read(DOUBLE);
+            case STRING_KIND -> buffer.read(STRING);
+            default -> throw new IllegalArgumentException("Invalid tag kind " + kind);
+        };
+    }
+
+    private static Tag<?> primitiveTag(byte kind, String key) {
+        return switch (kind) {
+            case BYTE_KIND -> Tag.Byte(key);
+            case SHORT_KIND -> Tag.Short(key);
+            case INT_KIND -> Tag.Integer(key);
+            case LONG_KIND -> Tag.Long(key);
+            case FLOAT_KIND -> Tag.Float(key);
+            case DOUBLE_KIND -> Tag.Double(key);
+            case STRING_KIND -> Tag.String(key);
+            default -> throw new IllegalArgumentException("Invalid tag kind " + kind);
+        };
+    }
+
+    private static byte kind(Serializers.Entry<?, ?> entry) {
+        if (entry == Serializers.BYTE || entry == Serializers.BOOLEAN) return BYTE_KIND;
+        if (entry == Serializers.SHORT) return SHORT_KIND;
+        if (entry == Serializers.INT) return INT_KIND;
+        if (entry == Serializers.LONG) return LONG_KIND;
+        if (entry == Serializers.FLOAT) return FLOAT_KIND;
+        if (entry == Serializers.DOUBLE) return DOUBLE_KIND;
+        if (entry == Serializers.STRING) return STRING_KIND;
+        return NBT_KIND;
+    }
+
+    private static byte kind(BinaryTagType<?> type) {
+        if (type == BinaryTagTypes.BYTE) return BYTE_KIND;
+        if (type == BinaryTagTypes.SHORT) return SHORT_KIND;
+        if (type == BinaryTagTypes.INT) return INT_KIND;
+        if (type == BinaryTagTypes.LONG) return LONG_KIND;
+        if (type == BinaryTagTypes.FLOAT) return FLOAT_KIND;
+        if (type == BinaryTagTypes.DOUBLE) return DOUBLE_KIND;
+        if (type == BinaryTagTypes.STRING) return STRING_KIND;
+        return NBT_KIND;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
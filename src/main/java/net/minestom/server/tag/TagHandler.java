@@ -1,6 +1,7 @@
 package net.minestom.server.tag;
 
 import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.network.NetworkBuffer;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -44,6 +45,17 @@ public interface TagHandler extends TagReadable, TagWritable {
      */
     @NotNull CompoundBinaryTag asCompound();
 
+    /**
+     * Writes the content of this handler using a compact binary format.
+     * <p>
+     * Unlike {@link #asCompound()}, values are streamed directly into the buffer without creating
+     * a {@link CompoundBinaryTag} tree. Use on a {@link #copy()} to persist a snapshot.
+     *
+     * @param buffer the buffer to write to, see {@link NetworkBuffer#NetworkBuffer(java.nio.ByteBuffer)}
+     * @see #fromBinary(NetworkBuffer)
+     */
+    void writeBinary(@NotNull NetworkBuffer buffer);
+
     static @NotNull TagHandler newHandler() {
         return new TagHandlerImpl();
     }
@@ -57,4 +69,17 @@ public interface TagHandler extends TagReadable, TagWritable {
     static @NotNull TagHandler fromCompound(@NotNull CompoundBinaryTag compound) {
         return TagHandlerImpl.fromCompound(compound);
     }
+
+    /**
+     * Reads a {@link TagHandler} written using {@link #writeBinary(NetworkBuffer)}.
+     * <p>
+     * The result has the same content as {@link #fromCompound(CompoundBinaryTag)} with the equivalent compound.
+     *
+     * @param buffer the buffer to read from
+     * @return a new tag handler with the content of the buffer
+     * @throws IllegalArgumentException if the content was written using an unsupported format version
+     */
+    static @NotNull TagHandler fromBinary(@NotNull NetworkBuffer buffer) {
+        return TagHandlerImpl.fromBinary(buffer);
+    }
 }
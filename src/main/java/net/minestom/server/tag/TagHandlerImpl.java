@@ -4,12 +4,17 @@ import net.kyori.adventure.nbt.BinaryTag;
 import net.kyori.adventure.nbt.BinaryTagType;
 import net.kyori.adventure.nbt.BinaryTagTypes;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.DoubleBinaryTag;
+import net.kyori.adventure.nbt.IntBinaryTag;
+import net.kyori.adventure.nbt.LongBinaryTag;
 import net.minestom.server.ServerFlag;
+import net.minestom.server.network.NetworkBuffer;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.Map;
 import java.util.function.UnaryOperator;
@@ -17,7 +22,7 @@ import java.util.function.UnaryOperator;
 final class TagHandlerImpl implements TagHandler {
     static final Serializers.Entry<Node, CompoundBinaryTag> NODE_SERIALIZER = new Serializers.Entry<>(BinaryTagTypes.COMPOUND, entries -> fromCompound(entries).root, Node::compound, true);
 
-    private final Node root;
+    final Node root;
     private volatile Node copy;
 
     TagHandlerImpl(Node root) {
@@ -28,6 +33,12 @@ final class TagHandlerImpl implements TagHandler {
         this.root = new Node();
     }
 
+    static TagHandlerImpl fromBinary(NetworkBuffer buffer) {
+        TagHandlerImpl handler = new TagHandlerImpl();
+        TagBinary.read(buffer, handler);
+        return handler;
+    }
+
     static TagHandlerImpl fromCompound(CompoundBinaryTag compound) {
         TagHandlerImpl handler = new TagHandlerImpl();
         TagNbtSeparator.separate(compound, entry -> handler.setTag(entry.tag(), entry.value()));
@@ -115,9 +126,24 @@ final class TagHandlerImpl implements TagHandler {
         StaticIntMap<Entry<?>> entries = node.entries;
 
         final Entry previousEntry = entries.get(tagIndex);
+        if (previousEntry instanceof NumberEntry numberEntry && previousEntry.tag.shareValue(tag)) {
+            // Unboxed entries can be modified without the lock, retry until no other update happened
+            while (true) {
+                final long bits = numberEntry.bits;
+                final T previousValue = (T) numberEntry.decode(bits);
+                final T newValue = value.apply(previousValue);
+                if (newValue == null) {
+                    entries.remove(tagIndex);
+                } else if (!NumberEntry.BITS.compareAndSet(numberEntry, bits, NumberEntry.toBits(numberEntry.kind, newValue))) {
+                    continue;
+                }
+                node.invalidate();
+                return returnPrevious ? previousValue : newValue;
+            }
+        }
         final T previousValue;
         if (previousEntry != null) {
-            final Object previousTmp = previousEntry.value;
+            final Object previousTmp = previousEntry.value();
             if (previousTmp instanceof Node n) {
                 final CompoundBinaryTag compound = CompoundBinaryTag.from(Map.of(tag.getKey(), n.compound()));
                 previousValue = tag.read(compound);
@@ -135,6 +161,196 @@ final class TagHandlerImpl implements TagHandler {
         return returnPrevious ? previousValue : newValue;
     }
 
+    @Override
+    public int getInt(@NotNull Tag<Integer> tag) {
+        if (NumberKind.of(tag) != NumberKind.INT) return TagHandler.super.getInt(tag);
+        final Entry<?> entry = readEntry(tag);
+        if (entry == null) return defaultNumber(tag).intValue();
+        if (entry instanceof NumberEntry<?> numberEntry && entry.tag.shareValue(tag)) return (int) numberEntry.bits;
+        return TagHandler.super.getInt(tag);
+    }
+
+    @Override
+    public long getLong(@NotNull Tag<Long> tag) {
+        if (NumberKind.of(tag) != NumberKind.LONG) return TagHandler.super.getLong(tag);
+        final Entry<?> entry = readEntry(tag);
+        if (entry == null) return defaultNumber(tag).longValue();
+        if (entry instanceof NumberEntry<?> numberEntry && entry.tag.shareValue(tag)) return numberEntry.bits;
+        return TagHandler.super.getLong(tag);
+    }
+
+    @Override
+    public double getDouble(@NotNull Tag<Double> tag) {
+        if (NumberKind.of(tag) != NumberKind.DOUBLE) return TagHandler.super.getDouble(tag);
+        final Entry<?> entry = readEntry(tag);
+        if (entry == null) return defaultNumber(tag).doubleValue();
+        if (entry instanceof NumberEntry<?> numberEntry && entry.tag.shareValue(tag))
+            return Double.longBitsToDouble(numberEntry.bits);
+        return TagHandler.super.getDouble(tag);
+    }
+
+    @Override
+    public void setInt(@NotNull Tag<Integer> tag, int value) {
+        if (NumberKind.of(tag) != NumberKind.INT) {
+            TagHandler.super.setInt(tag, value);
+            return;
+        }
+        setBits(tag, value);
+    }
+
+    @Override
+    public void setLong(@NotNull Tag<Long> tag, long value) {
+        if (NumberKind.of(tag) != NumberKind.LONG) {
+            TagHandler.super.setLong(tag, value);
+            return;
+        }
+        setBits(tag, value);
+    }
+
+    @Override
+    public void setDouble(@NotNull Tag<Double> tag, double value) {
+        if (NumberKind.of(tag) != NumberKind.DOUBLE) {
+            TagHandler.super.setDouble(tag, value);
+            return;
+        }
+        setBits(tag, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public int addAndGetInt(@NotNull Tag<Integer> tag, int delta) {
+        if (NumberKind.of(tag) != NumberKind.INT) return TagHandler.super.addAndGetInt(tag, delta);
+        final Node node = writeNode(tag);
+        // Upper bits are ignored when reading, the addition wraps like an int
+        final long previous = (long) NumberEntry.BITS.getAndAdd(numberEntry(node, tag), (long) delta);
+        node.invalidate();
+        return (int) previous + delta;
+    }
+
+    @Override
+    public long addAndGetLong(@NotNull Tag<Long> tag, long delta) {
+        if (NumberKind.of(tag) != NumberKind.LONG) return TagHandler.super.addAndGetLong(tag, delta);
+        final Node node = writeNode(tag);
+        final long previous = (long) NumberEntry.BITS.getAndAdd(numberEntry(node, tag), delta);
+        node.invalidate();
+        return previous + delta;
+    }
+
+    @Override
+    public double addAndGetDouble(@NotNull Tag<Double> tag, double delta) {
+        if (NumberKind.of(tag) != NumberKind.DOUBLE) return TagHandler.super.addAndGetDouble(tag, delta);
+        final Node node = writeNode(tag);
+        final NumberEntry<?> entry = numberEntry(node, tag);
+        double result;
+        long bits;
+        do {
+            bits = entry.bits;
+            result = Double.longBitsToDouble(bits) + delta;
+        } while (!NumberEntry.BITS.weakCompareAndSet(entry, bits, Double.doubleToRawLongBits(result)));
+        node.invalidate();
+        return result;
+    }
+
+    @Override
+    public boolean compareAndSetInt(@NotNull Tag<Integer> tag, int expected, int value) {
+        if (NumberKind.of(tag) != NumberKind.INT) return TagHandler.super.compareAndSetInt(tag, expected, value);
+        if (failsWhenAbsent(tag, expected)) return false;
+        final Node node = writeNode(tag);
+        final NumberEntry<?> entry = numberEntry(node, tag);
+        long bits;
+        do {
+            bits = entry.bits;
+            if ((int) bits != expected) return false;
+        } while (!NumberEntry.BITS.compareAndSet(entry, bits, (long) value));
+        node.invalidate();
+        return true;
+    }
+
+    @Override
+    public boolean compareAndSetLong(@NotNull Tag<Long> tag, long expected, long value) {
+        if (NumberKind.of(tag) != NumberKind.LONG) return TagHandler.super.compareAndSetLong(tag, expected, value);
+        return compareAndSetBits(tag, expected, value);
+    }
+
+    @Override
+    public boolean compareAndSetDouble(@NotNull Tag<Double> tag, double expected, double value) {
+        if (NumberKind.of(tag) != NumberKind.DOUBLE) return TagHandler.super.compareAndSetDouble(tag, expected, value);
+        return compareAndSetBits(tag, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(value));
+    }
+
+    private static Number defaultNumber(Tag<? extends Number> tag) {
+        final Number value = tag.createDefault();
+        return value != null ? value : 0;
+    }
+
+    private @Nullable Entry<?> readEntry(Tag<?> tag) {
+        VarHandle.fullFence();
+        final Node node = traversePathRead(root, tag);
+        return node != null ? node.entries.get(tag.index) : null;
+    }
+
+    private Node writeNode(Tag<?> tag) {
+        VarHandle.fullFence();
+        return traversePathWrite(root, tag, true);
+    }
+
+    /**
+     * Retrieves the unboxed entry of a number tag, converting the current entry if needed.
+     */
+    private <T> NumberEntry<T> numberEntry(Node node, Tag<T> tag) {
+        final int tagIndex = tag.index;
+        if (node.entries.get(tagIndex) instanceof NumberEntry<?> entry && entry.tag.shareValue(tag)) {
+            //noinspection unchecked
+            return (NumberEntry<T>) entry;
+        }
+        synchronized (this) {
+            final Entry<?> previous = node.entries.get(tagIndex);
+            if (previous instanceof NumberEntry<?> entry && entry.tag.shareValue(tag)) {
+                //noinspection unchecked
+                return (NumberEntry<T>) entry;
+            }
+            // Absent or written using another tag, start from the current value
+            final T value = node.getTag(tag);
+            final NumberEntry<T> entry = new NumberEntry<>(tag, NumberKind.of(tag), value);
+            node.entries.put(tagIndex, entry);
+            return entry;
+        }
+    }
+
+    /**
+     * Checks if a compare and set fails because the tag is absent and {@code expectedBits} is not its default value,
+     * in which case nothing must be written.
+     */
+    private boolean failsWhenAbsent(Tag<? extends Number> tag, long expectedBits) {
+        if (readEntry(tag) != null) return false;
+        final Number defaultValue = defaultNumber(tag);
+        final long defaultBits = switch (NumberKind.of(tag)) {
+            case INT -> defaultValue.intValue();
+            case LONG -> defaultValue.longValue();
+            case DOUBLE -> Double.doubleToRawLongBits(defaultValue.doubleValue());
+        };
+        return defaultBits != expectedBits;
+    }
+
+    private void setBits(Tag<?> tag, long bits) {
+        final Node node = writeNode(tag);
+        NumberEntry.BITS.setVolatile(numberEntry(node, tag), bits);
+        node.invalidate();
+    }
+
+    private boolean compareAndSetBits(Tag<? extends Number> tag, long expected, long value) {
+        if (failsWhenAbsent(tag, expected)) return false;
+        final Node node = writeNode(tag);
+        if (!NumberEntry.BITS.compareAndSet(numberEntry(node, tag), expected, value)) return false;
+        node.invalidate();
+        return true;
+    }
+
+    @Override
+    public void writeBinary(@NotNull NetworkBuffer buffer) {
+        VarHandle.fullFence();
+        TagBinary.write(buffer, root);
+    }
+
     @Override
     public @NotNull TagReadable readableCopy() {
         Node copy = this.copy;
@@ -222,6 +438,8 @@ final class TagHandlerImpl implements TagHandler {
                 final var nbtEntry = TagNbtSeparator.separateSingle(tag.getKey(), nbt);
                 return new Entry<>(nbtEntry.tag(), nbtEntry.value());
             }
+        } else if (NumberKind.of(tag) != null) {
+            return new NumberEntry<>(tag, NumberKind.of(tag), value);
         } else {
             return new Entry<>(tag, tag.copyValue(value));
         }
@@ -260,7 +478,7 @@ final class TagHandlerImpl implements TagHandler {
                 // The tag used to write the entry is compatible with the one used to get
                 // return the value directly
                 //noinspection unchecked
-                return (T) entry.value;
+                return (T) entry.value();
             }
             // Value must be parsed from nbt if the tag is different
             final BinaryTag nbt = entry.updatedNbt();
@@ -298,7 +516,7 @@ final class TagHandlerImpl implements TagHandler {
             StaticIntMap<Entry<?>> entries = result.entries;
             this.entries.forValues(entry -> {
                 Tag tag = entry.tag;
-                Object value = entry.value;
+                Object value = entry.value();
                 BinaryTag nbt;
                 if (value instanceof Node node) {
                     Node copy = node.copy(result);
@@ -330,8 +548,8 @@ final class TagHandlerImpl implements TagHandler {
         }
     }
 
-    private static final class Entry<T> {
-        private final Tag<T> tag;
+    static class Entry<T> {
+        final Tag<T> tag;
         T value;
         BinaryTag nbt;
 
@@ -348,6 +566,10 @@ final class TagHandlerImpl implements TagHandler {
             return makePathEntry(tag.getKey(), node);
         }
 
+        T value() {
+            return value;
+        }
+
         BinaryTag updatedNbt() {
             if (tag.entry.isPath()) return ((Node) value).compound();
             BinaryTag nbt = this.nbt;
@@ -372,4 +594,95 @@ final class TagHandlerImpl implements TagHandler {
             return null;
         }
     }
+
+    enum NumberKind {
+        INT, LONG, DOUBLE;
+
+        static @Nullable NumberKind of(@NotNull Tag<?> tag) {
+            final Object entry = tag.entry;
+            if (entry == Serializers.INT) return INT;
+            if (entry == Serializers.LONG) return LONG;
+            if (entry == Serializers.DOUBLE) return DOUBLE;
+            return null;
+        }
+    }
+
+    /**
+     * Entry of an int, long or double tag, stored unboxed to allow lock-free updates.
+     * <p>
+     * {@link #value} contains the last boxed value, reused as long as it matches {@link #bits}.
+     */
+    static final class NumberEntry<T> extends Entry<T> {
+        static final VarHandle BITS;
+
+        static {
+            try {
+                BITS = MethodHandles.lookup().findVarHandle(NumberEntry.class, "bits", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final NumberKind kind;
+        volatile long bits;
+
+        NumberEntry(Tag<T> tag, NumberKind kind, @Nullable T value) {
+            super(tag, null);
+            this.kind = kind;
+            this.bits = toBits(kind, value);
+        }
+
+        static <T> NumberEntry<T> fromBits(Tag<T> tag, NumberKind kind, long bits) {
+            NumberEntry<T> entry = new NumberEntry<>(tag, kind, null);
+            entry.bits = bits;
+            return entry;
+        }
+
+        @Override
+        T value() {
+            final long bits = this.bits;
+            T value = this.value;
+            if (value == null || toBits(kind, value) != normalize(kind, bits)) {
+                //noinspection unchecked
+                this.value = value = (T) decode(bits);
+            }
+            return value;
+        }
+
+        Object decode(long bits) {
+            return switch (kind) {
+                case INT -> (int) bits;
+                case LONG -> bits;
+                case DOUBLE -> Double.longBitsToDouble(bits);
+            };
+        }
+
+        @Override
+        BinaryTag updatedNbt() {
+            final long bits = this.bits;
+            return switch (kind) {
+                case INT -> IntBinaryTag.intBinaryTag((int) bits);
+                case LONG -> LongBinaryTag.longBinaryTag(bits);
+                case DOUBLE -> DoubleBinaryTag.doubleBinaryTag(Double.longBitsToDouble(bits));
+            };
+        }
+
+        @Override
+        void updateValue(T value) {
+            this.bits = toBits(kind, value);
+        }
+
+        static long toBits(NumberKind kind, @Nullable Object value) {
+            if (value == null) return 0;
+            return switch (kind) {
+                case INT -> (Integer) value;
+                case LONG -> (Long) value;
+                case DOUBLE -> Double.doubleToRawLongBits((Double) value);
+            };
+        }
+
+        private static long normalize(NumberKind kind, long bits) {
+            return kind == NumberKind.INT ? (int) bits : bits;
+        }
+    }
 }
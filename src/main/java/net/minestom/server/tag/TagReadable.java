@@ -26,4 +26,37 @@ public interface TagReadable {
     default boolean hasTag(@NotNull Tag<?> tag) {
         return getTag(tag) != null;
     }
+
+    /**
+     * Reads the specified tag without boxing its value when possible.
+     *
+     * @param tag the tag to read
+     * @return the read tag, 0 if not present and without default value
+     */
+    default int getInt(@NotNull Tag<Integer> tag) {
+        final Integer value = getTag(tag);
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Reads the specified tag without boxing its value when possible.
+     *
+     * @param tag the tag to read
+     * @return the read tag, 0 if not present and without default value
+     */
+    default long getLong(@NotNull Tag<Long> tag) {
+        final Long value = getTag(tag);
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Reads the specified tag without boxing its value when possible.
+     *
+     * @param tag the tag to read
+     * @return the read tag, 0 if not present and without default value
+     */
+    default double getDouble(@NotNull Tag<Double> tag) {
+        final Double value = getTag(tag);
+        return value != null ? value : 0;
+    }
 }
@@ -42,4 +42,116 @@ public interface TagWritable extends TagReadable {
 
     <T> @UnknownNullability T getAndUpdateTag(@NotNull Tag<T> tag,
                                               @NotNull UnaryOperator<@UnknownNullability T> value);
+
+    /**
+     * Writes the specified tag without boxing its value when possible.
+     *
+     * @param tag   the tag to write
+     * @param value the tag value
+     */
+    default void setInt(@NotNull Tag<Integer> tag, int value) {
+        setTag(tag, value);
+    }
+
+    /**
+     * Atomically adds {@code delta} to the current value.
+     * <p>
+     * An absent tag is considered equal to its default value, or 0 without default value.
+     *
+     * @param tag   the tag to update
+     * @param delta the value to add
+     * @return the updated value
+     */
+    default int addAndGetInt(@NotNull Tag<Integer> tag, int delta) {
+        return updateAndGetTag(tag, value -> (value != null ? value : 0) + delta);
+    }
+
+    /**
+     * Atomically sets the value to {@code value} if the current value is {@code expected}.
+     * <p>
+     * An absent tag is considered equal to its default value, or 0 without default value.
+     *
+     * @param tag      the tag to update
+     * @param expected the expected value
+     * @param value    the new value
+     * @return true if successful, false if the current value was not equal to {@code expected}
+     */
+    default boolean compareAndSetInt(@NotNull Tag<Integer> tag, int expected, int value) {
+        final Integer previous = getAndUpdateTag(tag, current -> (current != null ? current : 0) == expected ? value : current);
+        return (previous != null ? previous : 0) == expected;
+    }
+
+    /**
+     * Writes the specified tag without boxing its value when possible.
+     *
+     * @param tag   the tag to write
+     * @param value the tag value
+     */
+    default void setLong(@NotNull Tag<Long> tag, long value) {
+        setTag(tag, value);
+    }
+
+    /**
+     * Atomically adds {@code delta} to the current value.
+     *
+     * @param tag   the tag to update
+     * @param delta the value to add
+     * @return the updated value
+     * @see #addAndGetInt(Tag, int)
+     */
+    default long addAndGetLong(@NotNull Tag<Long> tag, long delta) {
+        return updateAndGetTag(tag, value -> (value != null ? value : 0) + delta);
+    }
+
+    /**
+     * Atomically sets the value to {@code value} if the current value is {@code expected}.
+     *
+     * @param tag      the tag to update
+     * @param expected the expected value
+     * @param value    the new value
+     * @return true if successful, false if the current value was not equal to {@code expected}
+     * @see #compareAndSetInt(Tag, int, int)
+     */
+    default boolean compareAndSetLong(@NotNull Tag<Long> tag, long expected, long value) {
+        final Long previous = getAndUpdateTag(tag, current -> (current != null ? current : 0) == expected ? value : current);
+        return (previous != null ? previous : 0) == expected;
+    }
+
+    /**
+     * Writes the specified tag without boxing its value when possible.
+     *
+     * @param tag   the tag to write
+     * @param value the tag value
+     */
+    default void setDouble(@NotNull Tag<Double> tag, double value) {
+        setTag(tag, value);
+    }
+
+    /**
+     * Atomically adds {@code delta} to the current value.
+     *
+     * @param tag   the tag to update
+     * @param delta the value to add
+     * @return the updated value
+     * @see #addAndGetInt(Tag, int)
+     */
+    default double addAndGetDouble(@NotNull Tag<Double> tag, double delta) {
+        return updateAndGetTag(tag, value -> (value != null ? value : 0) + delta);
+    }
+
+    /**
+     * Atomically sets the value to {@code value} if the current value is bitwise equal to {@code expected}.
+     *
+     * @param tag      the tag to update
+     * @param expected the expected value
+     * @param value    the new value
+     * @return true if successful, false if the current value was not equal to {@code expected}
+     * @see #compareAndSetInt(Tag, int, int)
+     */
+    default boolean compareAndSetDouble(@NotNull Tag<Double> tag, double expected, double value) {
+        final long expectedBits = Double.doubleToRawLongBits(expected);
+        final Double previous = getAndUpdateTag(tag, current ->
+                Double.doubleToRawLongBits(current != null ? current : 0) == expectedBits ? value : current);
+        return Double.doubleToRawLongBits(previous != null ? previous : 0) == expectedBits;
+    }
 }
@@ -49,4 +49,64 @@ public interface Taggable extends TagReadable, TagWritable {
     default <T> @UnknownNullability T getAndUpdateTag(@NotNull Tag<T> tag, @NotNull UnaryOperator<@UnknownNullability T> value) {
         return tagHandler().getAndUpdateTag(tag, value);
     }
+
+    @Override
+    default int getInt(@NotNull Tag<Integer> tag) {
+        return tagHandler().getInt(tag);
+    }
+
+    @Override
+    default long getLong(@NotNull Tag<Long> tag) {
+        return tagHandler().getLong(tag);
+    }
+
+    @Override
+    default double getDouble(@NotNull Tag<Double> tag) {
+        return tagHandler().getDouble(tag);
+    }
+
+    @Override
+    default void setInt(@NotNull Tag<Integer> tag, int value) {
+        tagHandler().setInt(tag, value);
+    }
+
+    @Override
+    default int addAndGetInt(@NotNull Tag<Integer> tag, int delta) {
+        return tagHandler().addAndGetInt(tag, delta);
+    }
+
+    @Override
+    default boolean compareAndSetInt(@NotNull Tag<Integer> tag, int expected, int value) {
+        return tagHandler().compareAndSetInt(tag, expected, value);
+    }
+
+    @Override
+    default void setLong(@NotNull Tag<Long> tag, long value) {
+        tagHandler().setLong(tag, value);
+    }
+
+    @Override
+    default long addAndGetLong(@NotNull Tag<Long> tag, long delta) {
+        return tagHandler().addAndGetLong(tag, delta);
+    }
+
+    @Override
+    default boolean compareAndSetLong(@NotNull Tag<Long> tag, long expected, long value) {
+        return tagHandler().compareAndSetLong(tag, expected, value);
+    }
+
+    @Override
+    default void setDouble(@NotNull Tag<Double> tag, double value) {
+        tagHandler().setDouble(tag, value);
+    }
+
+    @Override
+    default double addAndGetDouble(@NotNull Tag<Double> tag, double delta) {
+        return tagHandler().addAndGetDouble(tag, delta);
+    }
+
+    @Override
+    default boolean compareAndSetDouble(@NotNull Tag<Double> tag, double expected, double value) {
+        return tagHandler().compareAndSetDouble(tag, expected, value);
+    }
 }
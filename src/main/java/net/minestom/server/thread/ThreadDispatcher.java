@@ -1,6 +1,8 @@
 package net.minestom.server.thread;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Tickable;
+import net.minestom.server.monitoring.jfr.DispatcherTickEvent;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
@@ -104,8 +106,10 @@ public final class ThreadDispatcher<P> {
      * @param time the tick time in milliseconds
      */
     public synchronized void updateAndAwait(long time) {
+        final DispatcherTickEvent event = ServerFlag.JFR_EVENTS ? new DispatcherTickEvent() : null;
+        if (event != null) event.begin();
         // Update dispatcher
-        this.updates.drain(update -> {
+        final int updateCount = this.updates.drain(update -> {
             switch (update) {
                 case DispatchUpdate.PartitionLoad<P> chunkUpdate -> processLoadedPartition(chunkUpdate.partition());
                 case DispatchUpdate.PartitionUnload<P> partitionUnload ->
@@ -126,6 +130,15 @@ public final class ThreadDispatcher<P> {
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.updates = updateCount;
+                event.threads = threads.size();
+                event.partitions = partitions.size();
+                event.commit();
+            }
+        }
     }
 
     /**
@@ -1,9 +1,11 @@
 package net.minestom.server.thread;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.monitoring.TickRecorder;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -29,6 +31,7 @@ public final class TickThread extends MinestomThread {
     private long tickTime;
     private long tickNum = 0;
     private final List<ThreadDispatcher.Partition> entries = new ArrayList<>();
+    private final TickRecorder recorder = ServerFlag.TICK_PROFILER ? new TickRecorder() : null;
 
     public TickThread(int number) {
         super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
@@ -64,6 +67,7 @@ public final class TickThread extends MinestomThread {
     private void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = this.tickTime;
+        final TickRecorder recorder = this.recorder;
         for (ThreadDispatcher.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
@@ -74,11 +78,13 @@ public final class TickThread extends MinestomThread {
                     // #acquire() callbacks should be called here
                     lock.lock();
                 }
+                final long start = recorder != null ? System.nanoTime() : 0;
                 try {
                     element.tick(tickTime);
                 } catch (Throwable e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
+                if (recorder != null) recorder.record(element, System.nanoTime() - start);
             }
         }
     }
@@ -109,6 +115,15 @@ public final class TickThread extends MinestomThread {
         return lock;
     }
 
+    /**
+     * Gets the recorder of the chunk and entity tick times.
+     *
+     * @return the tick recorder, null if the tick profiler is disabled
+     */
+    public @Nullable TickRecorder recorder() {
+        return recorder;
+    }
+
     public long getTick() {
         return tickNum;
     }
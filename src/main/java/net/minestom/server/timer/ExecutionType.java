@@ -8,5 +8,16 @@ public enum ExecutionType {
     /**
      * Schedule tasks to execute at the end of the {@link Schedulable} tick
      */
-    TICK_END
+    TICK_END,
+    /**
+     * Schedule tasks to execute on a virtual thread, dispatched at the beginning of the {@link Schedulable} tick.
+     * <p>
+     * The tick never waits for these tasks, making them suitable for blocking work (database, file or network IO).
+     * The amount of tasks running concurrently is bounded by {@link VirtualThreadExecutor#maxConcurrency()},
+     * tasks must therefore not wait for each other.
+     * Results can be brought back to the tick thread using
+     * {@link Scheduler#supplyVirtual(java.util.function.Supplier, java.util.function.Consumer)} or
+     * {@link Scheduler#supplyVirtual(java.util.function.Supplier, net.minestom.server.thread.Acquirable, java.util.function.BiConsumer)}.
+     */
+    VIRTUAL_THREAD
 }
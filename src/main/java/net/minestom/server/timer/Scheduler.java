@@ -1,8 +1,12 @@
 package net.minestom.server.timer;
 
+import net.minestom.server.thread.Acquirable;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -92,6 +96,76 @@ public sealed interface Scheduler extends Executor permits SchedulerImpl, Schedu
         return scheduleNextProcess(task, ExecutionType.TICK_START);
     }
 
+    /**
+     * Computes {@code supplier} on a virtual thread.
+     *
+     * @param supplier the blocking computation
+     * @param <T>      the result type
+     * @return a future completed from the virtual thread
+     * @see ExecutionType#VIRTUAL_THREAD
+     */
+    default <T> @NotNull CompletableFuture<T> supplyVirtual(@NotNull Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        submitTask(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+            return TaskSchedule.stop();
+        }, ExecutionType.VIRTUAL_THREAD);
+        return future;
+    }
+
+    /**
+     * Computes {@code supplier} on a virtual thread, and hands the result to {@code callback}
+     * during the next process of this scheduler (in the thread owning it).
+     *
+     * @param supplier the blocking computation
+     * @param callback the callback executed by this scheduler with the result
+     * @param <T>      the result type
+     * @return a future completed once the callback has been executed
+     */
+    default <T> @NotNull CompletableFuture<Void> supplyVirtual(@NotNull Supplier<T> supplier, @NotNull Consumer<T> callback) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        supplyVirtual(supplier).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            scheduleNextProcess(() -> {
+                try {
+                    callback.accept(result);
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                    throw t;
+                }
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Computes {@code supplier} on a virtual thread, then acquires {@code acquirable}
+     * from the same virtual thread to safely hand it the result.
+     *
+     * @param supplier   the blocking computation
+     * @param acquirable the element to acquire once the result is available
+     * @param callback   the callback executed while {@code acquirable} is acquired
+     * @param <A>        the acquirable element type
+     * @param <T>        the result type
+     * @return a future completed once the callback has been executed
+     */
+    default <A, T> @NotNull CompletableFuture<Void> supplyVirtual(@NotNull Supplier<T> supplier, @NotNull Acquirable<A> acquirable,
+                                                                  @NotNull BiConsumer<A, T> callback) {
+        return supplyVirtual(() -> {
+            final T result = supplier.get();
+            acquirable.sync(element -> callback.accept(element, result));
+            return null;
+        });
+    }
+
     /**
      * Implementation of {@link Executor}, proxies to {@link #scheduleNextTick(Runnable)}.
      * @param command the task to execute on the next tick
@@ -12,6 +12,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
@@ -30,6 +31,9 @@ final class SchedulerImpl implements Scheduler {
 
     private int tickState;
 
+    private final LongAdder submittedTasks = new LongAdder();
+    private final LongAdder executedTasks = new LongAdder();
+
     @Override
     public void process() {
         processTick(0);
@@ -66,7 +70,11 @@ final class SchedulerImpl implements Scheduler {
         if (!targetQueue.isEmpty()) {
             targetQueue.drain(task -> {
                 if (!task.isAlive()) return;
-                handleTask(task);
+                if (task.executionType() == ExecutionType.VIRTUAL_THREAD) {
+                    executeVirtual(task);
+                } else {
+                    handleTask(task, tickState());
+                }
             });
         }
     }
@@ -76,10 +84,26 @@ final class SchedulerImpl implements Scheduler {
                                     @NotNull ExecutionType executionType) {
         final TaskImpl taskRef = new TaskImpl(TASK_COUNTER.getAndIncrement(), task,
                 executionType, this);
-        handleTask(taskRef);
+        this.submittedTasks.increment();
+        if (executionType == ExecutionType.VIRTUAL_THREAD) {
+            // Even the first execution must not block the caller
+            executeVirtual(taskRef);
+        } else {
+            handleTask(taskRef, tickState());
+        }
         return taskRef;
     }
 
+    private void executeVirtual(TaskImpl task) {
+        // Tick schedules are relative to the dispatch, the virtual thread may run after the next tick started
+        final int tick = tickState();
+        VirtualThreadExecutor.execute(() -> handleTask(task, tick));
+    }
+
+    private synchronized int tickState() {
+        return tickState;
+    }
+
     void unparkTask(TaskImpl task) {
         if (task.tryUnpark())
             this.tasksToExecute.relaxedOffer(task);
@@ -89,12 +113,21 @@ final class SchedulerImpl implements Scheduler {
         // Prevent the task from being executed in the current thread
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
-            case TICK_START -> tasksToExecute.offer(task);
+            case TICK_START, VIRTUAL_THREAD -> tasksToExecute.offer(task);
             case TICK_END -> tickEndTasksToExecute.offer(task);
         }
     }
 
-    private void handleTask(TaskImpl task) {
+    long submittedTasks() {
+        return submittedTasks.sum();
+    }
+
+    long executedTasks() {
+        return executedTasks.sum();
+    }
+
+    private void handleTask(TaskImpl task, int tick) {
+        this.executedTasks.increment();
         TaskSchedule schedule;
         try {
             schedule = task.task().get();
@@ -108,9 +141,9 @@ final class SchedulerImpl implements Scheduler {
             SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
         } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
             synchronized (this) {
-                final int target = tickState + tickSchedule.tick();
+                final int target = tick + tickSchedule.tick();
                 var targetTaskQueue = switch (task.executionType()) {
-                    case TICK_START -> tickStartTaskQueue;
+                    case TICK_START, VIRTUAL_THREAD -> tickStartTaskQueue;
                     case TICK_END -> tickEndTaskQueue;
                 };
                 targetTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
@@ -1,12 +1,13 @@
 package net.minestom.server.timer;
 
 import org.jctools.queues.MpmcUnboundedXaddArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Supplier;
 
 public final class SchedulerManager implements Scheduler {
-    private final Scheduler scheduler = Scheduler.newScheduler();
+    private final SchedulerImpl scheduler = new SchedulerImpl();
     private final MpmcUnboundedXaddArrayQueue<Runnable> shutdownTasks = new MpmcUnboundedXaddArrayQueue<>(1024);
 
     @Override
@@ -30,6 +31,26 @@ public final class SchedulerManager implements Scheduler {
         return scheduler.submitTask(task, executionType);
     }
 
+    /**
+     * Gets the number of tasks submitted to this scheduler.
+     *
+     * @return the submitted task count
+     */
+    @ApiStatus.Internal
+    public long submittedTasks() {
+        return scheduler.submittedTasks();
+    }
+
+    /**
+     * Gets the number of task executions, a repeating task being counted once per execution.
+     *
+     * @return the task execution count
+     */
+    @ApiStatus.Internal
+    public long executedTasks() {
+        return scheduler.executedTasks();
+    }
+
     public void shutdown() {
         this.shutdownTasks.drain(Runnable::run);
     }
@@ -0,0 +1,94 @@
+package net.minestom.server.timer;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor backing {@link ExecutionType#VIRTUAL_THREAD} tasks.
+ * <p>
+ * Every task gets its own virtual thread, the amount of tasks running at the same time
+ * is limited by {@link ServerFlag#SCHEDULER_VIRTUAL_THREAD_CONCURRENCY}. Tasks above the limit
+ * park their virtual thread until a permit is released.
+ * <p>
+ * A task must not wait for the completion of another {@link ExecutionType#VIRTUAL_THREAD} task
+ * (e.g. joining {@link Scheduler#supplyVirtual(java.util.function.Supplier)}), as every permit
+ * could be held by waiting tasks. Asynchronous events use their own unbounded executor and can be waited on.
+ */
+public final class VirtualThreadExecutor {
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("Ms-Scheduler-Virtual-", 0).factory());
+    private static final int MAX_CONCURRENCY = Math.max(1, ServerFlag.SCHEDULER_VIRTUAL_THREAD_CONCURRENCY);
+    private static final Semaphore PERMITS = new Semaphore(MAX_CONCURRENCY);
+
+    private static final AtomicLong SUBMITTED = new AtomicLong();
+    private static final AtomicLong COMPLETED = new AtomicLong();
+    private static final AtomicLong FAILED = new AtomicLong();
+    private static final AtomicLong RUNNING = new AtomicLong();
+    private static final AtomicLong EXECUTION_TIME_NANO = new AtomicLong();
+
+    private VirtualThreadExecutor() {
+    }
+
+    /**
+     * Gets the maximum number of tasks allowed to run concurrently.
+     *
+     * @return the concurrency limit
+     */
+    public static int maxConcurrency() {
+        return MAX_CONCURRENCY;
+    }
+
+    /**
+     * Gets a snapshot of the executor counters.
+     *
+     * @return the current metrics
+     */
+    public static @NotNull Metrics metrics() {
+        final long submitted = SUBMITTED.get();
+        final long completed = COMPLETED.get();
+        final long failed = FAILED.get();
+        final long running = RUNNING.get();
+        final long waiting = Math.max(0, submitted - completed - failed - running);
+        return new Metrics(submitted, completed, failed, running, waiting, EXECUTION_TIME_NANO.get());
+    }
+
+    static void execute(@NotNull Runnable runnable) {
+        SUBMITTED.incrementAndGet();
+        EXECUTOR.execute(() -> {
+            PERMITS.acquireUninterruptibly();
+            RUNNING.incrementAndGet();
+            final long start = System.nanoTime();
+            try {
+                runnable.run();
+                COMPLETED.incrementAndGet();
+            } catch (Throwable t) {
+                FAILED.incrementAndGet();
+                MinecraftServer.getExceptionManager().handleException(t);
+            } finally {
+                EXECUTION_TIME_NANO.addAndGet(System.nanoTime() - start);
+                RUNNING.decrementAndGet();
+                PERMITS.release();
+            }
+        });
+    }
+
+    /**
+     * Counters of the tasks executed on virtual threads since startup.
+     *
+     * @param submitted         the number of submitted executions
+     * @param completed         the number of executions that completed normally
+     * @param failed            the number of executions that threw
+     * @param running           the number of executions currently holding a permit
+     * @param waiting           the number of executions waiting for a permit
+     * @param executionTimeNano the accumulated execution time of all executions
+     */
+    public record Metrics(long submitted, long completed, long failed,
+                          long running, long waiting, long executionTimeNano) {
+    }
+}
@@ -18,6 +18,7 @@ import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.monitoring.jfr.PacketCompressionEvent;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
@@ -34,6 +35,9 @@ import org.jetbrains.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -102,16 +106,44 @@ public final class PacketUtils {
      */
     public static void sendGroupedPacket(@NotNull Collection<Player> players, @NotNull ServerPacket packet,
                                          @NotNull Predicate<Player> predicate) {
-        final var sendablePacket = shouldUseCachePacket(packet) ? new CachedPacket(packet) : packet;
+        final boolean cache = shouldUseCachePacket(packet);
+        if (!cache && ServerFlag.GROUPED_PACKET) {
+            // Only refused because of translatable components
+            sendTranslatedGroupedPacket(players, (ServerPacket.ComponentHolding) packet, predicate);
+            return;
+        }
+        final var sendablePacket = cache ? new CachedPacket(packet) : packet;
 
         players.forEach(player -> {
             if (predicate.test(player)) player.sendPacket(sendablePacket);
         });
     }
 
+    /**
+     * Renders a packet containing translatable components once per locale of the recipients,
+     * every player sharing a locale receives the same cached packet.
+     */
+    private static void sendTranslatedGroupedPacket(@NotNull Collection<Player> players, @NotNull ServerPacket.ComponentHolding packet,
+                                                    @NotNull Predicate<Player> predicate) {
+        Map<Locale, CachedPacket> translatedPackets = new HashMap<>();
+        players.forEach(player -> {
+            if (!predicate.test(player)) return;
+            final Locale locale = Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale);
+            CachedPacket translatedPacket = translatedPackets.get(locale);
+            if (translatedPacket == null) {
+                final ServerPacket translated = packet.copyWithOperator(component ->
+                        MinestomAdventure.COMPONENT_TRANSLATOR.apply(component, locale));
+                translatedPacket = new CachedPacket(translated);
+                translatedPackets.put(locale, translatedPacket);
+            }
+            player.sendPacket(translatedPacket);
+        });
+    }
+
     /**
      * Checks if the {@link ServerPacket} is suitable to be wrapped into a {@link CachedPacket}.
-     * Note: {@link ServerPacket.ComponentHolding}s are not translated inside a {@link CachedPacket}.
+     * Note: {@link ServerPacket.ComponentHolding}s are not translated inside a {@link CachedPacket},
+     * grouped packets containing translatable components are instead cached per locale.
      *
      * @see CachedPacket#body(ConnectionState)
      * @see PlayerSocketConnection#writePacketSync(SendablePacket, boolean)
@@ -278,6 +310,8 @@ public final class PacketUtils {
         final boolean compressed = packetSize >= compressionThreshold;
         if (compressed) {
             // Packet large enough, compress it
+            final PacketCompressionEvent event = ServerFlag.JFR_EVENTS ? new PacketCompressionEvent() : null;
+            if (event != null) event.begin();
             try (var hold = ObjectPool.PACKET_POOL.hold()) {
                 final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
                 Deflater deflater = LOCAL_DEFLATER.get();
@@ -288,6 +322,17 @@ public final class PacketUtils {
 
                 networkBuffer.skipWrite(buffer.position() - contentStart);
             }
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    final int compressedSize = buffer.position() - contentStart;
+                    event.packetId = id;
+                    event.uncompressedSize = packetSize;
+                    event.compressedSize = compressedSize;
+                    event.ratio = (float) compressedSize / packetSize;
+                    event.commit();
+                }
+            }
         }
         // Packet header (Packet + Data Length)
         Utils.writeVarIntHeader(buffer, compressedIndex, networkBuffer.writeIndex() - uncompressedIndex);
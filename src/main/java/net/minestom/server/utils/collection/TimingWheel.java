@@ -0,0 +1,152 @@
+package net.minestom.server.utils.collection;
+
+import net.minestom.server.utils.validate.Check;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Schedules elements at a given time, expired elements being retrieved by {@link #advance(long, Consumer)}.
+ * <p>
+ * Elements are stored in buckets of {@code resolution} units, advancing only visits the buckets elapsed since
+ * the previous call instead of every scheduled element. Elements scheduled further than the wheel horizon
+ * stay in their bucket until a later rotation.
+ * <p>
+ * Expiration has the precision of a bucket, an element expires once the bucket containing its time is reached.
+ * <p>
+ * {@link #schedule(Object, long)} and {@link #cancel(Object)} can be called from any thread,
+ * {@link #advance(long, Consumer)} must always be called from the same thread.
+ *
+ * @param <T> the type of the elements, used as keys
+ */
+@ApiStatus.Internal
+public final class TimingWheel<T> {
+    private final long resolution;
+    private final int mask;
+    private final List<Entry<T>>[] buckets;
+    private List<Entry<T>> spare = new ArrayList<>();
+
+    // Last entry of each element, bucket entries which are not referenced anymore have been cancelled
+    private final Map<T, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final MessagePassingQueue<Entry<T>> pending = new MpscUnboundedArrayQueue<>(64);
+    private long lastBucket = Long.MIN_VALUE;
+
+    /**
+     * Creates a new wheel.
+     *
+     * @param resolution the duration covered by a single bucket
+     * @param horizon    the duration covered by the whole wheel before rotating
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long resolution, long horizon) {
+        Check.argCondition(resolution <= 0, "Resolution must be positive, got {0}", resolution);
+        Check.argCondition(horizon < resolution, "Horizon must be at least the resolution, got {0}", horizon);
+        final int size = Integer.highestOneBit((int) Math.min(horizon / resolution, 1 << 20) * 2 - 1);
+        this.resolution = resolution;
+        this.mask = size - 1;
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) buckets[i] = new ArrayList<>();
+    }
+
+    /**
+     * Schedules an element, replacing its previous schedule if any.
+     *
+     * @param element the element to schedule
+     * @param time    the time at which the element expires
+     */
+    public void schedule(@NotNull T element, long time) {
+        final Entry<T> entry = new Entry<>(element, time);
+        this.entries.put(element, entry);
+        this.pending.relaxedOffer(entry);
+    }
+
+    /**
+     * Cancels the schedule of an element.
+     *
+     * @param element the element to cancel
+     * @return true if the element was scheduled
+     */
+    public boolean cancel(@NotNull T element) {
+        return entries.remove(element) != null;
+    }
+
+    /**
+     * Gets if an element is scheduled.
+     *
+     * @param element the element to check
+     * @return true if the element is scheduled and was not retrieved by {@link #advance(long, Consumer)} yet
+     */
+    public boolean isScheduled(@NotNull T element) {
+        return entries.containsKey(element);
+    }
+
+    /**
+     * Gets the number of scheduled elements.
+     *
+     * @return the number of scheduled elements
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Cancels every scheduled element.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Retrieves the elements expired at {@code time}.
+     * <p>
+     * Expired elements are unscheduled before being passed to the consumer, which can schedule them again.
+     * Elements scheduled during the call are only considered by the next one.
+     *
+     * @param time     the current time
+     * @param consumer the consumer of the expired elements
+     */
+    public void advance(long time, @NotNull Consumer<T> consumer) {
+        final long currentBucket = Math.floorDiv(time, resolution);
+        if (lastBucket == Long.MIN_VALUE) this.lastBucket = currentBucket - 1;
+        if (currentBucket <= lastBucket) return;
+        this.pending.drain(this::insert);
+
+        long from = lastBucket + 1;
+        // Visit each bucket at most once
+        if (currentBucket - from >= buckets.length) from = currentBucket - buckets.length + 1;
+        this.lastBucket = currentBucket;
+        for (long bucket = from; bucket <= currentBucket; bucket++) {
+            final int index = (int) (bucket & mask);
+            final List<Entry<T>> expired = buckets[index];
+            if (expired.isEmpty()) continue;
+            this.buckets[index] = spare;
+            for (Entry<T> entry : expired) {
+                if (entries.get(entry.element) != entry) continue; // Cancelled or rescheduled
+                if (Math.floorDiv(entry.time, resolution) > currentBucket) {
+                    // Scheduled for a later rotation
+                    buckets[index].add(entry);
+                    continue;
+                }
+                if (entries.remove(entry.element, entry)) consumer.accept(entry.element);
+            }
+            expired.clear();
+            this.spare = expired;
+        }
+    }
+
+    private void insert(Entry<T> entry) {
+        // Elements already expired are retrieved as soon as possible
+        final long bucket = Math.max(Math.floorDiv(entry.time, resolution), lastBucket + 1);
+        this.buckets[(int) (bucket & mask)].add(entry);
+    }
+
+    private record Entry<T>(T element, long time) {
+    }
+}
@@ -10,6 +10,8 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.GameMode;
 import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.utils.MathUtils;
@@ -20,6 +22,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 // TODO
 
@@ -140,108 +144,137 @@ public class EntityFinder {
         }
 
         final Point pos = startPosition != null ? startPosition : (self != null ? self.getPosition() : Vec.ZERO);
-
-        List<Entity> result = findTarget(instance, targetSelector, pos, self);
-        // Fast exit if there is nothing to process
-        if (result.isEmpty())
-            return result;
-
-        // Distance argument
-        if (distance != null) {
-            final int minDistance = distance.getMinimum();
-            final int maxDistance = distance.getMaximum();
-            result = result.stream()
-                    .filter(entity -> MathUtils.isBetween(entity.getPosition().distanceSquared(pos), minDistance * minDistance, maxDistance * maxDistance))
-                    .toList();
+        if (limit != null && limit <= 0) return List.of();
+
+        // Single pass over the candidates, only keeping the entities validating every condition
+        final Predicate<Entity> filter = filter(pos);
+        final Selection selection = new Selection(pos, entitySort, limit != null ? limit : Integer.MAX_VALUE);
+        final Consumer<Entity> consumer = entity -> {
+            if (filter.test(entity)) selection.add(entity);
+        };
+        switch (targetSelector) {
+            case ALL_ENTITIES, ALL_PLAYERS -> {
+                final EntityTracker.Target<? extends Entity> target = targetSelector == TargetSelector.ALL_PLAYERS ?
+                        EntityTracker.Target.PLAYERS : queryTarget();
+                final double range = queryRange();
+                if (instance != null) {
+                    query(instance.getEntityTracker(), target, pos, range, consumer);
+                } else if (targetSelector == TargetSelector.ALL_PLAYERS) {
+                    CONNECTION_MANAGER.getOnlinePlayers().forEach(consumer);
+                } else {
+                    // Get entities from every instance
+                    for (Instance inst : MinecraftServer.getInstanceManager().getInstances()) {
+                        query(inst.getEntityTracker(), target, pos, range, consumer);
+                    }
+                }
+            }
+            default -> findTarget(instance, targetSelector, pos, self).forEach(consumer);
         }
+        return selection.result();
+    }
 
-        // Diff X/Y/Z
-        if (dx != null || dy != null || dz != null) {
-            result = result.stream().filter(entity -> {
-                final var entityPosition = entity.getPosition();
-                if (dx != null && !MathUtils.isBetweenUnordered(
-                        entityPosition.x(),
-                        pos.x(), dx))
-                    return false;
-
-                if (dy != null && !MathUtils.isBetweenUnordered(
-                        entityPosition.y(),
-                        pos.y(), dy))
-                    return false;
+    /**
+     * Fuses every condition which cannot be answered by the entity tracker into a single predicate.
+     */
+    private @NotNull Predicate<Entity> filter(@NotNull Point pos) {
+        // Distance argument, unbounded ends are parsed as the integer limits
+        final double minDistance = distance != null ? Math.max(distance.getMinimum(), 0) : 0;
+        final double maxDistance = distance != null && distance.getMaximum() != Integer.MAX_VALUE ?
+                distance.getMaximum() : Double.POSITIVE_INFINITY;
+        final double minDistanceSquared = minDistance * minDistance;
+        final double maxDistanceSquared = maxDistance * maxDistance;
+        final boolean playerOnly = !gameModes.isEmpty() || level != null || !names.isEmpty();
+        return entity -> {
+            // Entity type
+            if (!entityTypes.isEmpty() && !filterToggleableMap(entity.getEntityType(), entityTypes))
+                return false;
+            if (playerOnly && !(entity instanceof Player))
+                return false;
 
-                if (dz != null && !MathUtils.isBetweenUnordered(
-                        entityPosition.z(),
-                        pos.z(), dz))
-                    return false;
+            final Point entityPosition = entity.getPosition();
+            if (distance != null && !MathUtils.isBetween(entityPosition.distanceSquared(pos), minDistanceSquared, maxDistanceSquared))
+                return false;
 
-                return true;
-            }).toList();
-        }
+            // Diff X/Y/Z
+            if (dx != null && !MathUtils.isBetweenUnordered(entityPosition.x(), pos.x(), pos.x() + dx))
+                return false;
+            if (dy != null && !MathUtils.isBetweenUnordered(entityPosition.y(), pos.y(), pos.y() + dy))
+                return false;
+            if (dz != null && !MathUtils.isBetweenUnordered(entityPosition.z(), pos.z(), pos.z() + dz))
+                return false;
 
-        // Entity type
-        if (!entityTypes.isEmpty()) {
-            result = result.stream()
-                    .filter(entity -> filterToggleableMap(entity.getEntityType(), entityTypes))
-                    .toList();
-        }
+            // UUID
+            if (!uuids.isEmpty() && !filterToggleableMap(entity.getUuid(), uuids))
+                return false;
 
-        // GameMode
-        if (!gameModes.isEmpty()) {
-            result = result.stream()
-                    .filter(Player.class::isInstance)
-                    .filter(entity -> filterToggleableMap(((Player) entity).getGameMode(), gameModes))
-                    .toList();
-        }
+            if (playerOnly) {
+                final Player player = (Player) entity;
+                // GameMode
+                if (!gameModes.isEmpty() && !filterToggleableMap(player.getGameMode(), gameModes))
+                    return false;
+                // Level
+                if (level != null && !MathUtils.isBetween(player.getLevel(), level.getMinimum(), level.getMaximum()))
+                    return false;
+                // Name
+                if (!names.isEmpty() && !filterToggleableMap(player.getUsername(), names))
+                    return false;
+            }
+            return true;
+        };
+    }
 
-        // Level
-        if (level != null) {
-            final int minLevel = level.getMinimum();
-            final int maxLevel = level.getMaximum();
-            result = result.stream()
-                    .filter(Player.class::isInstance)
-                    .filter(entity -> MathUtils.isBetween(((Player) entity).getLevel(), minLevel, maxLevel))
-                    .toList();
-        }
+    /**
+     * Gets the narrowest tracker target able to contain the result.
+     * <p>
+     * Entity types are not used as some entities (e.g. NPCs) share the type of a different entity class.
+     */
+    private @NotNull EntityTracker.Target<? extends Entity> queryTarget() {
+        final boolean playerOnly = !gameModes.isEmpty() || level != null || !names.isEmpty();
+        return playerOnly ? EntityTracker.Target.PLAYERS : EntityTracker.Target.ENTITIES;
+    }
 
-        // Name
-        if (!names.isEmpty()) {
-            result = result.stream()
-                    .filter(Player.class::isInstance)
-                    .filter(entity -> filterToggleableMap(((Player) entity).getUsername(), names))
-                    .toList();
+    /**
+     * Gets the radius around the start position containing every valid entity.
+     *
+     * @return the query radius, infinite if unbounded
+     */
+    private double queryRange() {
+        double range = Double.POSITIVE_INFINITY;
+        if (distance != null && distance.getMaximum() != Integer.MAX_VALUE) {
+            range = Math.max(distance.getMaximum(), 0);
         }
-
-        // UUID
-        if (!uuids.isEmpty()) {
-            result = result.stream()
-                    .filter(entity -> filterToggleableMap(entity.getUuid(), uuids))
-                    .toList();
+        if (dx != null && dy != null && dz != null) {
+            // The volume spans from the start position to the difference, its furthest corner bounds the range
+            range = Math.min(range, Math.sqrt((double) dx * dx + (double) dy * dy + (double) dz * dz));
         }
+        return range;
+    }
 
-
-        // Sort & limit
-        if (entitySort != EntitySort.ARBITRARY || limit != null) {
-            result = result.stream()
-                    .sorted((ent1, ent2) -> switch (entitySort) {
-                        case ARBITRARY, RANDOM ->
-                            // RANDOM is handled below
-                                1;
-                        case FURTHEST -> pos.distanceSquared(ent1.getPosition()) >
-                                pos.distanceSquared(ent2.getPosition()) ?
-                                1 : 0;
-                        case NEAREST -> pos.distanceSquared(ent1.getPosition()) <
-                                pos.distanceSquared(ent2.getPosition()) ?
-                                1 : 0;
-                    })
-                    .limit(limit != null ? limit : Integer.MAX_VALUE)
-                    .toList();
-
-            if (entitySort == EntitySort.RANDOM) {
-                Collections.shuffle(result);
-            }
+    /**
+     * Collects the entities potentially within range of the start position.
+     * <p>
+     * The spatial query visits every chunk of the range, it is only used when it covers fewer chunks
+     * than there are entities to scan.
+     */
+    private static <T extends Entity> void query(@NotNull EntityTracker tracker, @NotNull EntityTracker.Target<T> target,
+                                                 @NotNull Point pos, double range, @NotNull Consumer<Entity> consumer) {
+        final Set<T> entities = tracker.entities(target);
+        if (Double.isInfinite(range) || chunkArea(range) > entities.size()) {
+            entities.forEach(consumer);
+        } else {
+            tracker.nearbyEntities(pos, range, target, consumer::accept);
         }
+    }
 
-        return result;
+    /**
+     * Gets the number of chunks visited by {@link EntityTracker#nearbyEntities(Point, double, EntityTracker.Target, Consumer)}.
+     *
+     * @param range the query range
+     * @return the chunk count, as a double to prevent overflows with huge ranges
+     */
+    static double chunkArea(double range) {
+        final double side = 2 * (Math.floor(range / Chunk.CHUNK_SECTION_SIZE) + 1) + 1;
+        return side * side;
     }
 
     public @NotNull List<@NotNull Entity> find(@NotNull CommandSender sender) {
@@ -307,6 +340,69 @@ public class EntityFinder {
     private static class ToggleableMap<T> extends Object2BooleanOpenHashMap<T> {
     }
 
+    /**
+     * Collects the filtered entities, keeping only the {@code limit} best ones when sorted by distance.
+     */
+    private static final class Selection {
+        private final Point pos;
+        private final EntitySort sort;
+        private final int limit;
+
+        private final List<Entity> entities;
+        private final Comparator<Candidate> order;
+        private final PriorityQueue<Candidate> heap;
+
+        Selection(Point pos, EntitySort sort, int limit) {
+            this.pos = pos;
+            this.sort = sort;
+            this.limit = limit;
+            if (sort == EntitySort.NEAREST || sort == EntitySort.FURTHEST) {
+                final Comparator<Candidate> nearest = Comparator.comparingDouble(Candidate::distanceSquared);
+                this.order = sort == EntitySort.NEAREST ? nearest : nearest.reversed();
+                // Worst candidate at the head, to be replaced by better ones
+                this.heap = new PriorityQueue<>(Math.min(limit, 64), order.reversed());
+                this.entities = null;
+            } else {
+                this.order = null;
+                this.heap = null;
+                this.entities = new ArrayList<>();
+            }
+        }
+
+        void add(Entity entity) {
+            if (heap == null) {
+                // Random selection needs every entity before shuffling
+                if (sort == EntitySort.RANDOM || entities.size() < limit) entities.add(entity);
+                return;
+            }
+            final Candidate candidate = new Candidate(entity, entity.getPosition().distanceSquared(pos));
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<Entity> result() {
+            if (heap != null) {
+                final Candidate[] candidates = heap.toArray(Candidate[]::new);
+                Arrays.sort(candidates, order);
+                final Entity[] result = new Entity[candidates.length];
+                for (int i = 0; i < candidates.length; i++) result[i] = candidates[i].entity();
+                return List.of(result);
+            }
+            if (sort == EntitySort.RANDOM) {
+                Collections.shuffle(entities);
+                if (entities.size() > limit) return List.copyOf(entities.subList(0, limit));
+            }
+            return List.copyOf(entities);
+        }
+
+        private record Candidate(Entity entity, double distanceSquared) {
+        }
+    }
+
     private static @NotNull List<@NotNull Entity> findTarget(@Nullable Instance instance,
                                                              @NotNull TargetSelector targetSelector,
                                                              @NotNull Point startPosition, @Nullable Entity self) {
@@ -319,19 +415,6 @@ public class EntityFinder {
             final int index = ThreadLocalRandom.current().nextInt(players.size());
             final Player player = players.stream().skip(index).findFirst().orElseThrow();
             return List.of(player);
-        } else if (targetSelector == TargetSelector.ALL_PLAYERS) {
-            return List.copyOf(players);
-        } else if (targetSelector == TargetSelector.ALL_ENTITIES) {
-            if (instance != null) {
-                return List.copyOf(instance.getEntities());
-            }
-            // Get entities from every instance
-            var instances = MinecraftServer.getInstanceManager().getInstances();
-            List<Entity> entities = new ArrayList<>();
-            for (Instance inst : instances) {
-                entities.addAll(inst.getEntities());
-            }
-            return entities;
         } else if (targetSelector == TargetSelector.SELF) {
             return self != null ? List.of(self) : List.of();
         }
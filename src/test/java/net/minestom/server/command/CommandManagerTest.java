@@ -3,10 +3,16 @@ package net.minestom.server.command;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -103,6 +109,96 @@ class CommandManagerTest {
         assertTrue(checkAB.get());
     }
 
+    @Test
+    void testDeclareCommandsPacketSharedByConditions() {
+        var manager = new CommandManager();
+        var admin = new Player(UUID.randomUUID(), "admin", null);
+        var first = new Player(UUID.randomUUID(), "first", null);
+        var second = new Player(UUID.randomUUID(), "second", null);
+        final Set<Player> admins = Set.of(admin);
+
+        var command = new Command("admin");
+        command.setCondition((sender, commandString) -> admins.contains(sender));
+        command.addSyntax((sender, context) -> {}, ArgumentType.Word("target"));
+        manager.register(command);
+        manager.register(new Command("help"));
+
+        var adminPacket = manager.createDeclareCommandsPacket(admin);
+        var firstPacket = manager.createDeclareCommandsPacket(first);
+        assertNotEquals(adminPacket.nodes().size(), firstPacket.nodes().size());
+        // Same outcomes, same encoded packet
+        var sharedPacket = manager.getDeclareCommandsPacket(first);
+        assertSame(sharedPacket, manager.getDeclareCommandsPacket(second));
+        assertNotSame(sharedPacket, manager.getDeclareCommandsPacket(admin));
+        // Created packets can be modified, they are never shared
+        var secondPacket = manager.createDeclareCommandsPacket(second);
+        assertNotSame(firstPacket, secondPacket);
+        assertEquals(firstPacket.nodes().size(), secondPacket.nodes().size());
+        assertNotSame(((CachedPacket) sharedPacket).packet(ConnectionState.PLAY), secondPacket);
+
+        // Registering invalidates the cache
+        manager.register(new Command("spawn"));
+        assertNotSame(sharedPacket, manager.getDeclareCommandsPacket(first));
+        var updatedPacket = manager.createDeclareCommandsPacket(first);
+        assertEquals(firstPacket.nodes().size() + 1, updatedPacket.nodes().size());
+    }
+
+    @Test
+    void testCompletionReused() {
+        var manager = new CommandManager();
+        var sender = new ServerSender();
+        manager.register(new Command("foo") {{
+            addSyntax((sender, context) -> {}, ArgumentType.Word("bar"));
+        }});
+
+        var result = manager.parseCompletion(sender, "foo b");
+        assertSame(result, manager.parseCompletion(sender, "foo b"));
+        assertNotSame(result, manager.parseCompletion(sender, "foo ba"));
+        assertNotSame(result, manager.parseCompletion(new ServerSender(), "foo b"));
+
+        // Registering changes the graph
+        result = manager.parseCompletion(sender, "foo b");
+        manager.register(new Command("baz"));
+        assertNotSame(result, manager.parseCompletion(sender, "foo b"));
+    }
+
+    @Test
+    void testCompletionConditionChange() {
+        var manager = new CommandManager();
+        var sender = new ServerSender();
+        var allowed = new AtomicBoolean(true);
+        manager.register(new Command("foo") {{
+            setCondition((sender, commandString) -> allowed.get());
+            addSyntax((sender, context) -> {}, ArgumentType.Word("bar"));
+        }});
+
+        var result = manager.parseCompletion(sender, "foo b");
+        assertSame(result, manager.parseCompletion(sender, "foo b"));
+        allowed.set(false);
+        var filtered = manager.parseCompletion(sender, "foo b");
+        assertNotSame(result, filtered);
+        assertSame(filtered, manager.parseCompletion(sender, "foo b"));
+        allowed.set(true);
+        assertNotSame(filtered, manager.parseCompletion(sender, "foo b"));
+    }
+
+    @Test
+    void testCompletionDefaultNotReused() {
+        var manager = new CommandManager();
+        var sender = new ServerSender();
+        var value = new AtomicInteger();
+        manager.register(new Command("foo") {{
+            var bar = ArgumentType.Word("bar");
+            var baz = ArgumentType.Integer("baz");
+            baz.setDefaultValue(s -> value.incrementAndGet());
+            addSyntax((sender, context) -> {}, bar, baz);
+        }});
+
+        var result = manager.parseCompletion(sender, "foo b");
+        assertNotSame(result, manager.parseCompletion(sender, "foo b"));
+        assertEquals(2, value.get());
+    }
+
     private static void assertNodeEquals(DeclareCommandsPacket.Node node, byte flags, int[] children, int redirectedNode,
                                          String name, String parser, byte[] properties, String suggestionsType) {
         assertEquals(flags, node.flags);
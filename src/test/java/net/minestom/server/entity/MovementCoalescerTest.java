@@ -0,0 +1,84 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MovementCoalescerTest {
+
+    @Test
+    void positions() {
+        var result = coalesce(
+                new ClientPlayerPositionPacket(new Vec(0, 40, 0), true),
+                new ClientPlayerPositionPacket(new Vec(1, 40, 0), true),
+                new ClientPlayerPositionPacket(new Vec(2, 40, 0), true));
+        assertEquals(List.of(new ClientPlayerPositionPacket(new Vec(2, 40, 0), true)), result);
+    }
+
+    @Test
+    void rotations() {
+        var result = coalesce(
+                new ClientPlayerRotationPacket(10, 20, false),
+                new ClientPlayerRotationPacket(30, 40, false));
+        assertEquals(List.of(new ClientPlayerRotationPacket(30, 40, false)), result);
+    }
+
+    @Test
+    void positionAndRotation() {
+        var result = coalesce(
+                new ClientPlayerRotationPacket(10, 20, true),
+                new ClientPlayerPositionPacket(new Vec(1, 40, 0), true));
+        assertEquals(List.of(new ClientPlayerPositionAndRotationPacket(new Pos(1, 40, 0, 10, 20), true)), result);
+
+        result = coalesce(
+                new ClientPlayerPositionAndRotationPacket(new Pos(1, 40, 0, 10, 20), true),
+                new ClientPlayerPositionPacket(new Vec(2, 40, 0), true));
+        assertEquals(List.of(new ClientPlayerPositionAndRotationPacket(new Pos(2, 40, 0, 10, 20), true)), result);
+    }
+
+    @Test
+    void groundTransition() {
+        var result = coalesce(
+                new ClientPlayerPositionPacket(new Vec(0, 41, 0), false),
+                new ClientPlayerPositionPacket(new Vec(0, 40.5, 0), false),
+                new ClientPlayerPositionPacket(new Vec(0, 40, 0), true),
+                new ClientPlayerPositionPacket(new Vec(1, 40, 0), true));
+        assertEquals(List.of(
+                new ClientPlayerPositionPacket(new Vec(0, 40.5, 0), false),
+                new ClientPlayerPositionPacket(new Vec(1, 40, 0), true)), result);
+    }
+
+    @Test
+    void ordering() {
+        var result = coalesce(
+                new ClientPlayerPositionPacket(new Vec(0, 40, 0), true),
+                new ClientPlayerPositionPacket(new Vec(1, 40, 0), true),
+                new ClientTeleportConfirmPacket(1),
+                new ClientPlayerPositionPacket(new Vec(5, 40, 0), true),
+                new ClientPlayerPacket(true),
+                new ClientPlayerPositionPacket(new Vec(6, 40, 0), true));
+        assertEquals(List.of(
+                new ClientPlayerPositionPacket(new Vec(1, 40, 0), true),
+                new ClientTeleportConfirmPacket(1),
+                new ClientPlayerPositionPacket(new Vec(5, 40, 0), true),
+                new ClientPlayerPacket(true),
+                new ClientPlayerPositionPacket(new Vec(6, 40, 0), true)), result);
+    }
+
+    private static List<ClientPacket> coalesce(ClientPacket... packets) {
+        List<ClientPacket> result = new ArrayList<>();
+        MovementCoalescer coalescer = new MovementCoalescer(result::add);
+        for (ClientPacket packet : packets) coalescer.accept(packet);
+        coalescer.flush();
+        // Flushing twice does nothing
+        coalescer.flush();
+        return result;
+    }
+}
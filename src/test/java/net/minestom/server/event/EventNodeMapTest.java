@@ -5,10 +5,14 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
+import net.minestom.server.tag.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.minestom.testing.TestUtils.waitUntilCleared;
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,6 +79,39 @@ class EventNodeMapTest {
         assertFalse(result.get());
     }
 
+    @Test
+    void mapManyOwners() {
+        record Owner(int id) {
+        }
+        record OwnerEvent(Object owner) implements Event {
+        }
+        final EventFilter<OwnerEvent, Object> filter = EventFilter.from(OwnerEvent.class, Object.class, OwnerEvent::owner);
+        var node = EventNode.all("main");
+
+        // Identity and equality based owners
+        List<Object> owners = new ArrayList<>();
+        List<EventNode<OwnerEvent>> mappedNodes = new ArrayList<>(); // Mapped nodes are weakly referenced
+        AtomicInteger result = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            final Object owner = i % 2 == 0 ? new Object() : new Owner(i);
+            final int value = i;
+            owners.add(owner);
+            mappedNodes.add(node.map(owner, filter).addListener(OwnerEvent.class, event -> result.set(value)));
+        }
+        for (int i = 0; i < owners.size(); i++) {
+            result.set(-1);
+            node.call(new OwnerEvent(owners.get(i)));
+            assertEquals(i, result.get());
+        }
+
+        result.set(-1);
+        node.call(new OwnerEvent(new Owner(1)));
+        assertEquals(1, result.get(), "Equal owners should share their mapped node");
+        result.set(-1);
+        node.call(new OwnerEvent(new Object()));
+        assertEquals(-1, result.get(), "Unknown owners should not be called");
+    }
+
     @Test
     void entityLocal() {
         var process = MinecraftServer.updateProcess();
@@ -103,8 +140,8 @@ class EventNodeMapTest {
 
     @Test
     void ownerGC() {
-        // Ensure that the mapped object gets GCed
-        var item = ItemStack.of(Material.DIAMOND);
+        // Ensure that the mapped object gets GCed, stacks without components are interned
+        var item = ItemStack.of(Material.DIAMOND).withTag(Tag.Integer("id"), 1);
         var node = EventNode.all("main");
         var itemNode = node.map(item, EventFilter.ITEM);
         itemNode.addListener(EventNodeTest.ItemTestEvent.class, event -> {
@@ -7,10 +7,17 @@ import net.minestom.server.event.trait.ItemEvent;
 import net.minestom.server.event.trait.RecursiveEvent;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.timer.Scheduler;
+import net.minestom.server.timer.TaskSchedule;
+import net.minestom.server.timer.VirtualThreadExecutor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.lang.ref.WeakReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -102,6 +109,63 @@ class EventNodeTest {
         node.call(new CancellableTest());
     }
 
+    @Test
+    void testCallAsync() throws Exception {
+        var node = EventNode.all("main");
+        var event = new CancellableTest();
+        assertTrue(node.callAsync(event).isDone(), "Events without listener should complete directly");
+
+        AtomicBoolean virtual = new AtomicBoolean(false);
+        node.addListener(CancellableTest.class, e -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            e.setCancelled(true);
+        });
+        assertSame(event, node.callAsync(event).get(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get(), "Listeners should be executed on a virtual thread");
+        assertFalse(node.callCancellableAsync(new CancellableTest()).get(5, TimeUnit.SECONDS),
+                "The event should be cancelled");
+    }
+
+    @Test
+    void testAsyncNode() throws Exception {
+        var node = EventNode.all("main");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        CompletableFuture<Thread> thread = new CompletableFuture<>();
+        child.addListener(EventTest.class, e -> thread.complete(Thread.currentThread()));
+        child.setAsync(true);
+        assertTrue(child.isAsync());
+        node.call(new EventTest());
+        assertTrue(thread.get(5, TimeUnit.SECONDS).isVirtual(), "Async node listeners should be executed on a virtual thread");
+    }
+
+    @Test
+    void testCallAsyncFromVirtualTasks() throws Exception {
+        // Every scheduler permit is held by a task waiting for an async event, which must not need one
+        final int taskCount = VirtualThreadExecutor.maxConcurrency();
+        var node = EventNode.all("main");
+        AtomicInteger calls = new AtomicInteger();
+        node.addListener(EventTest.class, e -> calls.incrementAndGet());
+        CountDownLatch started = new CountDownLatch(taskCount);
+        CountDownLatch completed = new CountDownLatch(taskCount);
+        Scheduler scheduler = Scheduler.newScheduler();
+        for (int i = 0; i < taskCount; i++) {
+            scheduler.submitTask(() -> {
+                started.countDown();
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                node.callAsync(new EventTest()).join();
+                completed.countDown();
+                return TaskSchedule.stop();
+            }, ExecutionType.VIRTUAL_THREAD);
+        }
+        assertTrue(completed.await(10, TimeUnit.SECONDS), "Joining async events from virtual thread tasks should not deadlock");
+        assertEquals(taskCount, calls.get());
+    }
+
     @Test
     void recursiveSub() {
         var node = EventNode.all("main");
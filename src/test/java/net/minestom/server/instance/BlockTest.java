@@ -105,4 +105,18 @@ class BlockTest {
             }
         }
     }
+
+    @Test
+    void testLazyRegistry() {
+        for (Block block : Block.values()) {
+            for (Block blockWithState : block.possibleStates()) {
+                var registry = blockWithState.registry();
+                assertSame(registry, blockWithState.registry());
+                assertSame(registry, blockWithState.withNbt(CompoundBinaryTag.empty()).registry());
+                assertEquals(blockWithState.stateId(), registry.stateId());
+                assertEquals(blockWithState.id(), registry.id());
+                assertEquals(blockWithState.namespace(), registry.namespace());
+            }
+        }
+    }
 }
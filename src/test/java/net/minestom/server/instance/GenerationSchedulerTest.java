@@ -0,0 +1,18 @@
+package net.minestom.server.instance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GenerationSchedulerTest {
+
+    @Test
+    void squaredDistance() {
+        assertEquals(0, GenerationScheduler.squaredDistance(5, -5, 5, -5));
+        assertEquals(25, GenerationScheduler.squaredDistance(0, 0, 3, -4));
+        // Far chunks must not overflow to a negative priority
+        assertEquals(Integer.MAX_VALUE, GenerationScheduler.squaredDistance(0, 0, 50_000, 0));
+        assertEquals(Integer.MAX_VALUE, GenerationScheduler.squaredDistance(Integer.MIN_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+}
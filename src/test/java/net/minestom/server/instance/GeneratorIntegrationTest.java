@@ -9,10 +9,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MicrotusExtension.class)
 class GeneratorIntegrationTest {
@@ -50,6 +53,73 @@ class GeneratorIntegrationTest {
         ref.set(null);
     }
 
+    @Test
+    void loadRegion(Env env) {
+        var manager = env.process().instance();
+        var instance = manager.createInstanceContainer();
+        instance.setGenerationScheduler(new GenerationScheduler(2));
+        instance.setGenerator(unit -> unit.modifier().fill(Block.STONE));
+
+        Set<Chunk> chunks = ConcurrentHashMap.newKeySet();
+        instance.loadRegion(-3, -2, 4, 5, chunks::add).join();
+        assertEquals(8 * 8, chunks.size());
+        assertEquals(8 * 8, instance.getChunks().size());
+        for (int x = -3; x <= 4; x++) {
+            for (int z = -2; z <= 5; z++) {
+                assertEquals(Block.STONE, instance.getBlock(x * 16, 0, z * 16));
+            }
+        }
+        // Already loaded chunks
+        instance.loadRegion(-3, -2, 4, 5).join();
+        assertEquals(8 * 8, instance.getChunks().size());
+    }
+
+    @Test
+    void cancelledRequest(Env env) throws InterruptedException {
+        var manager = env.process().instance();
+        var instance = manager.createInstanceContainer();
+        instance.setGenerationScheduler(new GenerationScheduler(1));
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger generated = new AtomicInteger();
+        instance.setGenerator(unit -> {
+            if (unit.absoluteStart().chunkX() == 10) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            } else {
+                generated.incrementAndGet();
+            }
+            unit.modifier().fill(Block.STONE);
+        });
+        // Occupy the only generation thread so that the next requests stay queued
+        var blocking = instance.loadChunk(10, 10);
+        blocked.await();
+
+        var first = instance.loadChunk(0, 0);
+        var second = instance.loadChunk(0, 0);
+        assertNotSame(first, second);
+        first.cancel(false);
+
+        var cancelled = instance.loadChunk(1, 0);
+        cancelled.cancel(false);
+
+        release.countDown();
+        blocking.join();
+        var chunk = second.join();
+        assertEquals(0, chunk.getChunkX());
+        assertEquals(Block.STONE, instance.getBlock(0, 0, 0));
+        assertTrue(first.isCancelled());
+        // Generation is only skipped once every request has been cancelled
+        assertEquals(1, generated.get());
+        assertNull(instance.getChunk(1, 0));
+        // A new request after the abandoned load generates the chunk
+        assertEquals(1, instance.loadChunk(1, 0).join().getChunkX());
+    }
+
     @Test
     void fillHeightNegative(Env env) {
         var manager = env.process().instance();
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -273,6 +275,221 @@ class PaletteTest {
         }
     }
 
+    @Test
+    void cloneCopyOnWrite() {
+        for (Palette palette : testPalettes()) {
+            palette.set(0, 0, 0, 1);
+            palette.set(1, 0, 0, 2);
+            var clone = palette.clone();
+            assertEquals(1, clone.get(0, 0, 0));
+            assertEquals(2, clone.get(1, 0, 0));
+
+            palette.set(0, 0, 0, 3);
+            assertEquals(3, palette.get(0, 0, 0));
+            assertEquals(1, clone.get(0, 0, 0), "Clone must not see modifications of the original");
+
+            clone.set(1, 0, 0, 4);
+            assertEquals(4, clone.get(1, 0, 0));
+            assertEquals(2, palette.get(1, 0, 0), "Original must not see modifications of the clone");
+
+            var secondClone = clone.clone();
+            secondClone.replaceAll((x, y, z, value) -> value + 1);
+            assertEquals(2, secondClone.get(0, 0, 0));
+            assertEquals(1, clone.get(0, 0, 0));
+            assertEquals(2, clone.count());
+            assertEquals(palette.maxSize(), secondClone.count());
+        }
+    }
+
+    @Test
+    void fillBox() {
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            palette.fill(0, 0, 0, 1, dimension, dimension, 5);
+            assertEquals(dimension * dimension, palette.count());
+            assertEquals(dimension * dimension, palette.count(5));
+            assertEquals(5, palette.get(0, dimension - 1, 0));
+            assertEquals(0, palette.get(1, 0, 0));
+
+            palette.fill(0, 0, 0, dimension, 1, dimension, 0);
+            assertEquals(dimension * (dimension - 1), palette.count());
+            assertEquals(0, palette.get(0, 0, 0));
+            assertThrows(Exception.class, () -> palette.fill(0, 0, 0, dimension + 1, 1, 1, 1));
+        }
+    }
+
+    @Test
+    void copyFrom() {
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            Palette source = Palette.newPalette(dimension, 5, 3);
+            source.setAll((x, y, z) -> x + y * 2 + z * 3);
+            palette.set(0, 0, 0, 100);
+            palette.copyFrom(source, 1, 0, 0, dimension, dimension, dimension);
+            assertEquals(100, palette.get(0, 0, 0));
+            palette.getAll((x, y, z, value) -> assertEquals(x == 0 ? (y + z == 0 ? 100 : 0) : x + y * 2 + z * 3, value));
+            assertEquals(palette.maxSize() - palette.count(0), palette.count());
+
+            palette.copyFrom(source, 0, 0, 0, dimension, dimension, dimension);
+            source.set(1, 1, 1, 200);
+            palette.getAll((x, y, z, value) -> assertEquals(x + y * 2 + z * 3, value));
+            assertEquals(source.count(), palette.count());
+            assertEquals(200, source.get(1, 1, 1));
+        }
+    }
+
+    @Test
+    void copyFromIndependent() {
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            Palette source = Palette.newPalette(dimension, palette.maxBitsPerEntry(), 3);
+            source.setAll((x, y, z) -> x + y * 2 + z * 3);
+            palette.copyFrom(source, 0, 0, 0, dimension, dimension, dimension);
+            // The source may belong to another chunk, the copy must not write to it
+            assertFalse(((AdaptivePalette) source).shared);
+            // Modifications of either palette must not be visible in the other
+            source.set(0, 0, 0, 200);
+            source.replaceAll((x, y, z, value) -> value + 1);
+            palette.getAll((x, y, z, value) -> assertEquals(x + y * 2 + z * 3, value));
+            palette.set(1, 1, 1, 300);
+            assertEquals(1 + 2 + 3 + 1, source.get(1, 1, 1));
+            assertEquals(201, source.get(0, 0, 0));
+        }
+    }
+
+    @Test
+    void replaceValues() {
+        for (Palette palette : testPalettes()) {
+            palette.setAll((x, y, z) -> x + y + z);
+            palette.replaceValues(value -> value + 1);
+            palette.getAll((x, y, z, value) -> assertEquals(x + y + z + 1, value));
+            assertEquals(palette.maxSize(), palette.count());
+
+            palette.replaceValues(value -> value % 2);
+            palette.getAll((x, y, z, value) -> assertEquals((x + y + z + 1) % 2, value));
+            assertEquals(palette.maxSize() - palette.count(0), palette.count());
+            assertEquals(palette.count(), palette.count(1));
+        }
+    }
+
+    @Test
+    void replaceValuesEmpty() {
+        // Full palette, the empty value requires a new entry
+        Palette palette = Palette.newPalette(4, 5, 3);
+        palette.setAll((x, y, z) -> x + y < 7 ? x + y + 1 : 0);
+        palette.replaceValues(value -> value + 1);
+        palette.getAll((x, y, z, value) -> assertEquals(x + y < 7 ? x + y + 2 : 1, value));
+        assertEquals(palette.maxSize(), palette.count());
+    }
+
+    @Test
+    void bulkOperationsRandom() {
+        Random random = new Random(42);
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            int[] expected = new int[palette.maxSize()];
+            for (int i = 0; i < 200; i++) {
+                final int minX = random.nextInt(dimension), maxX = minX + random.nextInt(dimension - minX + 1);
+                final int minY = random.nextInt(dimension), maxY = minY + random.nextInt(dimension - minY + 1);
+                final int minZ = random.nextInt(dimension), maxZ = minZ + random.nextInt(dimension - minZ + 1);
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        final int value = random.nextInt(i < 100 ? 8 : 600);
+                        palette.fill(minX, minY, minZ, maxX, maxY, maxZ, value);
+                        forEach(dimension, minX, minY, minZ, maxX, maxY, maxZ, index -> expected[index] = value);
+                    }
+                    case 1 -> {
+                        Palette source = Palette.newPalette(dimension, 5, 3);
+                        source.setAll((x, y, z) -> random.nextInt(6));
+                        palette.copyFrom(source, minX, minY, minZ, maxX, maxY, maxZ);
+                        source.getAll((x, y, z, value) -> {
+                            if (x >= minX && x < maxX && y >= minY && y < maxY && z >= minZ && z < maxZ) {
+                                expected[index(dimension, x, y, z)] = value;
+                            }
+                        });
+                    }
+                    case 2 -> {
+                        final int offset = random.nextInt(3);
+                        palette.replaceValues(value -> value % 5 + offset);
+                        for (int j = 0; j < expected.length; j++) expected[j] = expected[j] % 5 + offset;
+                    }
+                    default -> {
+                        final int value = random.nextInt(10);
+                        palette.set(minX, minY, minZ, value);
+                        expected[index(dimension, minX, minY, minZ)] = value;
+                    }
+                }
+                assertModel(palette, expected);
+            }
+        }
+    }
+
+    private static void assertModel(Palette palette, int[] expected) {
+        final int dimension = palette.dimension();
+        palette.getAll((x, y, z, value) -> assertEquals(expected[index(dimension, x, y, z)], value));
+        int count = 0;
+        for (int value : expected) if (value != 0) count++;
+        assertEquals(count, palette.count());
+        for (int value = 0; value < 8; value++) {
+            int valueCount = 0;
+            for (int entry : expected) if (entry == value) valueCount++;
+            assertEquals(valueCount, palette.count(value));
+        }
+    }
+
+    private static void forEach(int dimension, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                                IntConsumer consumer) {
+        for (int y = minY; y < maxY; y++)
+            for (int z = minZ; z < maxZ; z++)
+                for (int x = minX; x < maxX; x++)
+                    consumer.accept(index(dimension, x, y, z));
+    }
+
+    private static int index(int dimension, int x, int y, int z) {
+        return (y * dimension + z) * dimension + x;
+    }
+
+    @Test
+    void intern() {
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            Palette other = Palette.newPalette(dimension, 5, 3);
+            palette.setAll((x, y, z) -> x + y + z + 1);
+            other.setAll((x, y, z) -> x + y + z + 1);
+            assertEquals(2, PaletteMemoryUsage.of(List.of(palette, other)).contents());
+
+            palette.intern();
+            other.intern();
+            var usage = PaletteMemoryUsage.of(List.of(palette, other));
+            assertEquals(2, usage.palettes());
+            assertEquals(1, usage.contents());
+            assertEquals(usage.bytes(), PaletteMemoryUsage.of(List.of(palette)).bytes() + 24);
+
+            // Copy on write
+            other.set(0, 0, 0, 100);
+            assertEquals(100, other.get(0, 0, 0));
+            assertEquals(1, palette.get(0, 0, 0));
+            other.getAll((x, y, z, value) -> assertEquals(x + y + z == 0 ? 100 : x + y + z + 1, value));
+            palette.getAll((x, y, z, value) -> assertEquals(x + y + z + 1, value));
+            assertEquals(2, PaletteMemoryUsage.of(List.of(palette, other)).contents());
+        }
+    }
+
+    @Test
+    void internEmpty() {
+        Palette palette = Palette.blocks();
+        Palette other = Palette.blocks();
+        other.set(0, 0, 0, 1);
+        other.set(0, 0, 0, 0);
+        palette.intern();
+        other.intern();
+        assertEquals(1, PaletteMemoryUsage.of(List.of(palette, other)).contents());
+        assertEquals(0, other.count());
+        other.set(1, 1, 1, 5);
+        assertEquals(0, palette.get(1, 1, 1));
+        assertEquals(5, other.get(1, 1, 1));
+    }
+
     @Test
     void dimension() {
         assertThrows(Exception.class, () -> Palette.newPalette(-4, 5, 3));
@@ -46,6 +46,50 @@ class InventoryIntegrationTest {
         packetTracker.assertSingle(slot -> assertEquals(ItemStack.AIR, slot.itemStack())); // Setting a slot should send a packet
     }
 
+    @Test
+    void deferredUpdatesTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        inventory.setDeferredUpdates(true);
+        player.openInventory(inventory);
+        assertEquals(inventory, player.getOpenInventory());
+
+        var setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.setItemStack(3, MAGIC_STACK);
+        inventory.setItemStack(3, ItemStack.AIR);
+        inventory.setItemStack(3, MAGIC_STACK);
+        inventory.setItemStack(5, MAGIC_STACK);
+        setSlotTracker.assertEmpty(); // Changes are only sent at the end of the tick
+        // Collecting stops the tracking
+        setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        env.tick();
+        setSlotTracker.assertCount(2); // One packet per dirty slot, with the latest item
+        for (SetSlotPacket packet : setSlotTracker.collect()) {
+            assertEquals(MAGIC_STACK, packet.itemStack());
+        }
+
+        // Most slots changing should send the whole window
+        setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        var windowItemsTracker = connection.trackIncoming(WindowItemsPacket.class);
+        for (int i = 0; i < inventory.getSize(); i++) {
+            inventory.setItemStack(i, ItemStack.of(Material.STONE, i + 1));
+        }
+        env.tick();
+        setSlotTracker.assertEmpty();
+        windowItemsTracker.assertSingle(packet -> assertEquals(ItemStack.of(Material.STONE, 10), packet.items().get(9)));
+
+        // Disabling flushes the pending changes
+        setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.setItemStack(0, MAGIC_STACK);
+        setSlotTracker.assertEmpty();
+        setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.setDeferredUpdates(false);
+        setSlotTracker.assertSingle(packet -> assertEquals(MAGIC_STACK, packet.itemStack()));
+    }
+
     @Test
     void setCursorItemDuplicateTest(Env env) {
         var instance = env.createFlatInstance();
@@ -7,11 +7,13 @@ import net.minestom.server.component.DataComponent;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.item.component.EnchantmentList;
 import net.minestom.server.item.enchant.Enchantment;
+import net.minestom.server.network.NetworkBuffer;
 import net.minestom.testing.Env;
 import net.minestom.testing.extension.MicrotusExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -138,6 +140,25 @@ class ItemTest {
         assertEquals(EntityType.CAMEL, item2.material().registry().spawnEntityType());
     }
 
+    @Test
+    void simpleStacksShared() {
+        assertSame(ItemStack.of(Material.DIAMOND, 5), ItemStack.of(Material.DIAMOND, 5));
+        assertSame(ItemStack.of(Material.DIAMOND), ItemStack.builder(Material.DIAMOND).build());
+        assertEquals(ItemStack.of(Material.DIAMOND, 100), ItemStack.of(Material.DIAMOND, 100));
+    }
+
+    @Test
+    void networkEncoding() {
+        var item = createItem();
+        var bytes = NetworkBuffer.makeArray(buffer -> buffer.write(ItemStack.NETWORK_TYPE, item));
+        assertArrayEquals(bytes, NetworkBuffer.makeArray(buffer -> buffer.write(ItemStack.NETWORK_TYPE, item)),
+                "Cached encoding must be identical");
+        var read = new NetworkBuffer(ByteBuffer.wrap(bytes)).read(ItemStack.NETWORK_TYPE);
+        assertEquals(item, read);
+        assertArrayEquals(bytes, NetworkBuffer.makeArray(buffer -> buffer.write(ItemStack.NETWORK_TYPE, read)));
+        assertEquals(item.toItemNBT(), read.toItemNBT());
+    }
+
     static ItemStack createItem() {
         return ItemStack.builder(Material.STONE)
                 .set(ItemComponent.CUSTOM_NAME, Component.text("Display name!", NamedTextColor.GREEN))
@@ -0,0 +1,79 @@
+package net.minestom.server.listener.manager;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.common.ClientPingRequestPacket;
+import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PacketListenerManagerTest {
+
+    @Test
+    void dispatch() {
+        var manager = new PacketListenerManager();
+        var connection = new DummyConnection();
+        connection.setConnectionState(ConnectionState.STATUS);
+        AtomicInteger status = new AtomicInteger();
+        AtomicInteger ping = new AtomicInteger();
+        manager.setListener(ConnectionState.STATUS, StatusRequestPacket.class, (packet, c) -> status.incrementAndGet());
+        manager.setListener(ConnectionState.STATUS, ClientPingRequestPacket.class, (packet, c) -> ping.incrementAndGet());
+        manager.processClientPacket(new StatusRequestPacket(), connection);
+        manager.processClientPacket(new StatusRequestPacket(), connection);
+        manager.processClientPacket(new ClientPingRequestPacket(5), connection);
+        assertEquals(2, status.get());
+        assertEquals(1, ping.get());
+
+        // Listeners are per state
+        connection.setConnectionState(ConnectionState.LOGIN);
+        manager.processClientPacket(new StatusRequestPacket(), connection);
+        assertEquals(2, status.get());
+    }
+
+    @Test
+    void replaceListener() {
+        var manager = new PacketListenerManager();
+        var connection = new DummyConnection();
+        connection.setConnectionState(ConnectionState.STATUS);
+        AtomicInteger counter = new AtomicInteger();
+        manager.setListener(ConnectionState.STATUS, StatusRequestPacket.class, (packet, c) -> counter.addAndGet(1));
+        manager.setListener(ConnectionState.STATUS, StatusRequestPacket.class, (packet, c) -> counter.addAndGet(10));
+        manager.processClientPacket(new StatusRequestPacket(), connection);
+        assertEquals(10, counter.get());
+    }
+
+    @Test
+    void decodeStatistics() {
+        var manager = new PacketListenerManager();
+        assertTrue(manager.getStatistics().isEmpty());
+        manager.recordDecode(ConnectionState.STATUS, new StatusRequestPacket(), 100);
+        manager.recordDecode(ConnectionState.STATUS, new StatusRequestPacket(), 300);
+        var statistics = manager.getStatistics();
+        assertEquals(1, statistics.size());
+        var packetStatistics = statistics.get(0);
+        assertEquals(ConnectionState.STATUS, packetStatistics.state());
+        assertEquals(StatusRequestPacket.class, packetStatistics.packetClass());
+        assertEquals(2, packetStatistics.decodeCount());
+        assertEquals(200, packetStatistics.averageDecodeNanos());
+        manager.resetStatistics();
+        assertTrue(manager.getStatistics().isEmpty());
+    }
+
+    static final class DummyConnection extends PlayerConnection {
+        @Override
+        public void sendPacket(@NotNull SendablePacket packet) {
+        }
+
+        @Override
+        public @NotNull SocketAddress getRemoteAddress() {
+            return new InetSocketAddress("localhost", 25565);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.DirectFramebuffer;
+import net.minestom.server.map.framebuffers.Graphics2DFramebuffer;
+import net.minestom.server.map.framebuffers.LargeDirectFramebuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapUpdateTrackerTest {
+
+    @Test
+    void fullThenDelta() {
+        var framebuffer = new DirectFramebuffer();
+        var tracker = new MapUpdateTracker();
+
+        var packet = tracker.prepareUpdate(5, framebuffer);
+        assertNotNull(packet);
+        assertEquals(5, packet.mapId());
+        assertEquals(Framebuffer.WIDTH * Framebuffer.HEIGHT, packet.colorContent().data().length);
+
+        assertNull(tracker.prepareUpdate(5, framebuffer), "Nothing changed");
+
+        framebuffer.set(10, 20, MapColors.COLOR_RED.baseColor());
+        var content = tracker.prepareUpdate(5, framebuffer).colorContent();
+        assertEquals(1, content.columns());
+        assertEquals(1, content.rows());
+        assertEquals(10, content.x());
+        assertEquals(20, content.z());
+        assertArrayEquals(new byte[]{MapColors.COLOR_RED.baseColor()}, content.data());
+
+        framebuffer.set(3, 40, MapColors.COLOR_RED.baseColor());
+        framebuffer.set(7, 42, MapColors.COLOR_BLUE.baseColor());
+        content = tracker.prepareUpdate(5, framebuffer).colorContent();
+        assertEquals(5, content.columns());
+        assertEquals(3, content.rows());
+        assertEquals(3, content.x());
+        assertEquals(40, content.z());
+        assertEquals(MapColors.COLOR_RED.baseColor(), content.data()[0]);
+        assertEquals(MapColors.COLOR_BLUE.baseColor(), content.data()[2 * 5 + 4]);
+
+        tracker.reset();
+        content = tracker.prepareUpdate(5, framebuffer).colorContent();
+        assertEquals(Framebuffer.WIDTH * Framebuffer.HEIGHT, content.data().length);
+    }
+
+    @Test
+    void largeFramebuffer() {
+        var framebuffer = new LargeDirectFramebuffer(256, 256);
+        var tracker = new MapUpdateTracker();
+        assertNotNull(tracker.prepareUpdate(1, framebuffer, 128, 0));
+        framebuffer.setMapColor(5, 5, MapColors.COLOR_RED.baseColor());
+        assertNull(tracker.prepareUpdate(1, framebuffer, 128, 0), "Change outside of the view");
+        framebuffer.setMapColor(130, 1, MapColors.COLOR_RED.baseColor());
+        var content = tracker.prepareUpdate(1, framebuffer, 128, 0).colorContent();
+        assertEquals(2, content.x());
+        assertEquals(1, content.z());
+        assertEquals(1, content.data().length);
+    }
+
+    @Test
+    void closestIndex() {
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            final int rgb = random.nextInt(0xFFFFFF + 1);
+            assertEquals(MapColors.closestColor(rgb).getIndex(), MapColors.closestIndex(rgb));
+            assertEquals(MapColors.closestColor(rgb).getIndex(), MapColors.closestIndex(rgb | 0xFF000000));
+        }
+    }
+
+    @Test
+    void graphicsConversion() {
+        var framebuffer = new Graphics2DFramebuffer();
+        Random random = new Random(0);
+        for (int x = 0; x < Framebuffer.WIDTH; x++) {
+            for (int y = 0; y < Framebuffer.HEIGHT; y++) {
+                framebuffer.set(x, y, random.nextInt(4) * 0x3F3F3F);
+            }
+        }
+        final byte[] colors = framebuffer.toMapColors();
+        for (int x = 0; x < Framebuffer.WIDTH; x++) {
+            for (int y = 0; y < Framebuffer.HEIGHT; y++) {
+                assertEquals(MapColors.closestColor(framebuffer.get(x, y)).getIndex(), colors[Framebuffer.index(x, y)]);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.Tickable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickProfilerTest {
+
+    @Test
+    void disabled() {
+        TickProfiler profiler = new TickProfiler(false, 10);
+        assertFalse(profiler.isEnabled());
+        assertEquals(0, profiler.time());
+        assertEquals(0, profiler.phase(TickPhase.SCHEDULER, 0));
+        profiler.endTick(System.nanoTime(), List.of());
+        assertNull(profiler.lastTick());
+        assertTrue(profiler.history().isEmpty());
+    }
+
+    @Test
+    void phases() {
+        TickProfiler profiler = new TickProfiler(true, 10);
+        final long tickStart = System.nanoTime();
+        long start = profiler.time();
+        start = profiler.phase(TickPhase.SCHEDULER, start);
+        start = profiler.phase(TickPhase.CONNECTION, start - 1_000);
+        profiler.phase(TickPhase.SCHEDULER_END, start - 2_000);
+        profiler.complete(tickStart, List.of());
+
+        final TickProfile profile = profiler.lastTick();
+        assertNotNull(profile);
+        assertEquals(0, profile.tick());
+        assertTrue(profile.phaseNanos(TickPhase.CONNECTION) >= 1_000);
+        assertTrue(profile.phaseNanos(TickPhase.SCHEDULER_END) >= 2_000);
+        assertEquals(0, profile.phaseNanos(TickPhase.DISPATCHER));
+        assertTrue(profile.durationNanos() > 0);
+
+        // Phases are reset every tick
+        profiler.complete(System.nanoTime(), List.of());
+        assertEquals(0, profiler.lastTick().phaseNanos(TickPhase.CONNECTION));
+    }
+
+    @Test
+    void nestedPhase() {
+        TickProfiler profiler = new TickProfiler(true, 10);
+        final long start = profiler.time();
+        profiler.nestedPhase(TickPhase.SNAPSHOT, profiler.time() - 5_000_000);
+        profiler.phase(TickPhase.SCHEDULER_END, start - 10_000_000);
+        profiler.complete(System.nanoTime(), List.of());
+
+        final TickProfile profile = profiler.lastTick();
+        assertNotNull(profile);
+        assertTrue(profile.phaseNanos(TickPhase.SNAPSHOT) >= 5_000_000);
+        // The nested phase is excluded from the phase it ran in
+        assertTrue(profile.phaseNanos(TickPhase.SCHEDULER_END) >= 5_000_000);
+        assertTrue(profile.phaseNanos(TickPhase.SCHEDULER_END) < 10_000_000);
+    }
+
+    @Test
+    void threads() {
+        TickProfiler profiler = new TickProfiler(true, 10);
+        TickRecorder first = new TickRecorder();
+        TickRecorder second = new TickRecorder();
+        final Tickable tickable = time -> {
+        };
+        first.record(tickable, 100);
+        first.record(tickable, 50);
+        second.record(tickable, 25);
+        profiler.complete(System.nanoTime(), List.of(first, second));
+
+        final TickProfile profile = profiler.lastTick();
+        assertNotNull(profile);
+        assertArrayEquals(new long[]{150, 25}, profile.threadNanos());
+        assertEquals(0, first.busyNanos, "Recorders must be cleared once merged");
+        assertTrue(profile.instanceNanos().isEmpty());
+        assertTrue(profile.slowestChunks().isEmpty());
+    }
+
+    @Test
+    void history() {
+        TickProfiler profiler = new TickProfiler(true, 3);
+        for (int i = 0; i < 5; i++) profiler.complete(System.nanoTime(), List.of());
+        assertEquals(4, profiler.lastTick().tick());
+        assertEquals(List.of(2L, 3L, 4L), profiler.history().stream().map(TickProfile::tick).toList());
+    }
+}
@@ -0,0 +1,91 @@
+package net.minestom.server.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.utils.PacketUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+
+    @Test
+    void packetCompression() throws IOException {
+        final List<RecordedEvent> events = record("minestom.PacketCompression", () -> {
+            final byte[] content = new byte[1024];
+            ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+            PacketUtils.writeFramedPacket(buffer, 5, writer -> writer.write(NetworkBuffer.RAW_BYTES, content), 256);
+            // Below the threshold
+            PacketUtils.writeFramedPacket(buffer.clear(), 5, writer -> writer.write(NetworkBuffer.VAR_INT, 1), 256);
+        });
+        assertEquals(1, events.size());
+        final RecordedEvent event = events.getFirst();
+        assertEquals(5, event.getInt("packetId"));
+        assertEquals(1025, event.getInt("uncompressedSize"));
+        final int compressedSize = event.getInt("compressedSize");
+        assertTrue(compressedSize > 0 && compressedSize < 1025, "Zeros should compress, got " + compressedSize);
+        assertEquals((float) compressedSize / 1025, event.getFloat("ratio"), 1e-6);
+    }
+
+    @Test
+    void packetCompressionDisabledByDefault() throws IOException, ParseException {
+        final List<RecordedEvent> events = record(new Recording(Configuration.getConfiguration("default")), "minestom.PacketCompression", () -> {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+            PacketUtils.writeFramedPacket(buffer, 5, writer -> writer.write(NetworkBuffer.RAW_BYTES, new byte[1024]), 256);
+        });
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void dispatcherTick() throws IOException {
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.singleThread();
+        try {
+            final Object partition = new Object();
+            final List<RecordedEvent> events = record("minestom.DispatcherTick", () -> {
+                dispatcher.createPartition(partition);
+                dispatcher.updateElement(time -> {
+                }, partition);
+                dispatcher.updateAndAwait(System.currentTimeMillis());
+            });
+            assertEquals(1, events.size());
+            final RecordedEvent event = events.getFirst();
+            assertEquals(2, event.getInt("updates"));
+            assertEquals(1, event.getInt("threads"));
+            assertEquals(1, event.getInt("partitions"));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    private static List<RecordedEvent> record(String eventName, Runnable runnable) throws IOException {
+        Recording recording = new Recording();
+        recording.enable(eventName);
+        return record(recording, eventName, runnable);
+    }
+
+    private static List<RecordedEvent> record(Recording recording, String eventName, Runnable runnable) throws IOException {
+        final Path file = Files.createTempFile("minestom", ".jfr");
+        try (recording) {
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
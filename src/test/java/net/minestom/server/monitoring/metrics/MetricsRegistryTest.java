@@ -0,0 +1,115 @@
+package net.minestom.server.monitoring.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void counter() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("test_total", "Test counter");
+        counter.inc();
+        counter.inc(4);
+        assertEquals(5, counter.get());
+        assertThrows(IllegalArgumentException.class, () -> counter.inc(-1));
+        assertEquals("""
+                # HELP test_total Test counter
+                # TYPE test_total counter
+                test_total 5
+                """, registry.scrape());
+    }
+
+    @Test
+    void labeledCounter() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("packets_total", "Packets", "packet");
+        assertThrows(IllegalStateException.class, counter::inc);
+        assertThrows(IllegalArgumentException.class, () -> counter.labels("a", "b"));
+        assertSame(counter.labels("chat"), counter.labels("chat"));
+        counter.labels("chat").inc(2);
+        counter.labels("move").inc();
+
+        final List<MetricFamily> families = registry.collect();
+        assertEquals(1, families.size());
+        assertEquals(Map.of(Map.of("packet", "chat"), 2d, Map.of("packet", "move"), 1d),
+                families.getFirst().samples().stream()
+                        .collect(Collectors.toMap(MetricFamily.Sample::labels, MetricFamily.Sample::value)));
+    }
+
+    @Test
+    void concurrentIncrements() {
+        Counter counter = new Counter("concurrent_total", "Concurrent");
+        IntStream.range(0, 10_000).parallel().forEach(i -> counter.inc());
+        assertEquals(10_000, counter.get());
+    }
+
+    @Test
+    void gauge() {
+        MetricsRegistry registry = new MetricsRegistry();
+        final int[] value = {1};
+        Gauge gauge = registry.gauge("test_gauge", "Test gauge", () -> value[0]);
+        assertEquals(1, gauge.get());
+        value[0] = 3;
+        assertTrue(registry.scrape().contains("test_gauge 3\n"));
+    }
+
+    @Test
+    void histogram() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Histogram histogram = registry.histogram("test_seconds", "Test histogram", 0.1, 1);
+        histogram.observe(0.05);
+        histogram.observe(0.1);
+        histogram.observe(0.5);
+        histogram.observe(5);
+        assertEquals(4, histogram.count());
+        assertEquals(5.65, histogram.sum(), 1e-9);
+        assertEquals("""
+                # HELP test_seconds Test histogram
+                # TYPE test_seconds histogram
+                test_seconds_bucket{le="0.1"} 2
+                test_seconds_bucket{le="1"} 3
+                test_seconds_bucket{le="+Inf"} 4
+                test_seconds_sum 5.65
+                test_seconds_count 4
+                """, registry.scrape());
+    }
+
+    @Test
+    void histogramBuckets() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram("invalid", "Invalid"));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram("invalid", "Invalid", 1, 1));
+        assertArrayEquals(new double[]{1, 2, 4, 8}, Histogram.exponentialBuckets(1, 2, 4));
+    }
+
+    @Test
+    void registration() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("b_total", "B");
+        registry.counter("a_total", "A");
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("a_total", "A"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("invalid-name", "Invalid"));
+        assertEquals(List.of("a_total", "b_total"), registry.collect().stream().map(MetricFamily::name).toList());
+
+        registry.unregister("a_total");
+        assertEquals(List.of("b_total"), registry.collect().stream().map(MetricFamily::name).toList());
+    }
+
+    @Test
+    void escaping() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.register("escaped", () -> List.of(new MetricFamily("escaped", "Line\nbreak \\", MetricType.GAUGE,
+                List.of(new MetricFamily.Sample("escaped", Map.of("name", "a\"b\\c\nd"), 1.5)))));
+        assertEquals("""
+                # HELP escaped Line\\nbreak \\\\
+                # TYPE escaped gauge
+                escaped{name="a\\"b\\\\c\\nd"} 1.5
+                """, registry.scrape());
+    }
+}
@@ -0,0 +1,42 @@
+package net.minestom.server.monitoring.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsServerTest {
+
+    @Test
+    void scrape() throws IOException, InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("requests_total", "Requests");
+        counter.inc(3);
+        try (MetricsServer server = MetricsServer.start(registry, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             HttpClient client = HttpClient.newHttpClient()) {
+            final URI uri = URI.create("http://127.0.0.1:" + server.address().getPort() + "/metrics");
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/plain; version=0.0.4"));
+            assertEquals(registry.scrape(), response.body());
+
+            // Values are read on every request
+            counter.inc();
+            response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertTrue(response.body().contains("requests_total 4\n"));
+
+            response = client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, response.statusCode());
+        }
+    }
+}
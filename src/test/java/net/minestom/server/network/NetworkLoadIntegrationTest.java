@@ -0,0 +1,52 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.testing.load.BotScript;
+import net.minestom.testing.load.LoadReport;
+import net.minestom.testing.load.LoadTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs simulated clients against the socket server, only executed by the {@code loadTest} task.
+ * <p>
+ * The report summary is written to the file of the {@code minestom.load-test.report} system property, when set.
+ */
+@Tag("load")
+class NetworkLoadIntegrationTest {
+
+    @Test
+    void defaultScript() throws InterruptedException, IOException {
+        LoadReport report = LoadTest.builder()
+                .bots(32)
+                .warmup(Duration.ofSeconds(5))
+                .duration(Duration.ofSeconds(15))
+                .script(BotScript.DEFAULT)
+                .build()
+                .run(MinecraftServer.updateProcess());
+        final String reportFile = System.getProperty("minestom.load-test.report");
+        if (reportFile != null) {
+            final Path path = Path.of(reportFile);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, report.summary());
+        }
+
+        assertEquals(report.bots(), report.joinedBots(), () -> "Every bot should join\n" + report.summary());
+        assertEquals(report.bots(), report.connectedBots(), () -> "No bot should be disconnected\n" + report.summary());
+        assertTrue(report.tickTimes().count() > 0, () -> "No tick was measured\n" + report.summary());
+        // Generous bound, twice the tick budget, only meant to catch large regressions on CI machines
+        final double tickBudget = 1000d / ServerFlag.SERVER_TICKS_PER_SECOND;
+        assertTrue(report.tickTimes().percentile(0.99) < 2 * tickBudget,
+                () -> "p99 tick time exceeds twice the tick budget\n" + report.summary());
+        assertTrue(report.bytesReceivedPerPlayer() > 0, () -> "No data was received\n" + report.summary());
+    }
+}
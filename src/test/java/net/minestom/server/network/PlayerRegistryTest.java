@@ -0,0 +1,102 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerRegistryTest {
+
+    static {
+        // Required to create players
+        MinecraftServer.init();
+    }
+
+    @Test
+    void addRemove() {
+        var registry = new PlayerRegistry(true);
+        var player = new Player(UUID.randomUUID(), "Steve", null);
+        assertTrue(registry.add(player));
+        assertFalse(registry.add(player));
+        assertSame(player, registry.getByUsername("sTEVE"));
+        assertSame(player, registry.getByUuid(player.getUuid()));
+        assertEquals(List.of(player), List.copyOf(registry.view()));
+        assertTrue(registry.view().contains(player));
+
+        assertTrue(registry.remove(player));
+        assertFalse(registry.remove(player));
+        assertNull(registry.getByUsername("Steve"));
+        assertNull(registry.getByUuid(player.getUuid()));
+        assertTrue(registry.view().isEmpty());
+    }
+
+    @Test
+    void additionOrder() {
+        var registry = new PlayerRegistry(false);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            var player = new Player(UUID.randomUUID(), "Player" + i, null);
+            players.add(player);
+            registry.add(player);
+        }
+        assertEquals(players, List.copyOf(registry.view()));
+
+        // A player added again goes last
+        var first = players.removeFirst();
+        registry.remove(first);
+        registry.add(first);
+        players.add(first);
+        assertEquals(players, List.copyOf(registry.view()));
+    }
+
+    @Test
+    void sharedUsername() {
+        var registry = new PlayerRegistry(true);
+        var first = new Player(UUID.randomUUID(), "Steve", null);
+        var second = new Player(UUID.randomUUID(), "steve", null);
+        registry.add(first);
+        registry.add(second);
+        assertSame(first, registry.getByUsername("Steve"));
+        // The remaining player is indexed again
+        registry.remove(first);
+        assertSame(second, registry.getByUsername("Steve"));
+        registry.remove(second);
+        assertNull(registry.getByUsername("Steve"));
+    }
+
+    @Test
+    void sharedUuid() {
+        var registry = new PlayerRegistry(true);
+        final UUID uuid = UUID.randomUUID();
+        var first = new Player(uuid, "first", null);
+        var second = new Player(uuid, "second", null);
+        registry.add(first);
+        registry.add(second);
+        assertSame(first, registry.getByUuid(uuid));
+        registry.remove(first);
+        assertSame(second, registry.getByUuid(uuid));
+        registry.remove(second);
+        assertNull(registry.getByUuid(uuid));
+    }
+
+    @Test
+    void usernameChange() {
+        var registry = new PlayerRegistry(true);
+        var player = new Player(UUID.randomUUID(), "Before", null);
+        registry.add(player);
+        player.setUsernameField("After");
+        // Removal uses the username the player was added with
+        registry.remove(player);
+        assertNull(registry.getByUsername("Before"));
+        assertNull(registry.getByUsername("After"));
+
+        registry.add(player);
+        assertSame(player, registry.getByUsername("After"));
+        assertNull(registry.getByUsername("Before"));
+    }
+}
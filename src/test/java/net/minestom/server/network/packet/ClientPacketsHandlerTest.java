@@ -0,0 +1,44 @@
+package net.minestom.server.network.packet;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.client.ClientPacketsHandler;
+import net.minestom.server.network.packet.client.common.ClientKeepAlivePacket;
+import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
+import net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket;
+import net.minestom.server.network.packet.client.play.ClientUseItemPacket;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ClientPacketsHandlerTest {
+
+    @Test
+    void packetIds() {
+        var play = new ClientPacketsHandler.Play();
+        assertEquals(0x00, play.packetId(ClientTeleportConfirmPacket.class));
+        assertEquals(0x18, play.packetId(ClientKeepAlivePacket.class));
+        assertEquals(0x04, new ClientPacketsHandler.Configuration().packetId(ClientKeepAlivePacket.class));
+        assertThrows(IllegalArgumentException.class, () -> play.packetId(ClientLoginStartPacket.class));
+    }
+
+    @Test
+    void independentInstances() {
+        // Every handler must register its packets from the first id
+        var first = new ClientPacketsHandler.Play();
+        var second = new ClientPacketsHandler.Play();
+        assertEquals(first.packetId(ClientUseItemPacket.class), second.packetId(ClientUseItemPacket.class));
+        assertEquals(0x00, second.packetId(ClientTeleportConfirmPacket.class));
+    }
+
+    @Test
+    void decodeWithLaterInstance() {
+        // Each server process creates its own handlers, the ones created later must decode the same ids
+        new ClientPacketsHandler.Play();
+        var handler = new ClientPacketsHandler.Play();
+        var packet = new ClientTeleportConfirmPacket(5);
+        NetworkBuffer buffer = new NetworkBuffer();
+        packet.write(buffer);
+        assertEquals(packet, handler.create(0x00, buffer));
+    }
+}
@@ -0,0 +1,44 @@
+package net.minestom.server.registry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistryBinaryTest {
+
+    @ParameterizedTest
+    @EnumSource(value = Registry.Resource.class, names = {"BLOCKS", "ITEMS", "ENTITIES"})
+    void roundTrip(Registry.Resource resource) {
+        final byte[] json = Registry.readResource(resource.fileName());
+        assertNotNull(json);
+        final int checksum = RegistryBinary.checksum(json);
+        final var expected = Registry.loadJson(resource);
+        final var binary = RegistryBinary.read(ByteBuffer.wrap(RegistryBinary.write(expected, checksum)), checksum);
+        assertEquals(expected, binary);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Registry.Resource.class, names = {"BLOCKS", "ITEMS", "ENTITIES"})
+    void generatedResource(Registry.Resource resource) {
+        // Generated by the generateRegistryBinaries task
+        final var binary = Registry.loadBinary(resource);
+        assertNotNull(binary, () -> "Missing or outdated binary registry for " + resource);
+        assertEquals(Registry.loadJson(resource), binary);
+    }
+
+    @Test
+    void checksumMismatch() {
+        final Map<String, Map<String, Object>> entries = Map.of("minecraft:stone",
+                Map.of("id", 1L, "hardness", 1.5, "solid", true, "shapes", List.of("a", "b")));
+        final byte[] binary = RegistryBinary.write(entries, 42);
+        assertEquals(entries, RegistryBinary.read(ByteBuffer.wrap(binary), 42));
+        assertNull(RegistryBinary.read(ByteBuffer.wrap(binary), 43));
+        assertNull(RegistryBinary.read(ByteBuffer.wrap(new byte[]{1, 2, 3}), 42));
+    }
+}
@@ -24,4 +24,28 @@ class ChunkSnapshotIntegrationTest {
         var chunk = inst.chunks().iterator().next();
         assertEquals(Block.STONE, chunk.getBlock(0, 0, 0));
     }
+
+    @Test
+    void consecutiveSnapshots(Env env) {
+        var instance = env.createFlatInstance();
+        // Above the generated ground
+        instance.setBlock(0, 50, 0, Block.STONE);
+        var first = ServerSnapshot.update().instances().iterator().next();
+
+        instance.setBlock(0, 50, 0, Block.DIRT);
+        instance.setBlock(1, 50, 0, Block.CHEST);
+        var second = ServerSnapshot.update().instances().iterator().next();
+        var third = ServerSnapshot.update().instances().iterator().next();
+
+        assertEquals(Block.STONE, first.getBlock(0, 50, 0));
+        assertEquals(Block.AIR, first.getBlock(1, 50, 0));
+        assertEquals(Block.DIRT, second.getBlock(0, 50, 0));
+        assertEquals(Block.CHEST, second.getBlock(1, 50, 0));
+        assertEquals(Block.DIRT, third.getBlock(0, 50, 0));
+        assertEquals(Block.CHEST, third.getBlock(1, 50, 0));
+
+        instance.setBlock(1, 50, 0, Block.AIR);
+        assertEquals(Block.CHEST, third.getBlock(1, 50, 0));
+        assertEquals(Block.AIR, ServerSnapshot.update().instances().iterator().next().getBlock(1, 50, 0));
+    }
 }
@@ -0,0 +1,39 @@
+package net.minestom.server.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotUpdaterTest {
+
+    @Test
+    void identityReferences() {
+        AtomicInteger updates = new AtomicInteger();
+        // Equal but distinct snapshotables must not share their reference
+        record Equal(AtomicInteger updates) implements Snapshotable {
+            @Override
+            public @NotNull Snapshot updateSnapshot(@NotNull SnapshotUpdater updater) {
+                updates.incrementAndGet();
+                return new Snapshot() {
+                };
+            }
+        }
+        var first = new Equal(updates);
+        var second = new Equal(updates);
+        assertEquals(first, second);
+
+        var updater = new SnapshotUpdaterImpl();
+        var firstRef = updater.reference(first);
+        assertSame(firstRef, updater.reference(first));
+        var secondRef = updater.reference(second);
+        assertNotSame(firstRef, secondRef);
+        updater.update();
+        assertEquals(2, updates.get());
+        assertNotNull(firstRef.get());
+        assertNotNull(secondRef.get());
+        assertNotSame(firstRef.get(), secondRef.get());
+    }
+}
@@ -0,0 +1,145 @@
+package net.minestom.server.tag;
+
+import net.kyori.adventure.nbt.*;
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.NetworkBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import static net.minestom.testing.TestUtils.assertEqualsSNBT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagBinaryTest {
+
+    @Test
+    void empty() {
+        var handler = roundTrip(TagHandler.newHandler());
+        assertEqualsSNBT("{}", handler.asCompound());
+    }
+
+    @Test
+    void primitives() {
+        var handler = TagHandler.newHandler();
+        handler.setTag(Tag.Byte("byte"), (byte) -5);
+        handler.setTag(Tag.Boolean("boolean"), true);
+        handler.setTag(Tag.Short("short"), (short) 300);
+        handler.setTag(Tag.Integer("int"), -1);
+        handler.setTag(Tag.Long("long"), Long.MIN_VALUE);
+        handler.setTag(Tag.Float("float"), 1.5f);
+        handler.setTag(Tag.Double("double"), -2.25);
+        handler.setTag(Tag.String("string"), "value");
+        var result = roundTrip(handler);
+        assertEquals(handler.asCompound(), result.asCompound());
+        assertEquals(-1, result.getInt(Tag.Integer("int")));
+        assertEquals(Long.MIN_VALUE, result.getTag(Tag.Long("long")));
+        assertEquals(true, result.getTag(Tag.Boolean("boolean")));
+        assertEquals(-2.25, result.getDouble(Tag.Double("double")));
+    }
+
+    @Test
+    void path() {
+        var handler = TagHandler.newHandler();
+        handler.setTag(Tag.Integer("coin").path("path1", "path2"), 5);
+        handler.setTag(Tag.String("name").path("path1"), "name");
+        // Empty compounds are removed
+        handler.setTag(Tag.Integer("removed").path("empty"), 1);
+        handler.removeTag(Tag.Integer("removed").path("empty"));
+        var result = roundTrip(handler);
+        assertEqualsSNBT("""
+                {"path1":{"name":"name","path2":{"coin":5}}}
+                """, result.asCompound());
+        assertEquals(5, result.getTag(Tag.Integer("coin").path("path1", "path2")));
+    }
+
+    @Test
+    void list() {
+        var handler = TagHandler.newHandler();
+        var tag = Tag.Integer("numbers").list();
+        handler.setTag(tag, List.of(1, -2, 3));
+        handler.setTag(Tag.Boolean("flags").list(), List.of(true, false));
+        handler.setTag(Tag.String("strings").list().list(), List.of(List.of("a"), List.of("b", "c")));
+        var result = roundTrip(handler);
+        assertEquals(handler.asCompound(), result.asCompound());
+        assertEquals(List.of(1, -2, 3), result.getTag(tag));
+        assertEquals(List.of(List.of("a"), List.of("b", "c")), result.getTag(Tag.String("strings").list().list()));
+    }
+
+    @Test
+    void structure() {
+        var handler = TagHandler.newHandler();
+        var tag = Tag.Structure("vec", Vec.class);
+        handler.setTag(tag, new Vec(1, 2, 3));
+        var result = roundTrip(handler);
+        assertEquals(handler.asCompound(), result.asCompound());
+        assertEquals(new Vec(1, 2, 3), result.getTag(tag));
+        assertEquals(2d, result.getTag(Tag.Double("y").path("vec")));
+    }
+
+    @Test
+    void fallback() {
+        var handler = TagHandler.newHandler();
+        var uuid = UUID.randomUUID();
+        handler.setTag(Tag.UUID("uuid"), uuid);
+        handler.setTag(Tag.Component("component"), Component.text("Hey"));
+        handler.setTag(Tag.NBT("array"), LongArrayBinaryTag.longArrayBinaryTag(1, 2));
+        handler.setTag(Tag.NBT("compound"), CompoundBinaryTag.builder()
+                .putInt("int", 5)
+                .put("list", ListBinaryTag.listBinaryTag(BinaryTagTypes.STRING, List.of(StringBinaryTag.stringBinaryTag("a"))))
+                .build());
+        var result = roundTrip(handler);
+        assertEquals(handler.asCompound(), result.asCompound());
+        assertEquals(uuid, result.getTag(Tag.UUID("uuid")));
+        assertEquals(Component.text("Hey"), result.getTag(Tag.Component("component")));
+        assertEquals(5, result.getTag(Tag.Integer("int").path("compound")));
+    }
+
+    @Test
+    void transientTag() {
+        var handler = TagHandler.newHandler();
+        handler.setTag(Tag.Transient("transient"), new Object());
+        handler.setTag(Tag.Integer("int"), 1);
+        assertEqualsSNBT("{\"int\":1}", roundTrip(handler).asCompound());
+    }
+
+    @Test
+    void sameAsCompound() {
+        var handler = TagHandler.newHandler();
+        handler.setTag(Tag.Integer("int").path("a"), 1);
+        handler.setTag(Tag.String("string").list().path("a", "b"), List.of("x", "y"));
+        handler.setTag(Tag.Structure("vec", Vec.class).path("c"), Vec.ONE);
+        var fromCompound = TagHandler.fromCompound(handler.asCompound());
+        var fromBinary = roundTrip(handler);
+        assertEquals(fromCompound.asCompound(), fromBinary.asCompound());
+        assertEquals(fromCompound.getTag(Tag.String("string").list().path("a", "b")),
+                fromBinary.getTag(Tag.String("string").list().path("a", "b")));
+    }
+
+    @Test
+    void byteBuffer() {
+        var handler = TagHandler.newHandler();
+        handler.setTag(Tag.String("string"), "value");
+        var buffer = new NetworkBuffer(ByteBuffer.allocate(64), false);
+        handler.writeBinary(buffer);
+        var result = TagHandler.fromBinary(new NetworkBuffer(ByteBuffer.wrap(buffer.readBytes(buffer.writeIndex())), false));
+        assertEquals("value", result.getTag(Tag.String("string")));
+    }
+
+    @Test
+    void invalidVersion() {
+        var buffer = new NetworkBuffer();
+        buffer.write(NetworkBuffer.BYTE, (byte) 0);
+        assertThrows(IllegalArgumentException.class, () -> TagHandler.fromBinary(buffer));
+    }
+
+    private static TagHandler roundTrip(TagHandler handler) {
+        var buffer = new NetworkBuffer();
+        handler.writeBinary(buffer);
+        var result = TagHandler.fromBinary(buffer);
+        assertEquals(0, buffer.readableBytes());
+        return result;
+    }
+}
@@ -46,7 +46,8 @@ class TagItemTest {
 
     @Test
     void gc() {
-        var item = ItemStack.of(Material.DIAMOND);
+        // Stacks without components are interned
+        var item = ItemStack.of(Material.DIAMOND).withTag(Tag.Integer("id"), 1);
         var tag = Tag.ItemStack("item");
         var handler = TagHandler.newHandler();
         handler.setTag(tag, item);
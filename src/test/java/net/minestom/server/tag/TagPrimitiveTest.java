@@ -0,0 +1,141 @@
+package net.minestom.server.tag;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.junit.jupiter.api.Test;
+
+import static net.minestom.testing.TestUtils.assertEqualsSNBT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagPrimitiveTest {
+
+    @Test
+    void intAccess() {
+        var tag = Tag.Integer("coin");
+        var handler = TagHandler.newHandler();
+        assertEquals(0, handler.getInt(tag));
+        handler.setInt(tag, 5);
+        assertEquals(5, handler.getInt(tag));
+        assertEquals(5, handler.getTag(tag));
+        assertEqualsSNBT("{\"coin\":5}", handler.asCompound());
+        handler.setTag(tag, 7);
+        assertEquals(7, handler.getInt(tag));
+        assertEqualsSNBT("{\"coin\":7}", handler.asCompound());
+    }
+
+    @Test
+    void intDefault() {
+        var tag = Tag.Integer("coin").defaultValue(25);
+        var handler = TagHandler.newHandler();
+        assertEquals(25, handler.getInt(tag));
+        assertEquals(30, handler.addAndGetInt(tag, 5));
+        assertEquals(30, handler.getTag(tag));
+    }
+
+    @Test
+    void addAndGet() {
+        var intTag = Tag.Integer("int");
+        var longTag = Tag.Long("long");
+        var doubleTag = Tag.Double("double");
+        var handler = TagHandler.newHandler();
+        assertEquals(1, handler.addAndGetInt(intTag, 1));
+        assertEquals(3, handler.addAndGetInt(intTag, 2));
+        assertEquals(Long.MAX_VALUE, handler.addAndGetLong(longTag, Long.MAX_VALUE));
+        assertEquals(1.5, handler.addAndGetDouble(doubleTag, 1.5));
+        assertEquals(-0.5, handler.addAndGetDouble(doubleTag, -2));
+        assertEquals(3, handler.getTag(intTag));
+        assertEquals(Long.MAX_VALUE, handler.getTag(longTag));
+        assertEquals(-0.5, handler.getTag(doubleTag));
+        assertEqualsSNBT("{\"int\":3,\"long\":9223372036854775807L,\"double\":-0.5D}", handler.asCompound());
+    }
+
+    @Test
+    void intOverflow() {
+        var tag = Tag.Integer("coin");
+        var handler = TagHandler.newHandler();
+        handler.setInt(tag, Integer.MAX_VALUE);
+        assertEquals(Integer.MIN_VALUE, handler.addAndGetInt(tag, 1));
+        assertEquals(Integer.MIN_VALUE, handler.getTag(tag));
+        assertEquals(Integer.MIN_VALUE + 1, handler.addAndGetInt(tag, 1));
+    }
+
+    @Test
+    void compareAndSet() {
+        var tag = Tag.Integer("coin");
+        var handler = TagHandler.newHandler();
+        assertTrue(handler.compareAndSetInt(tag, 0, 5));
+        assertFalse(handler.compareAndSetInt(tag, 0, 10));
+        assertEquals(5, handler.getInt(tag));
+        assertTrue(handler.compareAndSetInt(tag, 5, 10));
+        assertEquals(10, handler.getTag(tag));
+
+        var doubleTag = Tag.Double("double");
+        handler.setDouble(doubleTag, 1.5);
+        assertTrue(handler.compareAndSetDouble(doubleTag, 1.5, 2));
+        assertFalse(handler.compareAndSetDouble(doubleTag, 1.5, 3));
+        assertEquals(2, handler.getDouble(doubleTag));
+    }
+
+    @Test
+    void compareAndSetAbsent() {
+        var handler = TagHandler.newHandler();
+        // Failed attempts must not create the tag, nor its path
+        assertFalse(handler.compareAndSetInt(Tag.Integer("int"), 1, 2));
+        assertFalse(handler.compareAndSetLong(Tag.Long("long").path("path"), 1, 2));
+        assertFalse(handler.compareAndSetDouble(Tag.Double("double").defaultValue(1.5), 0, 2));
+        assertEquals(CompoundBinaryTag.empty(), handler.asCompound());
+
+        // The default value is the expected value of an absent tag
+        var tag = Tag.Double("double").defaultValue(1.5);
+        assertTrue(handler.compareAndSetDouble(tag, 1.5, 2));
+        assertEquals(2, handler.getDouble(tag));
+    }
+
+    @Test
+    void update() {
+        var tag = Tag.Long("coin");
+        var handler = TagHandler.newHandler();
+        handler.setLong(tag, 5);
+        assertEquals(5L, handler.getAndUpdateTag(tag, value -> value * 2));
+        assertEquals(20L, handler.updateAndGetTag(tag, value -> value * 2));
+        assertEquals(25, handler.addAndGetLong(tag, 5));
+        handler.updateTag(tag, value -> null);
+        assertNull(handler.getTag(tag));
+        assertEqualsSNBT("{}", handler.asCompound());
+    }
+
+    @Test
+    void path() {
+        var tag = Tag.Integer("coin").path("path");
+        var handler = TagHandler.newHandler();
+        assertEquals(5, handler.addAndGetInt(tag, 5));
+        assertEquals(5, handler.getInt(tag));
+        assertEqualsSNBT("{\"path\":{\"coin\":5}}", handler.asCompound());
+    }
+
+    @Test
+    void otherTag() {
+        var handler = TagHandler.newHandler();
+        handler.setTag(Tag.Integer("coin"), 5);
+        var tag = Tag.Integer("coin").defaultValue(2);
+        assertEquals(6, handler.addAndGetInt(tag, 1));
+        assertEquals(6, handler.getTag(Tag.Integer("coin")));
+        // Non primitive tag reading the same key
+        handler.setTag(Tag.String("coin"), "value");
+        assertEquals(2, handler.getInt(tag));
+        assertEquals(1, handler.addAndGetInt(Tag.Integer("coin"), 1));
+    }
+
+    @Test
+    void copy() {
+        var tag = Tag.Integer("coin");
+        var handler = TagHandler.newHandler();
+        handler.setInt(tag, 5);
+        var copy = handler.copy();
+        handler.addAndGetInt(tag, 1);
+        assertEquals(5, copy.getInt(tag));
+        assertEquals(6, handler.getInt(tag));
+        var readable = handler.readableCopy();
+        handler.addAndGetInt(tag, 1);
+        assertEquals(6, readable.getTag(tag));
+    }
+}
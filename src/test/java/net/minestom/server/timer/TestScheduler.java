@@ -4,8 +4,10 @@ import net.minestom.server.MinecraftServer;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -201,4 +203,45 @@ class TestScheduler {
         scheduler.processTickEnd();
         assertTrue(result.get(), "Tick end task must be executed after 1 second");
     }
+
+    @Test
+    void virtualThreadTask() throws Exception {
+        Scheduler scheduler = Scheduler.newScheduler();
+        CompletableFuture<Thread> thread = new CompletableFuture<>();
+        scheduler.buildTask(() -> thread.complete(Thread.currentThread()))
+                .delay(TaskSchedule.nextTick())
+                .executionType(ExecutionType.VIRTUAL_THREAD)
+                .schedule();
+        final long submitted = VirtualThreadExecutor.metrics().submitted();
+        scheduler.process();
+        assertEquals(submitted, VirtualThreadExecutor.metrics().submitted(), "Virtual thread tasks should respect their delay");
+        scheduler.processTick();
+        // The delay may only be registered after the tick, once the first step ran on its virtual thread
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!thread.isDone() && System.nanoTime() < deadline) {
+            scheduler.process();
+            Thread.onSpinWait();
+        }
+        assertTrue(thread.get(0, TimeUnit.SECONDS).isVirtual(), "Task should be executed on a virtual thread");
+    }
+
+    @Test
+    void virtualThreadCallback() throws Exception {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicInteger result = new AtomicInteger();
+        AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        var future = scheduler.supplyVirtual(() -> 5, value -> {
+            callbackThread.set(Thread.currentThread());
+            result.set(value);
+        });
+        // The callback is only executed by a scheduler process once the supplier completed
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!future.isDone() && System.nanoTime() < deadline) {
+            scheduler.process();
+            Thread.onSpinWait();
+        }
+        future.get(0, TimeUnit.SECONDS);
+        assertSame(Thread.currentThread(), callbackThread.get(), "Callback must be executed by the scheduler");
+        assertEquals(5, result.get());
+    }
 }
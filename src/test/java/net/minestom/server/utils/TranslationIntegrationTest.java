@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -31,6 +32,9 @@ class TranslationIntegrationTest {
         final var translator = TranslationRegistry.create(Key.key("test.reg"));
         translator.register("test.key", MinestomAdventure.getDefaultLocale(), new MessageFormat("This is a test message", MinestomAdventure.getDefaultLocale()));
 
+        translator.register("test.grouped", MinestomAdventure.getDefaultLocale(), new MessageFormat("Default message", MinestomAdventure.getDefaultLocale()));
+        translator.register("test.grouped", Locale.JAPANESE, new MessageFormat("Japanese message", Locale.JAPANESE));
+
         GlobalTranslator.translator().addSource(translator);
     }
 
@@ -53,6 +57,29 @@ class TranslationIntegrationTest {
         });
     }
 
+    @Test
+    void testTranslationGrouped(final Env env) {
+        final var instance = env.createFlatInstance();
+        final var connection = env.createConnection();
+        final var otherConnection = env.createConnection();
+        final var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+        final var otherPlayer = otherConnection.connect(instance, new Pos(0, 40, 0)).join();
+        otherPlayer.setLocale(Locale.JAPANESE);
+        final var collector = connection.trackIncoming(SystemChatPacket.class);
+        final var otherCollector = otherConnection.trackIncoming(SystemChatPacket.class);
+
+        MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION = true;
+        final var packet = new SystemChatPacket(Component.translatable("test.grouped"), false);
+        PacketUtils.sendGroupedPacket(List.of(player, otherPlayer), packet);
+
+        collector.assertSingle(received -> {
+            assertEquals(Component.text("Default message"), received.message());
+        });
+        otherCollector.assertSingle(received -> {
+            assertEquals(Component.text("Japanese message"), received.message());
+        });
+    }
+
     @Test
     void testTranslationDisabled(final Env env) {
         final var instance = env.createFlatInstance();
@@ -0,0 +1,125 @@
+package net.minestom.server.utils.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void expire() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        wheel.schedule("a", 100);
+        wheel.schedule("b", 200);
+        assertEquals(2, wheel.size());
+
+        assertEquals(List.of(), advance(wheel, 0));
+        assertEquals(List.of(), advance(wheel, 99));
+        assertEquals(List.of("a"), advance(wheel, 100));
+        assertEquals(List.of(), advance(wheel, 150));
+        assertEquals(List.of("b"), advance(wheel, 250));
+        assertEquals(0, wheel.size());
+        assertFalse(wheel.isScheduled("a"));
+    }
+
+    @Test
+    void alreadyExpired() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        advance(wheel, 500);
+        wheel.schedule("a", 0);
+        assertEquals(List.of("a"), advance(wheel, 550));
+    }
+
+    @Test
+    void sameBucket() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        wheel.schedule("a", 120);
+        wheel.schedule("b", 160);
+        assertEquals(List.of(), advance(wheel, 90));
+        // Expiration has the precision of a bucket
+        assertEquals(List.of("a"), advance(wheel, 110));
+        assertEquals(List.of(), advance(wheel, 130));
+        assertEquals(List.of("b"), advance(wheel, 150));
+    }
+
+    @Test
+    void cancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        wheel.schedule("a", 100);
+        wheel.schedule("b", 100);
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertEquals(List.of("b"), advance(wheel, 100));
+    }
+
+    @Test
+    void reschedule() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        wheel.schedule("a", 100);
+        wheel.schedule("a", 300);
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), advance(wheel, 200));
+        assertEquals(List.of("a"), advance(wheel, 300));
+    }
+
+    @Test
+    void rescheduleFromConsumer() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        wheel.schedule("a", 100);
+        List<String> result = new ArrayList<>();
+        wheel.advance(100, element -> {
+            result.add(element);
+            wheel.schedule(element, 200);
+        });
+        assertEquals(List.of("a"), result);
+        assertTrue(wheel.isScheduled("a"));
+        assertEquals(List.of(), advance(wheel, 150));
+        assertEquals(List.of("a"), advance(wheel, 200));
+    }
+
+    @Test
+    void laterRotation() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        advance(wheel, 0);
+        wheel.schedule("a", 5000);
+        for (int time = 50; time < 5000; time += 50) {
+            assertEquals(List.of(), advance(wheel, time), "time " + time);
+        }
+        assertEquals(List.of("a"), advance(wheel, 5000));
+    }
+
+    @Test
+    void largeGap() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        advance(wheel, 0);
+        wheel.schedule("a", 100);
+        wheel.schedule("b", 900);
+        wheel.schedule("c", 100_000);
+        assertEquals(List.of("a", "b"), advance(wheel, 50_000).stream().sorted().toList());
+        assertEquals(List.of("c"), advance(wheel, 100_000));
+    }
+
+    @Test
+    void clear() {
+        TimingWheel<String> wheel = new TimingWheel<>(50, 1000);
+        wheel.schedule("a", 100);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), advance(wheel, 100));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<>(0, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<>(50, 10));
+    }
+
+    private static List<String> advance(TimingWheel<String> wheel, long time) {
+        List<String> result = new ArrayList<>();
+        wheel.advance(time, result::add);
+        return result;
+    }
+}
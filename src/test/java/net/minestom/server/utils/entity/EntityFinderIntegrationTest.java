@@ -0,0 +1,192 @@
+package net.minestom.server.utils.entity;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.math.IntRange;
+import net.minestom.testing.Env;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@ExtendWith(MicrotusExtension.class)
+class EntityFinderIntegrationTest {
+
+    @Test
+    void distance(Env env) {
+        var instance = env.createFlatInstance();
+        var near = spawn(instance, new Vec(2, 40, 0));
+        var middle = spawn(instance, new Vec(0, 40, 10));
+        var far = spawn(instance, new Vec(100, 40, 0));
+
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Vec(0, 40, 0));
+        assertEquals(Set.of(near, middle, far), Set.copyOf(finder.find(instance, null)));
+
+        finder.setDistance(new IntRange(Integer.MIN_VALUE, 20));
+        assertEquals(Set.of(near, middle), Set.copyOf(finder.find(instance, null)));
+
+        finder.setDistance(new IntRange(5, 20));
+        assertEquals(List.of(middle), finder.find(instance, null));
+
+        finder.setDistance(new IntRange(5, Integer.MAX_VALUE));
+        assertEquals(Set.of(middle, far), Set.copyOf(finder.find(instance, null)));
+    }
+
+    @Test
+    void hugeRange(Env env) {
+        var instance = env.createFlatInstance();
+        var near = spawn(instance, new Vec(2, 40, 0));
+        var far = spawn(instance, new Vec(100_000, 40, 0));
+
+        // Must scan the entities instead of every chunk in range
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Vec(0, 40, 0))
+                .setDistance(new IntRange(Integer.MIN_VALUE, 2_000_000_000));
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertEquals(Set.of(near, far), Set.copyOf(finder.find(instance, null))));
+
+        var volumeFinder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Vec(0, 0, 0))
+                .setDifference(1_000_000_000, 1_000_000_000, 1_000_000_000);
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertEquals(Set.of(near, far), Set.copyOf(volumeFinder.find(instance, null))));
+    }
+
+    @Test
+    void volume(Env env) {
+        var instance = env.createFlatInstance();
+        var inside = spawn(instance, new Vec(3, 41, 3));
+        var behind = spawn(instance, new Vec(-3, 41, 3));
+        spawn(instance, new Vec(30, 41, 3));
+
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Vec(0, 40, 0))
+                .setDifference(5, 5, 5);
+        assertEquals(List.of(inside), finder.find(instance, null));
+
+        finder.setDifference(-5, 5, 5);
+        assertEquals(List.of(behind), finder.find(instance, null));
+    }
+
+    @Test
+    void matchesScan(Env env) {
+        var instance = env.createFlatInstance();
+        var random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            spawn(instance, new Vec(random.nextDouble(-64, 64), 40, random.nextDouble(-64, 64)));
+        }
+        final Vec start = new Vec(3.5, 40, -7.25);
+        // Small ranges are answered by the tracker, compare them to a scan of every entity
+        for (int i = 0; i < 50; i++) {
+            final int min = random.nextInt(0, 16);
+            final int max = min + random.nextInt(0, 48);
+            var finder = new EntityFinder()
+                    .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                    .setStartPosition(start)
+                    .setDistance(new IntRange(min, max));
+            var expected = instance.getEntities().stream().filter(entity -> {
+                final double distanceSquared = entity.getPosition().distanceSquared(start);
+                return distanceSquared >= min * min && distanceSquared <= max * max;
+            }).collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(finder.find(instance, null)));
+
+            final float dx = random.nextFloat(-40, 40), dz = random.nextFloat(-40, 40);
+            finder = new EntityFinder()
+                    .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                    .setStartPosition(start)
+                    .setDifference(dx, 1, dz);
+            expected = instance.getEntities().stream().filter(entity -> {
+                final Point position = entity.getPosition();
+                return position.x() >= Math.min(start.x(), start.x() + dx) && position.x() <= Math.max(start.x(), start.x() + dx) &&
+                        position.z() >= Math.min(start.z(), start.z() + dz) && position.z() <= Math.max(start.z(), start.z() + dz);
+            }).collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(finder.find(instance, null)));
+        }
+    }
+
+    @Test
+    void type(Env env) {
+        var instance = env.createFlatInstance();
+        var zombie = spawn(instance, new Vec(0, 40, 0));
+        var player = env.createPlayer(instance, new Pos(1, 40, 0));
+
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setEntity(EntityType.ZOMBIE, EntityFinder.ToggleableType.INCLUDE);
+        assertEquals(List.of(zombie), finder.find(instance, null));
+
+        finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setEntity(EntityType.ZOMBIE, EntityFinder.ToggleableType.EXCLUDE);
+        assertEquals(List.of(player), finder.find(instance, null));
+    }
+
+    @Test
+    void gameMode(Env env) {
+        var instance = env.createFlatInstance();
+        spawn(instance, new Vec(0, 40, 0));
+        var survival = env.createPlayer(instance, new Pos(1, 40, 0));
+        var creative = env.createPlayer(instance, new Pos(2, 40, 0));
+        survival.setGameMode(GameMode.SURVIVAL);
+        creative.setGameMode(GameMode.CREATIVE);
+
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setGameMode(GameMode.CREATIVE, EntityFinder.ToggleableType.INCLUDE);
+        assertEquals(List.of(creative), finder.find(instance, null));
+    }
+
+    @Test
+    void sortLimit(Env env) {
+        var instance = env.createFlatInstance();
+        var first = spawn(instance, new Vec(1, 40, 0));
+        var second = spawn(instance, new Vec(2, 40, 0));
+        var third = spawn(instance, new Vec(3, 40, 0));
+        var fourth = spawn(instance, new Vec(4, 40, 0));
+
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Vec(0, 40, 0))
+                .setEntitySort(EntityFinder.EntitySort.NEAREST);
+        assertEquals(List.of(first, second, third, fourth), finder.find(instance, null));
+
+        finder.setLimit(2);
+        assertEquals(List.of(first, second), finder.find(instance, null));
+
+        finder.setEntitySort(EntityFinder.EntitySort.FURTHEST);
+        assertEquals(List.of(fourth, third), finder.find(instance, null));
+
+        finder.setEntitySort(EntityFinder.EntitySort.RANDOM);
+        assertEquals(2, finder.find(instance, null).size());
+
+        finder.setEntitySort(EntityFinder.EntitySort.ARBITRARY);
+        assertEquals(2, finder.find(instance, null).size());
+
+        finder.setLimit(0);
+        assertEquals(List.of(), finder.find(instance, null));
+    }
+
+    private static Entity spawn(Instance instance, Vec position) {
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, position).join();
+        return entity;
+    }
+}
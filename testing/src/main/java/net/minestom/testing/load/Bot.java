@@ -0,0 +1,72 @@
+package net.minestom.testing.load;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A simulated client connected to the server through a real socket, driven by a {@link BotScript}.
+ * <p>
+ * The bot answers keep alive, ping, teleport and chunk batch packets on its own,
+ * scripts only have to send the actions to simulate.
+ *
+ * @since 1.6.0
+ */
+public interface Bot {
+
+    /**
+     * Gets the index of this bot, from 0 to the number of bots of the load test.
+     *
+     * @return the bot index
+     */
+    int index();
+
+    /**
+     * Gets the username used to log in.
+     *
+     * @return the bot username
+     */
+    @NotNull String username();
+
+    /**
+     * Gets the position of this bot, updated when moving or when teleported by the server.
+     *
+     * @return the bot position
+     */
+    @NotNull Pos position();
+
+    /**
+     * Gets the position at which the bot has been spawned by the server.
+     *
+     * @return the spawn position
+     */
+    @NotNull Pos spawnPosition();
+
+    /**
+     * Gets if the bot has joined the game and can send play packets.
+     *
+     * @return true if the bot is in the play state
+     */
+    boolean isPlaying();
+
+    /**
+     * Moves the bot to a new position.
+     *
+     * @param position the new position
+     */
+    void move(@NotNull Pos position);
+
+    /**
+     * Sends an unsigned chat message.
+     *
+     * @param message the message to send
+     */
+    void chat(@NotNull String message);
+
+    /**
+     * Breaks a block by sending the start and finish digging packets.
+     *
+     * @param blockPosition the position of the block to break
+     */
+    void breakBlock(@NotNull Point blockPosition);
+}
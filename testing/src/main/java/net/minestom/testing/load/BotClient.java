@@ -0,0 +1,329 @@
+package net.minestom.testing.load;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.entity.RelativeFlags;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.message.ChatMessageType;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.ClientPacketsHandler;
+import net.minestom.server.network.packet.client.common.ClientKeepAlivePacket;
+import net.minestom.server.network.packet.client.common.ClientPongPacket;
+import net.minestom.server.network.packet.client.common.ClientSettingsPacket;
+import net.minestom.server.network.packet.client.configuration.ClientFinishConfigurationPacket;
+import net.minestom.server.network.packet.client.configuration.ClientSelectKnownPacksPacket;
+import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
+import net.minestom.server.network.packet.client.login.ClientLoginAcknowledgedPacket;
+import net.minestom.server.network.packet.client.login.ClientLoginPluginResponsePacket;
+import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
+import net.minestom.server.network.packet.client.play.*;
+import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.network.packet.server.common.PingPacket;
+import net.minestom.server.network.packet.server.configuration.SelectKnownPacksPacket;
+import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.packet.server.play.PlayerPositionAndLookPacket;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Minimal protocol client, logging in and answering the packets required to stay connected.
+ * <p>
+ * Packets are read from a dedicated virtual thread, writes can happen from any thread.
+ */
+final class BotClient implements Bot {
+    // Client packet ids, as registered by the server packet handlers
+    private static final ClientPacketsHandler LOGIN_PACKETS = new ClientPacketsHandler.Login();
+    private static final ClientPacketsHandler CONFIGURATION_PACKETS = new ClientPacketsHandler.Configuration();
+    private static final ClientPacketsHandler PLAY_PACKETS = new ClientPacketsHandler.Play();
+    // The handshake is the only packet of its state, without handler
+    private static final int HANDSHAKE = 0x00;
+    private static final int LOGIN_START = LOGIN_PACKETS.packetId(ClientLoginStartPacket.class);
+    private static final int LOGIN_PLUGIN_RESPONSE = LOGIN_PACKETS.packetId(ClientLoginPluginResponsePacket.class);
+    private static final int LOGIN_ACKNOWLEDGED = LOGIN_PACKETS.packetId(ClientLoginAcknowledgedPacket.class);
+    private static final int CONFIGURATION_SETTINGS = CONFIGURATION_PACKETS.packetId(ClientSettingsPacket.class);
+    private static final int CONFIGURATION_FINISH = CONFIGURATION_PACKETS.packetId(ClientFinishConfigurationPacket.class);
+    private static final int CONFIGURATION_KEEP_ALIVE = CONFIGURATION_PACKETS.packetId(ClientKeepAlivePacket.class);
+    private static final int CONFIGURATION_PONG = CONFIGURATION_PACKETS.packetId(ClientPongPacket.class);
+    private static final int CONFIGURATION_KNOWN_PACKS = CONFIGURATION_PACKETS.packetId(ClientSelectKnownPacksPacket.class);
+    private static final int PLAY_TELEPORT_CONFIRM = PLAY_PACKETS.packetId(ClientTeleportConfirmPacket.class);
+    private static final int PLAY_CHAT_MESSAGE = PLAY_PACKETS.packetId(ClientChatMessagePacket.class);
+    private static final int PLAY_CHUNK_BATCH_RECEIVED = PLAY_PACKETS.packetId(ClientChunkBatchReceivedPacket.class);
+    private static final int PLAY_CONFIGURATION_ACK = PLAY_PACKETS.packetId(ClientConfigurationAckPacket.class);
+    private static final int PLAY_KEEP_ALIVE = PLAY_PACKETS.packetId(ClientKeepAlivePacket.class);
+    private static final int PLAY_POSITION_AND_ROTATION = PLAY_PACKETS.packetId(ClientPlayerPositionAndRotationPacket.class);
+    private static final int PLAY_DIGGING = PLAY_PACKETS.packetId(ClientPlayerDiggingPacket.class);
+    private static final int PLAY_PONG = PLAY_PACKETS.packetId(ClientPongPacket.class);
+
+    private static final float CHUNKS_PER_TICK = 25f;
+
+    private final int index;
+    private final String username;
+    private final InetSocketAddress address;
+    private final Stats stats;
+
+    private final Socket socket = new Socket();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(64 * 1024);
+    private final Inflater inflater = new Inflater();
+    private final CompletableFuture<Void> joinFuture = new CompletableFuture<>();
+
+    private volatile ConnectionState state = ConnectionState.HANDSHAKE;
+    private volatile int compressionThreshold = 0;
+    private volatile Pos position = Pos.ZERO;
+    private volatile Pos spawnPosition;
+    private volatile boolean closed;
+    private int sequence;
+    private long tick;
+
+    BotClient(int index, @NotNull String username, @NotNull InetSocketAddress address, @NotNull Stats stats) {
+        this.index = index;
+        this.username = username;
+        this.address = address;
+        this.stats = stats;
+    }
+
+    /**
+     * Connects to the server and starts the login.
+     *
+     * @return a future completed once the bot has joined the game
+     */
+    CompletableFuture<Void> connect() {
+        try {
+            this.socket.setTcpNoDelay(true);
+            this.socket.connect(address);
+            send(HANDSHAKE, new ClientHandshakePacket(MinecraftServer.PROTOCOL_VERSION,
+                    address.getHostString(), address.getPort(), ClientHandshakePacket.Intent.LOGIN));
+            this.state = ConnectionState.LOGIN;
+            send(LOGIN_START, new ClientLoginStartPacket(username, UUID.nameUUIDFromBytes(username.getBytes())));
+        } catch (IOException e) {
+            close();
+            joinFuture.completeExceptionally(e);
+            return joinFuture;
+        }
+        Thread.ofVirtual().name("Bot-" + username).start(this::readLoop);
+        return joinFuture;
+    }
+
+    void tick(@NotNull BotScript script) {
+        if (!isPlaying()) return;
+        script.tick(this, tick++);
+    }
+
+    void close() {
+        this.closed = true;
+        try {
+            this.socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public @NotNull String username() {
+        return username;
+    }
+
+    @Override
+    public @NotNull Pos position() {
+        return position;
+    }
+
+    @Override
+    public @NotNull Pos spawnPosition() {
+        final Pos spawnPosition = this.spawnPosition;
+        return spawnPosition != null ? spawnPosition : position;
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return !closed && state == ConnectionState.PLAY && spawnPosition != null;
+    }
+
+    @Override
+    public void move(@NotNull Pos position) {
+        this.position = position;
+        send(PLAY_POSITION_AND_ROTATION, new ClientPlayerPositionAndRotationPacket(position, true));
+    }
+
+    @Override
+    public void chat(@NotNull String message) {
+        send(PLAY_CHAT_MESSAGE, new ClientChatMessagePacket(message, System.currentTimeMillis(),
+                0, null, 0, new BitSet()));
+    }
+
+    @Override
+    public void breakBlock(@NotNull Point blockPosition) {
+        final int sequence = ++this.sequence;
+        send(PLAY_DIGGING, new ClientPlayerDiggingPacket(ClientPlayerDiggingPacket.Status.STARTED_DIGGING,
+                blockPosition, BlockFace.TOP, sequence));
+        send(PLAY_DIGGING, new ClientPlayerDiggingPacket(ClientPlayerDiggingPacket.Status.FINISHED_DIGGING,
+                blockPosition, BlockFace.TOP, sequence));
+    }
+
+    private void readLoop() {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 64 * 1024))) {
+            while (!closed) {
+                final int length = readVarInt(input);
+                final byte[] frame = new byte[length];
+                input.readFully(frame);
+                this.stats.bytesReceived.add(Utils.getVarIntSize(length) + length);
+                this.stats.packetsReceived.increment();
+
+                ByteBuffer payload = ByteBuffer.wrap(frame);
+                if (compressionThreshold > 0) {
+                    final int dataLength = Utils.readVarInt(payload);
+                    if (dataLength != 0) payload = inflate(payload, dataLength);
+                }
+                final int id = Utils.readVarInt(payload);
+                handle(id, new NetworkBuffer(payload, false));
+            }
+        } catch (EOFException e) {
+            joinFuture.completeExceptionally(new IllegalStateException(username + " disconnected in state " + state));
+        } catch (Exception e) {
+            if (!closed) joinFuture.completeExceptionally(e);
+        } finally {
+            close();
+        }
+    }
+
+    private void handle(int id, NetworkBuffer buffer) {
+        switch (state) {
+            case LOGIN -> {
+                if (id == ServerPacketIdentifier.LOGIN_SET_COMPRESSION) {
+                    this.compressionThreshold = new SetCompressionPacket(buffer).threshold();
+                } else if (id == ServerPacketIdentifier.LOGIN_SUCCESS) {
+                    send(LOGIN_ACKNOWLEDGED, new ClientLoginAcknowledgedPacket());
+                    this.state = ConnectionState.CONFIGURATION;
+                    send(CONFIGURATION_SETTINGS, new ClientSettingsPacket("en_us", (byte) 8, ChatMessageType.FULL,
+                            true, (byte) 0x7F, Player.MainHand.RIGHT, false, true));
+                } else if (id == ServerPacketIdentifier.LOGIN_PLUGIN_REQUEST) {
+                    // Unknown channel
+                    send(LOGIN_PLUGIN_RESPONSE, new ClientLoginPluginResponsePacket(buffer.read(NetworkBuffer.VAR_INT), null));
+                } else if (id == ServerPacketIdentifier.LOGIN_DISCONNECT || id == ServerPacketIdentifier.LOGIN_ENCRYPTION_REQUEST) {
+                    throw new IllegalStateException(username + " could not log in, is online mode enabled?");
+                }
+            }
+            case CONFIGURATION -> {
+                if (id == ServerPacketIdentifier.CONFIGURATION_SELECT_KNOWN_PACKS) {
+                    send(CONFIGURATION_KNOWN_PACKS, new ClientSelectKnownPacksPacket(List.of(SelectKnownPacksPacket.MINECRAFT_CORE)));
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_KEEP_ALIVE) {
+                    send(CONFIGURATION_KEEP_ALIVE, new ClientKeepAlivePacket(new KeepAlivePacket(buffer).id()));
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_PING) {
+                    send(CONFIGURATION_PONG, new ClientPongPacket(new PingPacket(buffer).id()));
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_FINISH_CONFIGURATION) {
+                    send(CONFIGURATION_FINISH, new ClientFinishConfigurationPacket());
+                    this.state = ConnectionState.PLAY;
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_DISCONNECT) {
+                    throw new IllegalStateException(username + " has been disconnected during configuration");
+                }
+            }
+            case PLAY -> {
+                if (id == ServerPacketIdentifier.KEEP_ALIVE) {
+                    send(PLAY_KEEP_ALIVE, new ClientKeepAlivePacket(new KeepAlivePacket(buffer).id()));
+                } else if (id == ServerPacketIdentifier.PING) {
+                    send(PLAY_PONG, new ClientPongPacket(new PingPacket(buffer).id()));
+                } else if (id == ServerPacketIdentifier.PLAYER_POSITION_AND_LOOK) {
+                    teleport(new PlayerPositionAndLookPacket(buffer));
+                } else if (id == ServerPacketIdentifier.CHUNK_BATCH_FINISHED) {
+                    send(PLAY_CHUNK_BATCH_RECEIVED, new ClientChunkBatchReceivedPacket(CHUNKS_PER_TICK));
+                } else if (id == ServerPacketIdentifier.START_CONFIGURATION_PACKET) {
+                    send(PLAY_CONFIGURATION_ACK, new ClientConfigurationAckPacket());
+                    this.state = ConnectionState.CONFIGURATION;
+                } else if (id == ServerPacketIdentifier.DISCONNECT) {
+                    throw new IllegalStateException(username + " has been kicked");
+                }
+            }
+        }
+    }
+
+    private void teleport(PlayerPositionAndLookPacket packet) {
+        final Pos current = this.position;
+        final Pos target = packet.position();
+        final byte flags = packet.flags();
+        this.position = new Pos(
+                (flags & RelativeFlags.X) != 0 ? current.x() + target.x() : target.x(),
+                (flags & RelativeFlags.Y) != 0 ? current.y() + target.y() : target.y(),
+                (flags & RelativeFlags.Z) != 0 ? current.z() + target.z() : target.z(),
+                (flags & RelativeFlags.YAW) != 0 ? current.yaw() + target.yaw() : target.yaw(),
+                (flags & RelativeFlags.PITCH) != 0 ? current.pitch() + target.pitch() : target.pitch());
+        send(PLAY_TELEPORT_CONFIRM, new ClientTeleportConfirmPacket(packet.teleportId()));
+        if (spawnPosition == null) {
+            this.spawnPosition = position;
+            this.joinFuture.complete(null);
+        }
+    }
+
+    private void send(int id, ClientPacket packet) {
+        if (closed) return;
+        this.writeLock.lock();
+        try {
+            final ByteBuffer buffer = this.writeBuffer.clear();
+            PacketUtils.writeFramedPacket(buffer, id, packet, compressionThreshold);
+            final int length = buffer.position();
+            final OutputStream output = socket.getOutputStream();
+            output.write(buffer.array(), 0, length);
+            output.flush();
+            this.stats.bytesSent.add(length);
+            this.stats.packetsSent.increment();
+        } catch (IOException e) {
+            close();
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    private ByteBuffer inflate(ByteBuffer payload, int dataLength) throws DataFormatException {
+        final byte[] data = new byte[dataLength];
+        this.inflater.setInput(payload);
+        this.inflater.inflate(data);
+        this.inflater.reset();
+        return ByteBuffer.wrap(data);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            final byte b = input.readByte();
+            value |= (b & 0x7F) << (i * 7);
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("VarInt is too big");
+    }
+
+    /**
+     * Traffic counters shared by every bot.
+     */
+    static final class Stats {
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LongAdder packetsSent = new LongAdder();
+        final LongAdder packetsReceived = new LongAdder();
+    }
+}
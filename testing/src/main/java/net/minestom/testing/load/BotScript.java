@@ -0,0 +1,93 @@
+package net.minestom.testing.load;
+
+import net.minestom.server.coordinate.Pos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Behavior of the bots of a {@link LoadTest}, called every client tick (50ms) for each bot in the play state.
+ * <p>
+ * Scripts are called from a single thread and should not block.
+ *
+ * @since 1.6.0
+ */
+@FunctionalInterface
+public interface BotScript {
+
+    /**
+     * Default script walking in circles, chatting every 5 seconds and breaking a block every second.
+     */
+    BotScript DEFAULT = walk(8).and(chat(100)).and(breakBlocks(20));
+
+    /**
+     * Ticks a bot.
+     *
+     * @param bot  the bot to tick
+     * @param tick the number of ticks since the bot joined
+     */
+    void tick(@NotNull Bot bot, long tick);
+
+    /**
+     * Combines this script with another one, both being called every tick.
+     *
+     * @param other the script to call after this one
+     * @return the combined script
+     */
+    default @NotNull BotScript and(@NotNull BotScript other) {
+        return (bot, tick) -> {
+            tick(bot, tick);
+            other.tick(bot, tick);
+        };
+    }
+
+    /**
+     * Does nothing, bots only stay connected.
+     *
+     * @return the idle script
+     */
+    static @NotNull BotScript idle() {
+        return (bot, tick) -> {
+        };
+    }
+
+    /**
+     * Walks in a circle around the spawn position, each bot starting at a different angle.
+     *
+     * @param radius the circle radius in blocks
+     * @return the walking script
+     */
+    static @NotNull BotScript walk(double radius) {
+        return (bot, tick) -> {
+            final Pos spawn = bot.spawnPosition();
+            // Around 4 blocks per second, close to the walking speed
+            final double angle = bot.index() * 0.5 + tick * (0.2 / radius);
+            final double x = spawn.x() + Math.cos(angle) * radius;
+            final double z = spawn.z() + Math.sin(angle) * radius;
+            final float yaw = (float) Math.toDegrees(angle) + 180;
+            bot.move(new Pos(x, spawn.y(), z, yaw, 0));
+        };
+    }
+
+    /**
+     * Sends a chat message periodically.
+     *
+     * @param interval the number of ticks between two messages
+     * @return the chat script
+     */
+    static @NotNull BotScript chat(int interval) {
+        return (bot, tick) -> {
+            if ((tick + bot.index()) % interval == 0) bot.chat("Hello from " + bot.username() + " (" + tick + ")");
+        };
+    }
+
+    /**
+     * Breaks the block below the bot periodically.
+     *
+     * @param interval the number of ticks between two broken blocks
+     * @return the block breaking script
+     */
+    static @NotNull BotScript breakBlocks(int interval) {
+        return (bot, tick) -> {
+            if ((tick + bot.index()) % interval == 0) bot.breakBlock(bot.position().sub(0, 1, 0));
+        };
+    }
+}
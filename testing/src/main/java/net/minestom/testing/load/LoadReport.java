@@ -0,0 +1,82 @@
+package net.minestom.testing.load;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Result of a {@link LoadTest}, every value being measured after the warmup.
+ *
+ * @param bots                   the number of bots which tried to join
+ * @param joinedBots             the number of bots which joined the game
+ * @param connectedBots          the number of bots still connected at the end of the measurement
+ * @param duration               the duration of the measurement
+ * @param tickTimes              the server tick times
+ * @param bytesReceivedPerPlayer the average number of bytes sent by the server to each bot
+ * @param bytesSentPerPlayer     the average number of bytes sent by each bot to the server
+ * @param allocationRate         the number of bytes allocated per second by the server threads,
+ *                               -1 if not supported by the JVM
+ * @since 1.6.0
+ */
+public record LoadReport(int bots, int joinedBots, int connectedBots, @NotNull Duration duration,
+                         @NotNull TickTimes tickTimes,
+                         long bytesReceivedPerPlayer, long bytesSentPerPlayer,
+                         long allocationRate) {
+
+    /**
+     * Gets a human-readable summary of the report.
+     *
+     * @return the report summary
+     */
+    public @NotNull String summary() {
+        return String.format("""
+                        Bots: %d joined, %d connected out of %d over %ds
+                        Tick time (ms): mean %.2f, p50 %.2f, p95 %.2f, p99 %.2f, max %.2f (%d ticks)
+                        Bytes per player: %d received, %d sent
+                        Allocation rate: %s""",
+                joinedBots, connectedBots, bots, duration.toSeconds(),
+                tickTimes.mean(), tickTimes.percentile(0.5), tickTimes.percentile(0.95),
+                tickTimes.percentile(0.99), tickTimes.max(), tickTimes.count(),
+                bytesReceivedPerPlayer, bytesSentPerPlayer,
+                allocationRate >= 0 ? (allocationRate / (1024 * 1024)) + " MiB/s" : "unsupported");
+    }
+
+    /**
+     * Tick times in milliseconds, as reported by {@link net.minestom.server.event.server.ServerTickMonitorEvent}.
+     *
+     * @param values the sorted tick times
+     */
+    public record TickTimes(double @NotNull [] values) {
+        public TickTimes {
+            values = values.clone();
+            Arrays.sort(values);
+        }
+
+        public int count() {
+            return values.length;
+        }
+
+        public double mean() {
+            return values.length > 0 ? Arrays.stream(values).sum() / values.length : 0;
+        }
+
+        public double max() {
+            return values.length > 0 ? values[values.length - 1] : 0;
+        }
+
+        /**
+         * Gets a tick time percentile, using the nearest rank.
+         *
+         * @param percentile the percentile, between 0 and 1
+         * @return the tick time at the percentile, 0 if no tick has been measured
+         */
+        public double percentile(double percentile) {
+            if (percentile < 0 || percentile > 1)
+                throw new IllegalArgumentException("Percentile must be between 0 and 1, got " + percentile);
+            if (values.length == 0) return 0;
+            final int rank = (int) Math.ceil(percentile * values.length);
+            return values[Math.max(rank - 1, 0)];
+        }
+    }
+}
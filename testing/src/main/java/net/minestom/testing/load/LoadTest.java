@@ -0,0 +1,285 @@
+package net.minestom.testing.load;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minestom.server.ServerProcess;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.event.Event;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
+import net.minestom.server.event.player.PlayerSpawnEvent;
+import net.minestom.server.event.server.ServerTickMonitorEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.thread.TickSchedulerThread;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Load test running simulated clients against the real network stack of a server.
+ * <p>
+ * Bots connect over the loopback interface, go through the login and configuration states like a vanilla client,
+ * then run a {@link BotScript} every client tick. Once every bot joined and the warmup elapsed,
+ * the server tick times, the traffic and the allocation rate of the server threads are measured.
+ * <p>
+ * No external service is required, so load tests can be used as a regression gate:
+ * <pre>{@code
+ * LoadReport report = LoadTest.builder()
+ *         .bots(50)
+ *         .duration(Duration.ofSeconds(30))
+ *         .build()
+ *         .run(MinecraftServer.updateProcess());
+ * assertTrue(report.tickTimes().percentile(0.99) < 50);
+ * }</pre>
+ *
+ * @since 1.6.0
+ */
+public final class LoadTest {
+    private static final String SERVER_THREAD_PREFIX = "Ms-";
+
+    private final int bots;
+    private final Duration joinTimeout;
+    private final Duration warmup;
+    private final Duration duration;
+    private final BotScript script;
+    private final GameMode gameMode;
+    private final Pos spawnPosition;
+    private final Function<ServerProcess, Instance> instanceFactory;
+
+    private LoadTest(Builder builder) {
+        this.bots = builder.bots;
+        this.joinTimeout = builder.joinTimeout;
+        this.warmup = builder.warmup;
+        this.duration = builder.duration;
+        this.script = builder.script;
+        this.gameMode = builder.gameMode;
+        this.spawnPosition = builder.spawnPosition;
+        this.instanceFactory = builder.instanceFactory;
+    }
+
+    /**
+     * Creates a new builder with the default options: 20 bots, 5 seconds of warmup, 20 seconds of measurement,
+     * the {@link BotScript#DEFAULT default script} and a flat stone instance.
+     *
+     * @return a new builder
+     */
+    @Contract(value = "-> new", pure = true)
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Starts the process, connects the bots and measures the server while they run their script.
+     * <p>
+     * The process must not be started yet, it is stopped once the measurement is done.
+     *
+     * @param process the process to test
+     * @return the load report
+     * @throws InterruptedException if interrupted while waiting for the bots
+     */
+    public @NotNull LoadReport run(@NotNull ServerProcess process) throws InterruptedException {
+        final Instance instance = instanceFactory.apply(process);
+        final DoubleArrayList tickTimes = new DoubleArrayList();
+        final BotClient.Stats stats = new BotClient.Stats();
+        final List<BotClient> clients = new ArrayList<>(bots);
+        final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "Bot-Ticker"));
+        final EventNode<Event> node = EventNode.all("load-test")
+                .addListener(AsyncPlayerConfigurationEvent.class, event -> {
+                    event.setSpawningInstance(instance);
+                    event.getPlayer().setRespawnPoint(spawnPosition);
+                })
+                .addListener(PlayerSpawnEvent.class, event -> {
+                    if (event.isFirstSpawn()) event.getPlayer().setGameMode(gameMode);
+                });
+        process.eventHandler().addChild(node);
+
+        final int joined, connected;
+        final long elapsed, bytesReceived, bytesSent, allocated;
+        try {
+            process.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            new TickSchedulerThread(process).start();
+            final InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), process.server().getPort());
+
+            // Connect every bot, then start their scripts
+            List<CompletableFuture<Void>> joinFutures = new ArrayList<>(bots);
+            for (int i = 0; i < bots; i++) {
+                final BotClient client = new BotClient(i, "Bot" + i, address, stats);
+                clients.add(client);
+                joinFutures.add(client.connect());
+            }
+            try {
+                CompletableFuture.allOf(joinFutures.toArray(CompletableFuture[]::new))
+                        .get(joinTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                // Bots which failed to join are reported
+            }
+            joined = (int) joinFutures.stream().filter(future -> future.isDone() && !future.isCompletedExceptionally()).count();
+            ticker.scheduleAtFixedRate(() -> {
+                for (BotClient client : clients) {
+                    try {
+                        client.tick(script);
+                    } catch (Exception e) {
+                        process.exception().handleException(e);
+                    }
+                }
+            }, 0, 50, TimeUnit.MILLISECONDS);
+            Thread.sleep(warmup.toMillis());
+
+            // Measure
+            final long bytesReceivedStart = stats.bytesReceived.sum();
+            final long bytesSentStart = stats.bytesSent.sum();
+            final Long2LongOpenHashMap allocatedStart = serverAllocatedBytes();
+            final long start = System.nanoTime();
+            node.addListener(ServerTickMonitorEvent.class, event -> {
+                synchronized (tickTimes) {
+                    tickTimes.add(event.getTickMonitor().getTickTime());
+                }
+            });
+            Thread.sleep(duration.toMillis());
+            elapsed = System.nanoTime() - start;
+            bytesReceived = stats.bytesReceived.sum() - bytesReceivedStart;
+            bytesSent = stats.bytesSent.sum() - bytesSentStart;
+            allocated = allocatedDelta(allocatedStart, serverAllocatedBytes());
+            connected = (int) clients.stream().filter(BotClient::isPlaying).count();
+        } finally {
+            ticker.shutdownNow();
+            clients.forEach(BotClient::close);
+            process.eventHandler().removeChild(node);
+            process.stop();
+        }
+
+        final double seconds = elapsed / 1e9;
+        final double[] ticks;
+        synchronized (tickTimes) {
+            ticks = tickTimes.toDoubleArray();
+        }
+        return new LoadReport(bots, joined, connected, Duration.ofNanos(elapsed),
+                new LoadReport.TickTimes(ticks),
+                joined > 0 ? bytesReceived / joined : 0, joined > 0 ? bytesSent / joined : 0,
+                allocated >= 0 ? (long) (allocated / seconds) : -1);
+    }
+
+    /**
+     * Gets the number of bytes allocated by each server thread, identified by their name.
+     *
+     * @return the allocated bytes by thread id, null if not supported
+     */
+    private static Long2LongOpenHashMap serverAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) ||
+                !bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        Long2LongOpenHashMap result = new Long2LongOpenHashMap();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (!thread.getName().startsWith(SERVER_THREAD_PREFIX)) continue;
+            final long bytes = bean.getThreadAllocatedBytes(thread.threadId());
+            if (bytes >= 0) result.put(thread.threadId(), bytes);
+        }
+        return result;
+    }
+
+    private static long allocatedDelta(Long2LongOpenHashMap start, Long2LongOpenHashMap end) {
+        if (start == null || end == null) return -1;
+        long total = 0;
+        for (var entry : end.long2LongEntrySet()) {
+            // Threads started during the measurement begin at 0
+            total += entry.getLongValue() - start.getOrDefault(entry.getLongKey(), 0);
+        }
+        return total;
+    }
+
+    public static final class Builder {
+        private int bots = 20;
+        private Duration joinTimeout = Duration.ofSeconds(30);
+        private Duration warmup = Duration.ofSeconds(5);
+        private Duration duration = Duration.ofSeconds(20);
+        private BotScript script = BotScript.DEFAULT;
+        private GameMode gameMode = GameMode.CREATIVE;
+        private Pos spawnPosition = new Pos(0, 40, 0);
+        private Function<ServerProcess, Instance> instanceFactory = process -> {
+            var instance = process.instance().createInstanceContainer();
+            instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+            return instance;
+        };
+
+        private Builder() {
+        }
+
+        public @NotNull Builder bots(int bots) {
+            Check.argCondition(bots <= 0, "The number of bots must be positive, got {0}", bots);
+            this.bots = bots;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait for every bot to join, bots still joining are not counted as joined.
+         *
+         * @param joinTimeout the join timeout
+         * @return this builder
+         */
+        public @NotNull Builder joinTimeout(@NotNull Duration joinTimeout) {
+            this.joinTimeout = joinTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the time during which bots run their script before starting the measurement.
+         *
+         * @param warmup the warmup duration
+         * @return this builder
+         */
+        public @NotNull Builder warmup(@NotNull Duration warmup) {
+            this.warmup = warmup;
+            return this;
+        }
+
+        public @NotNull Builder duration(@NotNull Duration duration) {
+            Check.argCondition(duration.isNegative() || duration.isZero(), "The duration must be positive, got {0}", duration);
+            this.duration = duration;
+            return this;
+        }
+
+        public @NotNull Builder script(@NotNull BotScript script) {
+            this.script = script;
+            return this;
+        }
+
+        public @NotNull Builder gameMode(@NotNull GameMode gameMode) {
+            this.gameMode = gameMode;
+            return this;
+        }
+
+        public @NotNull Builder spawnPosition(@NotNull Pos spawnPosition) {
+            this.spawnPosition = spawnPosition;
+            return this;
+        }
+
+        /**
+         * Sets the factory of the instance in which bots are spawned, a flat stone instance by default.
+         *
+         * @param instanceFactory the instance factory, called before starting the process
+         * @return this builder
+         */
+        public @NotNull Builder instance(@NotNull Function<ServerProcess, Instance> instanceFactory) {
+            this.instanceFactory = instanceFactory;
+            return this;
+        }
+
+        @Contract(value = "-> new", pure = true)
+        public @NotNull LoadTest build() {
+            return new LoadTest(this);
+        }
+    }
+}